@@ -0,0 +1,78 @@
+package legends.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import legends.config.LegendsConfig;
+import legends.world.BoardSpec;
+import legends.world.LegendsBoard;
+import legends.world.Position;
+import model.entity.Hero;
+import model.entity.Monster;
+import model.entity.Spirit;
+import model.entity.Warrior;
+
+/**
+ * Deterministic boards and entities shared by the benchmarks.
+ */
+final class BenchmarkFixtures {
+    static final long SEED = 42L;
+
+    private BenchmarkFixtures() {
+    }
+
+    static Hero hero(String name) {
+        Warrior hero = new Warrior(name, 500, 700, 500, 600, 0, 0);
+        hero.setHp(1_000_000_000);
+        return hero;
+    }
+
+    static Monster monster(String name) {
+        return new Spirit(name, 1, 100, 100, 10);
+    }
+
+    /**
+     * Board with one hero per lane on its hero nexus entry.
+     */
+    static LegendsBoard boardWithHeroes(List<Hero> heroes) {
+        return boardWithHeroes(LegendsConfig.BOARD_SIZE, heroes);
+    }
+
+    /**
+     * As {@link #boardWithHeroes(List)} on the largest board of default-width lanes that fits in {@code maxSize}.
+     */
+    static LegendsBoard boardWithHeroes(int maxSize, List<Hero> heroes) {
+        LegendsBoard board = new LegendsBoard(BoardSpec.fitting(maxSize, LegendsConfig.LANE_WIDTH), SEED);
+        for (int lane = 0; lane < board.getLaneCount(); lane++) {
+            heroes.add(hero("H" + lane));
+        }
+        board.registerHeroes(heroes);
+        for (int lane = 0; lane < heroes.size(); lane++) {
+            board.addHero(heroes.get(lane), board.getHeroNexusEntry(lane));
+        }
+        return board;
+    }
+
+    /**
+     * Fills roughly {@code density} of the free lane cells between the two nexus rows with monsters.
+     */
+    static List<Monster> populate(LegendsBoard board, double density) {
+        Random random = new Random(SEED);
+        List<Monster> monsters = new ArrayList<>();
+        for (int row = 1; row < board.getSize() - 1; row++) {
+            for (int col = 0; col < board.getSize(); col++) {
+                Position position = Position.of(row, col);
+                if (board.laneIndex(position) < 0 || !board.isPassable(position) || board.hasHero(position)) {
+                    continue;
+                }
+                if (random.nextDouble() < density) {
+                    Monster monster = monster("M" + monsters.size());
+                    board.addMonster(monster, position);
+                    monsters.add(monster);
+                }
+            }
+        }
+        return monsters;
+    }
+}
@@ -0,0 +1,103 @@
+package legends.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import legends.config.LegendsConfig;
+import legends.world.BoardSnapshot;
+import legends.world.Direction;
+import legends.world.LegendsBoard;
+import legends.world.Position;
+import model.entity.Hero;
+import model.entity.Monster;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Occupancy updates and lane queries on {@link LegendsBoard}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+    @Param({"0.0", "0.25", "0.5", "1.0"})
+    public double monsterDensity;
+
+    @Param({"8", "64", "1024"})
+    public int boardSize;
+
+    private LegendsBoard board;
+    private BoardSnapshot snapshot;
+    private Hero hero;
+    private Monster probe;
+    private Position rangeOrigin;
+    private final List<Monster> laneBuffer = new ArrayList<>();
+    private boolean heroEast;
+    private boolean probeEast;
+
+    @Setup
+    public void setUp() {
+        List<Hero> heroes = new ArrayList<>();
+        board = BenchmarkFixtures.boardWithHeroes(boardSize, heroes);
+        BenchmarkFixtures.populate(board, monsterDensity);
+        hero = heroes.get(1);
+        // The probe shuttles between the two monster nexus cells of lane 0, which populate() leaves free.
+        probe = BenchmarkFixtures.monster("Probe");
+        board.addMonster(probe, board.getMonsterNexusEntry(0));
+        Position heroStart = board.getHeroNexusEntry(1);
+        rangeOrigin = heroStart.translate(-1, 0);
+        snapshot = board.snapshot();
+    }
+
+    @Benchmark
+    public boolean moveHero() {
+        heroEast = !heroEast;
+        return board.moveHero(hero, heroEast ? Direction.EAST : Direction.WEST);
+    }
+
+    @Benchmark
+    public boolean moveMonster() {
+        probeEast = !probeEast;
+        return board.moveMonster(probe, probeEast ? Direction.EAST : Direction.WEST);
+    }
+
+    @Benchmark
+    public List<Hero> heroesInRange() {
+        return board.heroesInRange(rangeOrigin, LegendsConfig.MONSTER_ATTACK_RANGE);
+    }
+
+    @Benchmark
+    public List<Monster> monstersInLane() {
+        return board.monstersInLane(1);
+    }
+
+    @Benchmark
+    public List<Monster> collectMonstersInLane() {
+        board.collectMonstersInLane(1, laneBuffer);
+        return laneBuffer;
+    }
+
+    @Benchmark
+    public BoardSnapshot snapshot() {
+        return board.snapshot();
+    }
+
+    @Benchmark
+    public LegendsBoard restore() {
+        board.restore(snapshot);
+        return board;
+    }
+}
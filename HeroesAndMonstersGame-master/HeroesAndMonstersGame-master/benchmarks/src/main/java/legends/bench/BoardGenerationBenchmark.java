@@ -0,0 +1,60 @@
+package legends.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import legends.config.LegendsConfig;
+import legends.world.BoardSpec;
+import legends.world.LegendsBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Generating a fresh match board: building a new {@link LegendsBoard} against resetting a pooled one,
+ * with and without {@link BoardSpec#withConnectedLanes() connected lanes}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardGenerationBenchmark {
+    @Param({"8", "64", "1024"})
+    public int boardSize;
+
+    @Param({"false", "true"})
+    public boolean connectedLanes;
+
+    private BoardSpec spec;
+    private LegendsBoard pooled;
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        spec = BoardSpec.fitting(boardSize, LegendsConfig.LANE_WIDTH);
+        if (connectedLanes) {
+            spec = spec.withConnectedLanes();
+        }
+        pooled = new LegendsBoard(spec, 1);
+    }
+
+    @Benchmark
+    public LegendsBoard construct() {
+        return new LegendsBoard(spec, ++seed);
+    }
+
+    @Benchmark
+    public LegendsBoard reset() {
+        pooled.reset(++seed);
+        return pooled;
+    }
+}
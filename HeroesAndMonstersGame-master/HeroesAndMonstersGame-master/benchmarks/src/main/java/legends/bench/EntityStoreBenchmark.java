@@ -0,0 +1,97 @@
+package legends.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import controller.HeroController;
+import legends.ai.MonsterAI;
+import legends.world.LegendsBoard;
+import model.entity.Hero;
+import model.entity.Monster;
+import model.store.EntityStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bulk monster attacks on heap objects versus the struct-of-arrays {@link EntityStore},
+ * plus the cost of exporting a board into the store. Heroes have effectively unlimited HP,
+ * so repeated invocations do not change the work done.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityStoreBenchmark {
+    private static final int ATTACKS = 4096;
+
+    @Param({"0.25", "1.0"})
+    public double monsterDensity;
+
+    private final HeroController heroController = new HeroController();
+    private LegendsBoard board;
+    private List<Hero> heroes;
+    private List<Monster> monsters;
+    private EntityStore store;
+    private MonsterAI monsterAI;
+    private final int[] attackers = new int[ATTACKS];
+    private final int[] targets = new int[ATTACKS];
+    private final double[] rolls = new double[ATTACKS];
+    private final double[] damage = new double[ATTACKS];
+
+    @Setup
+    public void setUp() {
+        heroes = new ArrayList<>();
+        board = BenchmarkFixtures.boardWithHeroes(heroes);
+        monsters = BenchmarkFixtures.populate(board, monsterDensity);
+        store = new EntityStore();
+        board.exportEntities(store);
+        monsterAI = new MonsterAI(heroController, new Random(BenchmarkFixtures.SEED));
+
+        Random random = new Random(BenchmarkFixtures.SEED);
+        for (int i = 0; i < ATTACKS; i++) {
+            attackers[i] = heroes.size() + random.nextInt(monsters.size());
+            targets[i] = random.nextInt(heroes.size());
+            rolls[i] = random.nextDouble();
+        }
+    }
+
+    @Benchmark
+    public double attacksOnObjects() {
+        double total = 0;
+        for (int i = 0; i < ATTACKS; i++) {
+            Hero hero = heroes.get(targets[i]);
+            if (rolls[i] < heroController.calculateDodgeChance(hero)) {
+                continue;
+            }
+            double armor = hero.getEquippedArmor() != null ? hero.getEquippedArmor().getDamageReduction() : 0;
+            double dealt = Math.max(0, monsters.get(attackers[i] - heroes.size()).getBaseDamage() - armor);
+            hero.takeDamage(dealt);
+            total += dealt;
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int attacksOnStore() {
+        return monsterAI.resolveAttacks(store, attackers, targets, rolls, ATTACKS, damage);
+    }
+
+    @Benchmark
+    public EntityStore exportBoard() {
+        board.exportEntities(store);
+        return store;
+    }
+}
@@ -0,0 +1,62 @@
+package legends.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import controller.HeroController;
+import legends.world.TerrainType;
+import legends.world.buff.TerrainBuffManager;
+import model.entity.Hero;
+import model.item.Weapon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Terrain buff application (a modifier swap, free on same-terrain steps) and the per-hero combat math.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeroBenchmark {
+    private static final TerrainType[] TERRAIN_CYCLE = {
+        TerrainType.PLAIN, TerrainType.BUSH, TerrainType.BUSH, TerrainType.CAVE, TerrainType.KOULOU
+    };
+
+    private final HeroController heroController = new HeroController();
+    private final TerrainBuffManager buffManager = new TerrainBuffManager();
+    private Hero hero;
+    private int step;
+
+    @Setup
+    public void setUp() {
+        hero = BenchmarkFixtures.hero("Bench");
+        hero.setEquippedWeapon(new Weapon("Sword", 500, 1, 800, 1));
+    }
+
+    @Benchmark
+    public Hero applyBuff() {
+        step = (step + 1) % TERRAIN_CYCLE.length;
+        buffManager.applyBuff(hero, TERRAIN_CYCLE[step]);
+        return hero;
+    }
+
+    @Benchmark
+    public double calculateDamage() {
+        return heroController.calculateDamage(hero);
+    }
+
+    @Benchmark
+    public double calculateDodgeChance() {
+        return heroController.calculateDodgeChance(hero);
+    }
+}
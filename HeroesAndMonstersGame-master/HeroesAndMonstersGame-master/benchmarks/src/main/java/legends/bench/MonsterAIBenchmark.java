@@ -0,0 +1,72 @@
+package legends.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import controller.HeroController;
+import legends.ai.MonsterAI;
+import legends.world.BoardSnapshot;
+import legends.world.LegendsBoard;
+import model.entity.Hero;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One full monster phase. The board is restored from a snapshot before every
+ * invocation because a round moves monsters and damages heroes. Larger boards
+ * model a dense late game with many monsters per lane.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonsterAIBenchmark {
+    @Param({"0.25", "0.5", "1.0"})
+    public double monsterDensity;
+
+    @Param({"8", "64"})
+    public int boardSize;
+
+    private LegendsBoard board;
+    private BoardSnapshot start;
+    private MonsterAI monsterAI;
+
+    @Setup
+    public void setUp() {
+        List<Hero> heroes = new ArrayList<>();
+        board = BenchmarkFixtures.boardWithHeroes(boardSize, heroes);
+        BenchmarkFixtures.populate(board, monsterDensity);
+        start = board.snapshot();
+        monsterAI = new MonsterAI(new HeroController(), new Random(BenchmarkFixtures.SEED));
+    }
+
+    @Setup(Level.Invocation)
+    public void resetBoard() {
+        board.restore(start);
+    }
+
+    @Benchmark
+    public LegendsBoard performRound() {
+        monsterAI.performRound(board, null);
+        return board;
+    }
+
+    @Benchmark
+    public List<String> performRoundWithLogs() {
+        return monsterAI.performRound(board);
+    }
+}
@@ -0,0 +1,67 @@
+package legends.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import legends.view.LegendsBoardRenderer;
+import legends.world.Direction;
+import legends.world.LegendsBoard;
+import model.entity.Hero;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Full-frame ASCII rendering of the board, and the differential update after a single hero move.
+ * The update should cost about the same on every board size at a given monster count.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RendererBenchmark {
+    @Param({"0.0", "0.5", "1.0"})
+    public double monsterDensity;
+
+    @Param({"8", "64", "1024"})
+    public int boardSize;
+
+    private final LegendsBoardRenderer renderer = new LegendsBoardRenderer();
+    private final LegendsBoardRenderer differentialRenderer = new LegendsBoardRenderer(true);
+    private LegendsBoard board;
+    private Hero hero;
+    private boolean east;
+
+    @Setup
+    public void setUp() {
+        List<Hero> heroes = new ArrayList<>();
+        board = BenchmarkFixtures.boardWithHeroes(boardSize, heroes);
+        hero = heroes.get(0);
+        BenchmarkFixtures.populate(board, monsterDensity);
+        differentialRenderer.renderUpdate(board);
+    }
+
+    @Benchmark
+    public String renderToString() {
+        return renderer.renderToString(board);
+    }
+
+    @Benchmark
+    public String renderUpdate() {
+        // Shuffle within the hero nexus row so every invocation changes exactly two cells.
+        east = !east;
+        board.moveHero(hero, east ? Direction.EAST : Direction.WEST);
+        return differentialRenderer.renderUpdate(board);
+    }
+}
@@ -2,9 +2,14 @@ import controller.GameController;
 import java.util.Scanner;
 import legends.config.LegendsConfig;
 import legends.controller.LegendsOfValorController;
+import util.RngService;
 
 public class Main {
+    /**
+     * @param args optional master seed; every game started from the menu then replays that session
+     */
     public static void main(String[] args) {
+        Long seed = args.length > 0 ? Long.valueOf(args[0]) : null;
         Scanner menuScanner = new Scanner(System.in);
         while (true) {
             System.out.println("\nSelect a game mode:");
@@ -18,10 +23,10 @@ public class Main {
             }
             switch (choice) {
                 case "1":
-                    new GameController().start();
+                    new GameController(seed == null ? RngService.unseeded() : new RngService(seed)).start();
                     break;
                 case "2":
-                    new LegendsOfValorController(menuScanner, LegendsConfig.DEFAULT_RANDOM_SEED).start();
+                    new LegendsOfValorController(menuScanner, seed == null ? LegendsConfig.DEFAULT_RANDOM_SEED : seed).start();
                     break;
                 case "Q":
                     System.out.println("Goodbye!");
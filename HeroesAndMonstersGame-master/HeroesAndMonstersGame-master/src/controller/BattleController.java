@@ -1,14 +1,19 @@
 package controller;
 
+import engine.BattleAction;
+import engine.BattleEngine;
+import engine.BattleListener;
+import engine.BattleOutcome;
+import engine.BattleResult;
+import model.MonsterCatalog;
 import model.Party;
-import model.entity.*;
+import model.entity.Hero;
+import model.entity.Monster;
 import model.item.Item;
 import model.item.Spell;
-import util.GameConfig;
 import view.Colors;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 import java.util.Scanner;
@@ -23,113 +28,54 @@ public class BattleController {
     private Scanner scanner;
     private Party party;
     private List<Monster> monsters;
-    private int roundCounter;
-    private boolean battleActive;
+    private BattleEngine engine;
 
     // Sub-Controllers
     private InventoryController inventoryController;
     private HeroController heroController;
 
-    // Constructor accepts Scanner to share input stream
-    public BattleController(Scanner scanner, InventoryController inventoryController, HeroController heroController) {
+    // Constructor accepts Scanner to share input stream; every combat draw (monster generation,
+    // dodges, targets) comes from the session's combat stream
+    public BattleController(Scanner scanner, InventoryController inventoryController, HeroController heroController,
+                            Random combatRandom) {
         this.scanner = scanner;
         this.inventoryController = new InventoryController(scanner);
         this.heroController = new HeroController();
+        this.engine = new BattleEngine(this.heroController, combatRandom);
     }
 
-    public void startBattle(Party party, List<Monster> allPossibleMonsters) {
+    /**
+     * Runs an interactive battle. The rules live in {@link BattleEngine}; this class supplies
+     * the console hero turns and prints what happens.
+     *
+     * @return how the battle ended; the caller decides whether the game goes on
+     */
+    public BattleResult startBattle(Party party, MonsterCatalog monsterCatalog) {
         this.party = party;
-        this.monsters = generateMonsters(allPossibleMonsters, party.getSize());
-        this.battleActive = true;
+        this.monsters = engine.generateMonsters(monsterCatalog, party);
 
         System.out.println(Colors.RED + "\n!!! A BATTLE HAS STARTED !!!" + Colors.RESET);
         System.out.println("You encountered " + monsters.size() + " monsters!");
 
-        while (battleActive) {
-            playRound();
-        }
-    }
-
-    private List<Monster> generateMonsters(List<Monster> pool, int count) {
-        List<Monster> enemies = new ArrayList<>();
-        Random rand = new Random();
-
-        int currentLevel = 1;
-        for (Hero h : party.getHeroes()) if (h.getLevel() > currentLevel) currentLevel = h.getLevel();
-
-        int searchLevel = Math.min(currentLevel, util.GameConfig.MAX_LEVEL);
-
-        List<Monster> validMonsters = new ArrayList<>();
-        for (Monster m : pool) if (m.getLevel() == searchLevel) validMonsters.add(m);
-
-        if (validMonsters.isEmpty()) validMonsters = pool; // Fallback
-        Collections.shuffle(validMonsters);
-
-        for (int i = 0; i < count; i++) {
-            Monster template = (i < validMonsters.size()) ? validMonsters.get(i) : validMonsters.get(rand.nextInt(validMonsters.size()));
-
-            Monster newMonster;
-            if (template instanceof Dragon) newMonster = new Dragon(template.getName(), template.getLevel(), template.getBaseDamage(), template.getDefense(), template.getDodgeChance());
-            else if (template instanceof Exoskeleton) newMonster = new Exoskeleton(template.getName(), template.getLevel(), template.getBaseDamage(), template.getDefense(), template.getDodgeChance());
-            else newMonster = new Spirit(template.getName(), template.getLevel(), template.getBaseDamage(), template.getDefense(), template.getDodgeChance());
-
-            newMonster.scaleStats(currentLevel);
-            enemies.add(newMonster);
-        }
-        return enemies;
-    }
-
-    private void playRound() {
-        System.out.println("\n--- NEW ROUND ---");
-        printRoundStatus();
-
-        // Hero Turns
-        for (Hero hero : party.getHeroes()) {
-            if (hero.isFainted()) continue;
-            if (!battleActive) break;
-            heroTurn(hero);
-            checkWinCondition();
-        }
-
-        // Pause
-        if (battleActive) {
-            System.out.println("\n(Heroes finished. Press Enter...)");
-            try { System.in.read(); } catch (Exception e) {}
-        }
+        ConsoleListener listener = new ConsoleListener();
+        BattleResult result = engine.fight(party, monsters, this::heroTurn, listener);
 
-        // Monster Turns
-        if (battleActive) {
-            System.out.println("\n--- MONSTERS ATTACK! ---");
-            for (Monster monster : monsters) {
-                if (monster.isFainted()) continue;
-                monsterTurn(monster);
-                checkLossCondition();
-                if (!battleActive) break;
-            }
-        }
-
-        // Regenerate
-        if (battleActive) {
-            for (Hero h : party.getHeroes()) {
-                if (!h.isFainted()) {
-                    // Calculate amounts based on Config
-                    double hpGain = h.getHp() * (util.GameConfig.REGEN_RATE - 1.0); // e.g. 100 * 0.1 = 10
-                    double mpGain = h.getMana() * (util.GameConfig.REGEN_RATE - 1.0);
-                    // Apply updates
-                    h.setHp(h.getHp() + hpGain);
-                    h.setMana(h.getMana() + mpGain);
-                    System.out.printf(" %s regained %d HP and %d Mana.\n",
-                            h.getName(), (int)hpGain, (int)mpGain);
-                }
+        if (result.getOutcome() == BattleOutcome.HEROES_WIN) {
+            System.out.println(Colors.GREEN + "VICTORY!" + Colors.RESET);
+            printBattleSummary(Colors.GREEN + "HEROES" + Colors.RESET, result.getRounds());
+            if (engine.grantVictoryRewards(party, monsters, listener)) {
+                System.out.println("CONGRATULATIONS! You reached Level 11. Game Over.");
             }
-            //System.out.println("Heroes regained HP/Mana.");
+        } else {
+            printBattleSummary(Colors.RED + "MONSTERS" + Colors.RESET, result.getRounds());
+            System.out.println(Colors.RED + "DEFEAT." + Colors.RESET);
         }
+        return result;
     }
 
     // --- HERO ACTIONS ---
-    private void heroTurn(Hero hero) {
-        boolean validAction = false;
-        while (!validAction) {
+    private BattleAction heroTurn(Hero hero, List<Monster> monsters) {
+        while (true) {
             System.out.println("\n========================================");
             System.out.println(Colors.CYAN + " CURRENT TURN: " + hero.getName() + Colors.RESET);
             System.out.printf(" HP: %-4d / %-4d  |  MP: %-4d\n",
@@ -160,79 +106,55 @@ public class BattleController {
 
             String input = scanner.next().toUpperCase();
 
+            BattleAction action = null;
             switch (input) {
-                case "1": validAction = attackMonster(hero); break;
-                case "2": validAction = castSpell(hero); break;
-                case "3": validAction = inventoryController.openPotionMenu(hero); break;
-                case "4": validAction = inventoryController.openEquipMenu(hero); break;
+                case "1": action = attackMonster(); break;
+                case "2": action = castSpell(hero); break;
+                case "3": if (inventoryController.openPotionMenu(hero)) action = BattleAction.item(); break;
+                case "4": if (inventoryController.openEquipMenu(hero)) action = BattleAction.item(); break;
                 case "5": showHeroStats(); break;
                 case "6": showMonsterStats(); break;
                 case "Q": System.exit(0); break;
                 default: System.out.println("Invalid action.");
             }
+            if (action != null) return action;
         }
     }
 
-    private boolean attackMonster(Hero hero) {
+    private BattleAction attackMonster() {
         Monster target = selectMonster();
-        if (target == null) return false;
-
-        if (Math.random() < target.getDodgeChance() * 0.01) {
-            System.out.println(target.getName() + " dodged the attack from " + hero.getName() + "!");
-        } else {
-            double damage = heroController.calculateDamage(hero);
-            double actualDmg = Math.max(0, damage - (target.getDefense() * 0.02));
-            target.takeDamage(actualDmg);
-            System.out.println(hero.getName() + " dealt " + (int)actualDmg + " damages to " + target.getName() + ".");
-        }
-        return true;
+        return (target == null) ? null : BattleAction.attack(target);
     }
 
-    private boolean castSpell(Hero hero) {
+    private BattleAction castSpell(Hero hero) {
         // 1. Filter Spells (Keep this UI logic here or move to InventoryController helper)
         List<Spell> spells = new ArrayList<>();
         for (Item i : hero.getInventory()) if (i instanceof Spell) spells.add((Spell) i);
 
-        if (spells.isEmpty()) { System.out.println("No spells."); return false; }
+        if (spells.isEmpty()) { System.out.println("No spells."); return null; }
 
         for (int i = 0; i < spells.size(); i++) {
             System.out.printf("%d. %s (Mana: %.0f)\n", (i+1), spells.get(i).getName(), spells.get(i).getManaCost());
         }
         System.out.print("Select Spell (0 cancel): ");
 
-        if(!scanner.hasNextInt()) { scanner.next(); return false; }
+        if(!scanner.hasNextInt()) { scanner.next(); return null; }
         int idx = scanner.nextInt();
-        if (idx <= 0 || idx > spells.size()) return false;
+        if (idx <= 0 || idx > spells.size()) return null;
 
         Spell s = spells.get(idx-1);
 
         // 2. Check Requirements (Model Query)
         if (hero.getMana() < s.getManaCost()) {
             System.out.println("Not enough Mana.");
-            return false;
+            return null;
         }
 
         Monster target = selectMonster();
-        if (target == null) return false;
-
-        // 3. Execute (Update Model)
-        hero.setMana(hero.getMana() - s.getManaCost());
-
-        // --- DELEGATE MATH TO HERO CONTROLLER ---
-        double damage = heroController.calculateSpellDamage(hero, s);
+        if (target == null) return null;
 
-        target.takeDamage(damage);
-        System.out.println("Cast " + s.getName() + " for " + (int)damage + " damage.");
-
-        // Spell Effects (Logic stays here or moves to Spell class strategy)
-        if (s.getType() == Spell.SpellType.ICE) target.setBaseDamage(target.getBaseDamage() * 0.9);
-        if (s.getType() == Spell.SpellType.FIRE) target.setDefense(target.getDefense() * 0.9);
-        if (s.getType() == Spell.SpellType.LIGHTNING) target.setDodgeChance(target.getDodgeChance() * 0.9);
-
-        // --- DELEGATE REMOVAL TO INVENTORY CONTROLLER ---
-        inventoryController.consumeItem(hero, s);
-
-        return true;
+        // 3. Mana, damage, debuff and consumption are applied by the engine
+        return BattleAction.cast(s, target);
     }
 
     // --- HELPER METHODS ---
@@ -248,37 +170,6 @@ public class BattleController {
         return (choice > 0 && choice <= live.size()) ? live.get(choice-1) : null;
     }
 
-    private void monsterTurn(Monster monster) {
-        List<Hero> targets = new ArrayList<>();
-        for(Hero h : party.getHeroes()) if(!h.isFainted()) targets.add(h);
-        if(targets.isEmpty()) return;
-
-        Hero target = targets.get(new Random().nextInt(targets.size()));
-
-        //Use HeroController to calculate the chance
-        double dodgeChance = heroController.calculateDodgeChance(target);
-
-        if (Math.random() < dodgeChance) {
-            System.out.println(monster.getName() + " attacked " + target.getName()
-                    + " -> BUT MISSED! " + target.getName() + " dodged the attack!");
-        } else {
-            double incomingDmg = monster.getBaseDamage();
-
-            // Armor reduction logic
-            // (This logic is simple enough to stay here, or you could move 'calculateDefense' to HeroController too)
-            double defense = (target.getEquippedArmor() != null) ? target.getEquippedArmor().getDamageReduction() : 0;
-            double actualDmg = Math.max(0, incomingDmg - defense);
-
-            target.takeDamage(actualDmg);
-
-            if (actualDmg == 0 && defense > 0) {
-                System.out.println(monster.getName() + " attacked " + target.getName() + " -> BLOCKED by Armor!");
-            } else {
-                System.out.println(monster.getName() + " hit " + target.getName() + " for " + (int)actualDmg + " damages.");
-            }
-        }
-    }
-
     private void printRoundStatus() {
         System.out.println("\nSTATUS REPORT:");
         for (int i = 0; i < party.getSize(); i++) {
@@ -402,51 +293,70 @@ public class BattleController {
         try { System.in.read(); } catch (Exception e) {}
     }
 
-    // --- END CONDITIONS ---
-    private void checkWinCondition() {
-        boolean allDead = true;
-        for (Monster m : monsters) if (!m.isFainted()) allDead = false;
+    /**
+     * Prints the engine's battle events in the classic console format.
+     */
+    private final class ConsoleListener implements BattleListener {
+        @Override
+        public void roundStarted(int round) {
+            System.out.println("\n--- NEW ROUND ---");
+            printRoundStatus();
+        }
 
-        if (allDead) {
-            System.out.println(Colors.GREEN + "VICTORY!" + Colors.RESET);
-            printBattleSummary(Colors.GREEN + "HEROES" + Colors.RESET);
-
-            double goldReward = monsters.get(0).getLevel() * 100;
-            double xpReward = monsters.size() * 2;
-
-            for (Hero h : party.getHeroes()) {
-                if (!h.isFainted()) {
-                    h.addGold(goldReward);
-                    heroController.gainExperience(h, xpReward);
-                    // Check Game Over
-                    if (h.getLevel() > GameConfig.MAX_LEVEL) {
-                        System.out.println("CONGRATULATIONS! You reached Level 11. Game Over.");
-                        System.exit(0);
-                    }
-                } else {
-                    System.out.println(h.getName() + " revived.");
-                    h.setHp(h.getLevel() * GameConfig.REVIVE_RATE);
-                    h.setMana(h.getLevel() * GameConfig.REVIVE_RATE);
-                }
+        @Override
+        public void heroAttacked(Hero hero, Monster target, boolean dodged, double damage) {
+            if (dodged) {
+                System.out.println(target.getName() + " dodged the attack from " + hero.getName() + "!");
+            } else {
+                System.out.println(hero.getName() + " dealt " + (int)damage + " damages to " + target.getName() + ".");
             }
-            battleActive = false;
         }
-    }
 
-    private void checkLossCondition() {
-        if(party.isPartyFainted()) {
-            printBattleSummary(Colors.RED + "MONSTERS" + Colors.RESET);
-            System.out.println(Colors.RED + "DEFEAT." + Colors.RESET);
-            System.exit(0);
+        @Override
+        public void spellCast(Hero hero, Spell spell, Monster target, double damage) {
+            System.out.println("Cast " + spell.getName() + " for " + (int)damage + " damage.");
+        }
+
+        @Override
+        public void heroPhaseEnded() {
+            System.out.println("\n(Heroes finished. Press Enter...)");
+            try { System.in.read(); } catch (Exception e) {}
+            System.out.println("\n--- MONSTERS ATTACK! ---");
+        }
+
+        @Override
+        public void monsterAttacked(Monster monster, Hero target, boolean dodged, double damage) {
+            if (dodged) {
+                System.out.println(monster.getName() + " attacked " + target.getName()
+                        + " -> BUT MISSED! " + target.getName() + " dodged the attack!");
+                return;
+            }
+            double defense = (target.getEquippedArmor() != null) ? target.getEquippedArmor().getDamageReduction() : 0;
+            if (damage == 0 && defense > 0) {
+                System.out.println(monster.getName() + " attacked " + target.getName() + " -> BLOCKED by Armor!");
+            } else {
+                System.out.println(monster.getName() + " hit " + target.getName() + " for " + (int)damage + " damages.");
+            }
+        }
+
+        @Override
+        public void heroRegenerated(Hero hero, double hpGain, double manaGain) {
+            System.out.printf(" %s regained %d HP and %d Mana.\n",
+                    hero.getName(), (int)hpGain, (int)manaGain);
+        }
+
+        @Override
+        public void heroRevived(Hero hero) {
+            System.out.println(hero.getName() + " revived.");
         }
     }
 
-    private void printBattleSummary(String winner) {
+    private void printBattleSummary(String winner, int rounds) {
         System.out.println("\n========================================");
         System.out.println("           BATTLE FINISHED              ");
         System.out.println("========================================");
         System.out.println(" Winner:        " + winner);
-        System.out.println(" Total Rounds:  " + roundCounter);
+        System.out.println(" Total Rounds:  " + rounds);
         System.out.println("----------------------------------------");
         System.out.println(" PARTY STATUS:");
         for (int i = 0; i < party.getSize(); i++) {
@@ -1,13 +1,16 @@
 package controller;
 
+import engine.BattleOutcome;
+import engine.BattleResult;
+import model.MonsterCatalog;
 import model.Party;
 import model.entity.Hero;
-import model.entity.Monster;
 import model.item.Item;
 import model.world.Board;
 import model.world.Tile;
 import util.GameConfig;
-import util.GameDataParser;
+import util.GameDataCatalog;
+import util.RngService;
 import util.SoundPlayer;
 import view.Colors;
 import view.GameView;
@@ -15,6 +18,7 @@ import view.GameView;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Random;
 import java.util.Scanner;
 
@@ -30,11 +34,12 @@ public class GameController {
     private Party party;
     private Board board;
     private GameView view;
+    private final RngService random;
 
     // Data Pools
     private List<Hero> allHeroes;
     private List<Item> allItems;
-    private List<Monster> allMonsters;
+    private MonsterCatalog monsterCatalog;
 
     // Sub-Controllers
     private MarketController marketController;
@@ -43,10 +48,17 @@ public class GameController {
     private HeroController heroController;
 
     public GameController() {
+        this(RngService.unseeded());
+    }
+
+    /**
+     * @param random session randomness; a seeded service makes the whole session reproducible
+     */
+    public GameController(RngService random) {
+        this.random = Objects.requireNonNull(random, "random");
         this.scanner = new Scanner(System.in);
         this.party = new Party();
         this.allHeroes = new ArrayList<>();
-        this.allMonsters = new ArrayList<>();
         this.allItems = new ArrayList<>();
         this.view = new GameView();
 
@@ -65,6 +77,7 @@ public class GameController {
         view.printTitleScreen();
         view.printIntroStory();
         view.printRules();
+        System.out.println("\nSession seed: " + random.getMasterSeed() + " (pass it to Main to replay this session)");
         System.out.println("\nPress ENTER to begin your adventure...");
         try { System.in.read(); } catch (Exception e) {}
 
@@ -73,7 +86,7 @@ public class GameController {
             loadGameData(); // Refactored into helper method
 
             // Create Board with Global Items
-            this.board = new Board(GameConfig.BOARD_WIDTH, GameConfig.BOARD_HEIGHT, allItems);
+            this.board = new Board(GameConfig.BOARD_WIDTH, GameConfig.BOARD_HEIGHT, allItems, random);
 
         } catch (IOException e) {
             System.err.println("Critical Error loading files: " + e.getMessage());
@@ -87,20 +100,10 @@ public class GameController {
 
     private void loadGameData() throws IOException {
         System.out.println("Loading game assets...");
-        allHeroes.addAll(GameDataParser.parseHeroes("Warriors.txt", "Warrior"));
-        allHeroes.addAll(GameDataParser.parseHeroes("Sorcerers.txt", "Sorcerer"));
-        allHeroes.addAll(GameDataParser.parseHeroes("Paladins.txt", "Paladin"));
-
-        allMonsters.addAll(GameDataParser.parseMonsters("Dragons.txt", "Dragon"));
-        allMonsters.addAll(GameDataParser.parseMonsters("Exoskeletons.txt", "Exoskeleton"));
-        allMonsters.addAll(GameDataParser.parseMonsters("Spirits.txt", "Spirit"));
-
-        allItems.addAll(GameDataParser.parseWeapons("Weaponry.txt"));
-        allItems.addAll(GameDataParser.parseArmor("Armory.txt"));
-        allItems.addAll(GameDataParser.parsePotions("Potions.txt"));
-        allItems.addAll(GameDataParser.parseSpells("IceSpells.txt", model.item.Spell.SpellType.ICE));
-        allItems.addAll(GameDataParser.parseSpells("FireSpells.txt", model.item.Spell.SpellType.FIRE));
-        allItems.addAll(GameDataParser.parseSpells("LightningSpells.txt", model.item.Spell.SpellType.LIGHTNING));
+        GameDataCatalog catalog = GameDataCatalog.load();
+        allHeroes.addAll(catalog.newHeroes());
+        monsterCatalog = new MonsterCatalog(catalog.newMonsters());
+        allItems.addAll(catalog.newItems());
     }
 
     private void selectParty() {
@@ -293,20 +296,27 @@ public class GameController {
         target.enter();
 
         if (target.getType().equals("Common")) {
-            double roll = Math.random();
+            double roll = random.get(RngService.Stream.LOOT).nextDouble();
             if (roll < GameConfig.CHANCE_LOOT) {
                 findRandomLoot();
             } else if (roll < GameConfig.CHANCE_BATTLE) {
                 // Pass scanner to battle controller to reuse input stream
-                BattleController battle = new BattleController(this.scanner, this.inventoryController, this.heroController);
-                battle.startBattle(party, allMonsters);
+                BattleController battle = new BattleController(this.scanner, this.inventoryController, this.heroController,
+                        random.get(RngService.Stream.COMBAT));
+                BattleResult result = battle.startBattle(party, monsterCatalog);
+                if (result.getOutcome() == BattleOutcome.MONSTERS_WIN || reachedFinalLevel()) System.exit(0);
             }
         }
     }
 
+    private boolean reachedFinalLevel() {
+        for (Hero h : party.getHeroes()) if (h.getLevel() > GameConfig.MAX_LEVEL) return true;
+        return false;
+    }
+
     private void findRandomLoot() {
         System.out.println(Colors.YELLOW + "\n✨ LUCKY FIND! A chest! ✨" + Colors.RESET);
-        Random rand = new Random();
+        Random rand = random.get(RngService.Stream.LOOT);
         if (rand.nextBoolean() && !allItems.isEmpty()) {
             Item loot = allItems.get(rand.nextInt(allItems.size()));
             System.out.println("Found: " + loot.getName());
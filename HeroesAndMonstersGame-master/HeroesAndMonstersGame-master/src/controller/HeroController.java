@@ -1,6 +1,7 @@
 package controller;
 
 import model.entity.Hero;
+import model.store.EntityStore;
 import util.GameConfig;
 import view.Colors;
 
@@ -34,12 +35,12 @@ public class HeroController {
     }
 
     /**
-     * Calculates attack damage based on Hero Stats + Gear.
+     * Calculates attack damage based on Hero Stats (terrain modifiers included) + Gear.
      * Formula: (Strength + WeaponDmg) * 0.05
      */
     public double calculateDamage(Hero hero) {
-        double weaponDamage = (hero.getEquippedWeapon() != null) ? hero.getEquippedWeapon().getDamage() : 0;
-        return (hero.getStrength() + weaponDamage) * GameConfig.DAMAGE_SCALE;
+        if (!hero.hasCachedCombatStats()) refreshCombatStats(hero);
+        return hero.getCachedDamage();
     }
 
     /**
@@ -47,9 +48,8 @@ public class HeroController {
      * Formula: Agility * 0.002 (Capped at 50%)
      */
     public double calculateDodgeChance(Hero hero) {
-        double chance = hero.getAgility() * GameConfig.DODGE_SCALE;
-        if (chance > GameConfig.MAX_DODGE_CHANCE) return GameConfig.MAX_DODGE_CHANCE;
-        return chance;
+        if (!hero.hasCachedCombatStats()) refreshCombatStats(hero);
+        return hero.getCachedDodgeChance();
     }
 
     /**
@@ -57,6 +57,54 @@ public class HeroController {
      * Formula: Base + (Dex/10000 * Base)
      */
     public double calculateSpellDamage(model.entity.Hero hero, model.item.Spell spell) {
-        return spell.getDamage() + (hero.getDexterity() / 10000.0) * spell.getDamage();
+        if (!hero.hasCachedCombatStats()) refreshCombatStats(hero);
+        return spell.getDamage() + hero.getCachedSpellBonus() * spell.getDamage();
+    }
+
+    /**
+     * Recomputes the hero's cached combat values. Called lazily after the hero's stats, gear,
+     * level or terrain modifiers changed, so repeated reads for an unchanged hero are field loads.
+     */
+    private void refreshCombatStats(Hero hero) {
+        double weaponDamage = (hero.getEquippedWeapon() != null) ? hero.getEquippedWeapon().getDamage() : 0;
+        double damage = (hero.getEffectiveStrength() + weaponDamage) * GameConfig.DAMAGE_SCALE;
+        double dodgeChance = hero.getEffectiveAgility() * GameConfig.DODGE_SCALE;
+        if (dodgeChance > GameConfig.MAX_DODGE_CHANCE) dodgeChance = GameConfig.MAX_DODGE_CHANCE;
+        hero.cacheCombatStats(damage, dodgeChance, hero.getEffectiveDexterity() / 10000.0);
+    }
+
+    // --- STORE-BACKED VARIANTS (same formulas, bit-identical results) ---
+
+    public double calculateDamage(EntityStore store, int id) {
+        return (store.strengthColumn()[id] + store.damageColumn()[id]) * GameConfig.DAMAGE_SCALE;
+    }
+
+    public double calculateDodgeChance(EntityStore store, int id) {
+        double chance = store.agilityColumn()[id] * GameConfig.DODGE_SCALE;
+        if (chance > GameConfig.MAX_DODGE_CHANCE) return GameConfig.MAX_DODGE_CHANCE;
+        return chance;
+    }
+
+    /**
+     * Attack damage for {@code count} heroes at once: {@code out[i]} for slot {@code ids[i]}.
+     */
+    public void calculateDamage(EntityStore store, int[] ids, int count, double[] out) {
+        double[] str = store.strengthColumn();
+        double[] weapon = store.damageColumn();
+        for (int i = 0; i < count; i++) {
+            int id = ids[i];
+            out[i] = (str[id] + weapon[id]) * GameConfig.DAMAGE_SCALE;
+        }
+    }
+
+    /**
+     * Dodge chance for {@code count} heroes at once: {@code out[i]} for slot {@code ids[i]}.
+     */
+    public void calculateDodgeChances(EntityStore store, int[] ids, int count, double[] out) {
+        double[] agi = store.agilityColumn();
+        for (int i = 0; i < count; i++) {
+            double chance = agi[ids[i]] * GameConfig.DODGE_SCALE;
+            out[i] = (chance > GameConfig.MAX_DODGE_CHANCE) ? GameConfig.MAX_DODGE_CHANCE : chance;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package engine;
+
+import controller.HeroController;
+import model.entity.Hero;
+import model.entity.Monster;
+import model.item.Item;
+import model.item.Spell;
+
+import java.util.List;
+
+/**
+ * Scripted policy for batch runs: focus the standing monster with the least HP, using the
+ * strongest affordable spell when it out-damages a plain attack. Stateless, so one instance
+ * can be shared between threads.
+ */
+public class AttackWeakestPolicy implements BattlePolicy {
+    private final HeroController heroController;
+
+    public AttackWeakestPolicy(HeroController heroController) {
+        this.heroController = heroController;
+    }
+
+    @Override
+    public BattleAction chooseAction(Hero hero, List<Monster> monsters) {
+        Monster target = null;
+        for (Monster m : monsters) {
+            if (!m.isFainted() && (target == null || m.getHp() < target.getHp())) target = m;
+        }
+        if (target == null) throw new IllegalStateException("No standing monster to target");
+
+        Spell best = null;
+        double bestDamage = heroController.calculateDamage(hero);
+        for (Item item : hero.getInventory()) {
+            if (!(item instanceof Spell)) continue;
+            Spell spell = (Spell) item;
+            if (spell.getManaCost() > hero.getMana()) continue;
+            double damage = heroController.calculateSpellDamage(hero, spell);
+            if (damage > bestDamage) { best = spell; bestDamage = damage; }
+        }
+        return (best != null) ? BattleAction.cast(best, target) : BattleAction.attack(target);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package engine;
+
+import model.entity.Monster;
+import model.item.Spell;
+
+import java.util.Objects;
+
+/**
+ * A hero's choice for one battle turn, returned by a {@link BattlePolicy}.
+ */
+public final class BattleAction {
+    public enum Type { ATTACK, SPELL, ITEM }
+
+    private static final BattleAction ITEM = new BattleAction(Type.ITEM, null, null);
+
+    private final Type type;
+    private final Monster target;
+    private final Spell spell;
+
+    private BattleAction(Type type, Monster target, Spell spell) {
+        this.type = type;
+        this.target = target;
+        this.spell = spell;
+    }
+
+    public static BattleAction attack(Monster target) {
+        return new BattleAction(Type.ATTACK, Objects.requireNonNull(target, "target"), null);
+    }
+
+    public static BattleAction cast(Spell spell, Monster target) {
+        return new BattleAction(Type.SPELL, Objects.requireNonNull(target, "target"), Objects.requireNonNull(spell, "spell"));
+    }
+
+    /**
+     * The turn was spent on a potion or equipment change that the policy already applied.
+     */
+    public static BattleAction item() {
+        return ITEM;
+    }
+
+    public Type getType() { return type; }
+    public Monster getTarget() { return target; }
+    public Spell getSpell() { return spell; }
+}
\ No newline at end of file
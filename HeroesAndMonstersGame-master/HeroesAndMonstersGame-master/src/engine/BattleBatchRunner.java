@@ -0,0 +1,162 @@
+package engine;
+
+import controller.HeroController;
+import model.MonsterCatalog;
+import model.Party;
+import model.entity.Hero;
+import model.entity.Monster;
+import util.GameDataCatalog;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Monte Carlo runner for classic battles: a random party drawn from the roster fights freshly
+ * generated monsters, over and over. Fight {@code i} is fully determined by seed
+ * {@code firstSeed + i}; fights are split into fixed chunks whose stats are merged in chunk
+ * order, so the report is identical for any thread count.
+ */
+public class BattleBatchRunner {
+    private static final int FIGHTS_PER_CHUNK = 4096;
+    private static final int MAX_ROUNDS = 500;
+
+    private final List<Hero> roster;
+    private final List<Monster> monsterPool;
+    private final BattlePolicy policy;
+    private final HeroController heroController = new HeroController();
+    private final int level;
+    private final int partySize;
+    private final int parallelism;
+
+    /**
+     * @param policy shared by all workers, so it must be stateless
+     * @param level every hero is levelled up to this before each fight
+     */
+    public BattleBatchRunner(List<Hero> roster, List<Monster> monsterPool, BattlePolicy policy,
+                             int level, int partySize, int parallelism) {
+        if (partySize <= 0 || partySize > roster.size()) throw new IllegalArgumentException("partySize must be in [1, roster size]");
+        if (level <= 0) throw new IllegalArgumentException("level must be positive");
+        if (parallelism <= 0) throw new IllegalArgumentException("Parallelism must be positive");
+        if (monsterPool.isEmpty()) throw new IllegalArgumentException("monsterPool is empty");
+        this.roster = new ArrayList<>(Objects.requireNonNull(roster, "roster"));
+        this.monsterPool = new ArrayList<>(Objects.requireNonNull(monsterPool, "monsterPool"));
+        this.policy = Objects.requireNonNull(policy, "policy");
+        this.level = level;
+        this.partySize = partySize;
+        this.parallelism = parallelism;
+    }
+
+    public BattleStats run(long firstSeed, long fights) {
+        if (fights <= 0) throw new IllegalArgumentException("fights must be positive");
+        long chunkCount = (fights + FIGHTS_PER_CHUNK - 1) / FIGHTS_PER_CHUNK;
+        if (chunkCount > Integer.MAX_VALUE) throw new IllegalArgumentException("Too many fights");
+        BattleStats[] chunks = new BattleStats[(int) chunkCount];
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new ChunkTask(chunks, firstSeed, fights, 0, chunks.length));
+        } finally {
+            pool.shutdown();
+        }
+
+        BattleStats total = new BattleStats();
+        for (BattleStats chunk : chunks) total.merge(chunk);
+        return total;
+    }
+
+    /**
+     * Plays one fight on fresh hero copies and pooled monsters; {@code random} is reseeded so the
+     * outcome only depends on the seed.
+     */
+    BattleResult runFight(long seed, Random random, BattleEngine engine, MonsterCatalog catalog, int[] picks) {
+        random.setSeed(seed);
+        for (int i = 0; i < picks.length; i++) picks[i] = i;
+
+        Party party = new Party();
+        for (int i = 0; i < partySize; i++) {
+            int j = i + random.nextInt(picks.length - i);
+            int pick = picks[j];
+            picks[j] = picks[i];
+            picks[i] = pick;
+
+            Hero hero = roster.get(pick).copy();
+            while (hero.getLevel() < level) hero.levelUp();
+            party.addHero(hero);
+        }
+        List<Monster> monsters = engine.generateMonsters(catalog, party);
+        BattleResult result = engine.fight(party, monsters, policy, null);
+        catalog.releaseAll(monsters);
+        return result;
+    }
+
+    private final class ChunkTask extends RecursiveAction {
+        private final BattleStats[] chunks;
+        private final long firstSeed;
+        private final long fights;
+        private final int from;
+        private final int to;
+
+        private ChunkTask(BattleStats[] chunks, long firstSeed, long fights, int from, int to) {
+            this.chunks = chunks;
+            this.firstSeed = firstSeed;
+            this.fights = fights;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                runChunk(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ChunkTask(chunks, firstSeed, fights, from, mid),
+                    new ChunkTask(chunks, firstSeed, fights, mid, to));
+        }
+
+        private void runChunk(int chunk) {
+            Random random = new Random();
+            BattleEngine engine = new BattleEngine(heroController, random, MAX_ROUNDS);
+            MonsterCatalog catalog = new MonsterCatalog(monsterPool, true);
+            int[] picks = new int[roster.size()];
+            BattleStats stats = new BattleStats();
+            long start = (long) chunk * FIGHTS_PER_CHUNK;
+            long end = Math.min(fights, start + FIGHTS_PER_CHUNK);
+            for (long i = start; i < end; i++) {
+                stats.record(runFight(firstSeed + i, random, engine, catalog, picks));
+            }
+            chunks[chunk] = stats;
+        }
+    }
+
+    /**
+     * Command line entry: {@code java engine.BattleBatchRunner [fights] [level] [partySize] [threads] [firstSeed]}.
+     */
+    public static void main(String[] args) throws IOException {
+        long fights = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000L;
+        int level = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        int partySize = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        long firstSeed = args.length > 4 ? Long.parseLong(args[4]) : 1L;
+
+        GameDataCatalog catalog = GameDataCatalog.load();
+        List<Hero> roster = catalog.newHeroes();
+        List<Monster> monsters = catalog.newMonsters();
+
+        BattlePolicy policy = new AttackWeakestPolicy(new HeroController());
+        BattleBatchRunner runner = new BattleBatchRunner(roster, monsters, policy, level, partySize, threads);
+        long start = System.nanoTime();
+        BattleStats stats = runner.run(firstSeed, fights);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        System.out.print(stats.format());
+        System.out.printf(Locale.US, "level %d, party of %d, %d threads: %.2fs (%.0f fights/sec)%n",
+                level, partySize, threads, seconds, fights / seconds);
+    }
+}
\ No newline at end of file
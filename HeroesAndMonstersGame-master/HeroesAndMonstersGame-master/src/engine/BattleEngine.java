@@ -0,0 +1,218 @@
+package engine;
+
+import controller.HeroController;
+import model.MonsterCatalog;
+import model.Party;
+import model.entity.Hero;
+import model.entity.Monster;
+import model.item.Spell;
+import util.GameConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * The classic-mode combat rules without any console I/O.
+ * Heroes act through a {@link BattlePolicy}, every random draw comes from the engine's
+ * {@link Random}, and a battle ends with a {@link BattleResult} instead of exiting.
+ */
+public class BattleEngine {
+    private final HeroController heroController;
+    private final Random random;
+    private final int maxRounds;
+    private final List<Hero> targetBuffer = new ArrayList<>();
+
+    public BattleEngine(HeroController heroController, Random random) {
+        this(heroController, random, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param maxRounds battles still running after this many rounds end in a {@link BattleOutcome#DRAW}
+     */
+    public BattleEngine(HeroController heroController, Random random, int maxRounds) {
+        if (maxRounds <= 0) {
+            throw new IllegalArgumentException("maxRounds must be positive");
+        }
+        this.heroController = Objects.requireNonNull(heroController, "heroController");
+        this.random = Objects.requireNonNull(random, "random");
+        this.maxRounds = maxRounds;
+    }
+
+    /**
+     * Draws one monster per hero at the party's highest level (capped at MAX_LEVEL),
+     * preferring distinct templates of that level.
+     */
+    public List<Monster> generateMonsters(MonsterCatalog catalog, Party party) {
+        int currentLevel = 1;
+        for (Hero h : party.getHeroes()) if (h.getLevel() > currentLevel) currentLevel = h.getLevel();
+
+        int searchLevel = Math.min(currentLevel, GameConfig.MAX_LEVEL);
+        return catalog.sample(searchLevel, currentLevel, party.getSize(), random);
+    }
+
+    /**
+     * Plays the battle to the end: each round every standing hero acts, then every standing
+     * monster attacks, then standing heroes regenerate. Rewards are not granted here.
+     *
+     * @param listener may be null
+     */
+    public BattleResult fight(Party party, List<Monster> monsters, BattlePolicy policy, BattleListener listener) {
+        Objects.requireNonNull(party, "party");
+        Objects.requireNonNull(monsters, "monsters");
+        Objects.requireNonNull(policy, "policy");
+        List<Hero> heroes = party.getHeroes();
+        double dealt = 0;
+        double taken = 0;
+        for (int round = 1; round <= maxRounds; round++) {
+            if (listener != null) listener.roundStarted(round);
+
+            for (Hero hero : heroes) {
+                if (hero.isFainted()) continue;
+                dealt += perform(hero, policy.chooseAction(hero, monsters), listener);
+                if (allFainted(monsters)) {
+                    return new BattleResult(BattleOutcome.HEROES_WIN, round, dealt, taken, standing(heroes));
+                }
+            }
+            if (listener != null) listener.heroPhaseEnded();
+
+            for (Monster monster : monsters) {
+                if (monster.isFainted()) continue;
+                taken += monsterTurn(monster, heroes, listener);
+                if (party.isPartyFainted()) {
+                    return new BattleResult(BattleOutcome.MONSTERS_WIN, round, dealt, taken, 0);
+                }
+            }
+
+            for (Hero h : heroes) {
+                if (!h.isFainted()) regenerate(h, listener);
+            }
+        }
+        return new BattleResult(BattleOutcome.DRAW, maxRounds, dealt, taken, standing(heroes));
+    }
+
+    /**
+     * Physical attack. Monster dodge chance is stored in percent.
+     *
+     * @return damage applied, or a negative value if the monster dodged
+     */
+    public double attack(Hero hero, Monster target) {
+        if (random.nextDouble() < target.getDodgeChance() * 0.01) {
+            return -1;
+        }
+        double damage = heroController.calculateDamage(hero);
+        double actualDmg = Math.max(0, damage - (target.getDefense() * 0.02));
+        target.takeDamage(actualDmg);
+        return actualDmg;
+    }
+
+    /**
+     * Casts a spell from the hero's inventory: pays the mana, deals dexterity-scaled damage,
+     * applies the spell type's debuff and consumes the spell.
+     */
+    public double castSpell(Hero hero, Spell spell, Monster target) {
+        if (hero.getMana() < spell.getManaCost()) {
+            throw new IllegalStateException(hero.getName() + " lacks the mana for " + spell.getName());
+        }
+        hero.setMana(hero.getMana() - spell.getManaCost());
+        double damage = heroController.calculateSpellDamage(hero, spell);
+        target.takeDamage(damage);
+
+        if (spell.getType() == Spell.SpellType.ICE) target.setBaseDamage(target.getBaseDamage() * 0.9);
+        if (spell.getType() == Spell.SpellType.FIRE) target.setDefense(target.getDefense() * 0.9);
+        if (spell.getType() == Spell.SpellType.LIGHTNING) target.setDodgeChance(target.getDodgeChance() * 0.9);
+
+        hero.removeItemFromList(spell);
+        return damage;
+    }
+
+    /**
+     * The monster attacks a random standing hero; armor reduces the damage.
+     *
+     * @return damage applied (0 when dodged or when nobody is standing)
+     */
+    public double monsterTurn(Monster monster, List<Hero> heroes, BattleListener listener) {
+        targetBuffer.clear();
+        for (Hero h : heroes) if (!h.isFainted()) targetBuffer.add(h);
+        if (targetBuffer.isEmpty()) return 0;
+
+        Hero target = targetBuffer.get(random.nextInt(targetBuffer.size()));
+        double dodgeChance = heroController.calculateDodgeChance(target);
+        if (random.nextDouble() < dodgeChance) {
+            if (listener != null) listener.monsterAttacked(monster, target, true, 0);
+            return 0;
+        }
+        double defense = (target.getEquippedArmor() != null) ? target.getEquippedArmor().getDamageReduction() : 0;
+        double actualDmg = Math.max(0, monster.getBaseDamage() - defense);
+        target.takeDamage(actualDmg);
+        if (listener != null) listener.monsterAttacked(monster, target, false, actualDmg);
+        return actualDmg;
+    }
+
+    /**
+     * End-of-round recovery: HP and mana grow by {@code REGEN_RATE - 1} of their current value.
+     */
+    public void regenerate(Hero h, BattleListener listener) {
+        double hpGain = h.getHp() * (GameConfig.REGEN_RATE - 1.0);
+        double mpGain = h.getMana() * (GameConfig.REGEN_RATE - 1.0);
+        h.setHp(h.getHp() + hpGain);
+        h.setMana(h.getMana() + mpGain);
+        if (listener != null) listener.heroRegenerated(h, hpGain, mpGain);
+    }
+
+    /**
+     * Victory rewards: standing heroes get gold and experience, fainted ones are revived.
+     * Stops as soon as a hero passes MAX_LEVEL, which finishes the game.
+     *
+     * @return true if the game has been completed
+     */
+    public boolean grantVictoryRewards(Party party, List<Monster> monsters, BattleListener listener) {
+        double goldReward = monsters.get(0).getLevel() * 100;
+        double xpReward = monsters.size() * 2;
+
+        for (Hero h : party.getHeroes()) {
+            if (!h.isFainted()) {
+                h.addGold(goldReward);
+                heroController.gainExperience(h, xpReward);
+                if (h.getLevel() > GameConfig.MAX_LEVEL) {
+                    return true;
+                }
+            } else {
+                h.setHp(h.getLevel() * GameConfig.REVIVE_RATE);
+                h.setMana(h.getLevel() * GameConfig.REVIVE_RATE);
+                if (listener != null) listener.heroRevived(h);
+            }
+        }
+        return false;
+    }
+
+    private double perform(Hero hero, BattleAction action, BattleListener listener) {
+        switch (action.getType()) {
+            case ATTACK: {
+                double damage = attack(hero, action.getTarget());
+                boolean dodged = damage < 0;
+                if (listener != null) listener.heroAttacked(hero, action.getTarget(), dodged, dodged ? 0 : damage);
+                return dodged ? 0 : damage;
+            }
+            case SPELL: {
+                double damage = castSpell(hero, action.getSpell(), action.getTarget());
+                if (listener != null) listener.spellCast(hero, action.getSpell(), action.getTarget(), damage);
+                return damage;
+            }
+            default:
+                return 0;
+        }
+    }
+
+    private static boolean allFainted(List<Monster> monsters) {
+        for (Monster m : monsters) if (!m.isFainted()) return false;
+        return true;
+    }
+
+    private static int standing(List<Hero> heroes) {
+        int count = 0;
+        for (Hero h : heroes) if (!h.isFainted()) count++;
+        return count;
+    }
+}
\ No newline at end of file
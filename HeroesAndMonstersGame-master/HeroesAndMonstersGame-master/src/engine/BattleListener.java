@@ -0,0 +1,26 @@
+package engine;
+
+import model.entity.Hero;
+import model.entity.Monster;
+import model.item.Spell;
+
+/**
+ * Observes a battle as the engine resolves it, e.g. to print it to the console.
+ * Pass {@code null} to the engine when nothing needs to watch.
+ */
+public interface BattleListener {
+    void roundStarted(int round);
+
+    void heroAttacked(Hero hero, Monster target, boolean dodged, double damage);
+
+    void spellCast(Hero hero, Spell spell, Monster target, double damage);
+
+    /** All heroes have acted and the monsters are about to. */
+    void heroPhaseEnded();
+
+    void monsterAttacked(Monster monster, Hero target, boolean dodged, double damage);
+
+    void heroRegenerated(Hero hero, double hpGain, double manaGain);
+
+    void heroRevived(Hero hero);
+}
\ No newline at end of file
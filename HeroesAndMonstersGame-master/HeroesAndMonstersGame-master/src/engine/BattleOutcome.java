@@ -0,0 +1,11 @@
+package engine;
+
+/**
+ * How a classic-mode battle ended.
+ */
+public enum BattleOutcome {
+    HEROES_WIN,
+    MONSTERS_WIN,
+    /** The engine's round limit was hit first (only possible with a finite limit). */
+    DRAW
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package engine;
+
+import model.entity.Hero;
+import model.entity.Monster;
+
+import java.util.List;
+
+/**
+ * Decides what a living hero does on its turn. Implementations range from the console
+ * menus in {@code BattleController} to scripted policies for batch simulation.
+ */
+public interface BattlePolicy {
+    /**
+     * @param monsters every monster in the battle, including defeated ones
+     */
+    BattleAction chooseAction(Hero hero, List<Monster> monsters);
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package engine;
+
+/**
+ * Summary of one finished battle, returned instead of ending the program.
+ */
+public class BattleResult {
+    private final BattleOutcome outcome;
+    private final int rounds;
+    private final double damageDealt;
+    private final double damageTaken;
+    private final int heroesStanding;
+
+    public BattleResult(BattleOutcome outcome, int rounds, double damageDealt, double damageTaken, int heroesStanding) {
+        this.outcome = outcome;
+        this.rounds = rounds;
+        this.damageDealt = damageDealt;
+        this.damageTaken = damageTaken;
+        this.heroesStanding = heroesStanding;
+    }
+
+    public BattleOutcome getOutcome() { return outcome; }
+    public int getRounds() { return rounds; }
+    /** Total damage heroes applied to monsters (attacks and spells). */
+    public double getDamageDealt() { return damageDealt; }
+    /** Total damage monsters applied to heroes. */
+    public double getDamageTaken() { return damageTaken; }
+    public int getHeroesStanding() { return heroesStanding; }
+
+    @Override
+    public String toString() {
+        return outcome + " after " + rounds + " rounds (dealt " + (int) damageDealt + ", taken " + (int) damageTaken + ")";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package engine;
+
+import java.util.Locale;
+
+/**
+ * Aggregate of many {@link BattleResult}s: outcome tally plus round and damage distributions.
+ * Damage is bucketed to whole points.
+ */
+public class BattleStats {
+    private long wins;
+    private long losses;
+    private long draws;
+    private final Histogram rounds = new Histogram();
+    private final Histogram dealt = new Histogram();
+    private final Histogram taken = new Histogram();
+
+    public void record(BattleResult result) {
+        switch (result.getOutcome()) {
+            case HEROES_WIN: wins++; break;
+            case MONSTERS_WIN: losses++; break;
+            default: draws++; break;
+        }
+        rounds.add(result.getRounds());
+        dealt.add(result.getDamageDealt());
+        taken.add(result.getDamageTaken());
+    }
+
+    public void merge(BattleStats other) {
+        wins += other.wins;
+        losses += other.losses;
+        draws += other.draws;
+        rounds.merge(other.rounds);
+        dealt.merge(other.dealt);
+        taken.merge(other.taken);
+    }
+
+    public long getFights() { return wins + losses + draws; }
+    public long getWins() { return wins; }
+    public long getLosses() { return losses; }
+    public long getDraws() { return draws; }
+    public Histogram getRounds() { return rounds; }
+    public Histogram getDamageDealt() { return dealt; }
+    public Histogram getDamageTaken() { return taken; }
+
+    public double winRate() {
+        long fights = getFights();
+        return fights == 0 ? 0.0 : (double) wins / fights;
+    }
+
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.US, "%d fights | heroes %d / monsters %d / draws %d | win rate %.2f%%%n",
+                getFights(), wins, losses, draws, winRate() * 100));
+        sb.append(String.format(Locale.US, "%-13s %9s %7s %7s %7s %7s %7s%n",
+                "", "mean", "min", "p50", "p90", "p99", "max"));
+        appendRow(sb, "Rounds", rounds);
+        appendRow(sb, "Damage dealt", dealt);
+        appendRow(sb, "Damage taken", taken);
+        return sb.toString();
+    }
+
+    private static void appendRow(StringBuilder sb, String label, Histogram h) {
+        sb.append(String.format(Locale.US, "%-13s %9.2f %7d %7d %7d %7d %7d%n", label, h.mean(), h.min(),
+                h.percentile(0.5), h.percentile(0.9), h.percentile(0.99), h.max()));
+    }
+}
\ No newline at end of file
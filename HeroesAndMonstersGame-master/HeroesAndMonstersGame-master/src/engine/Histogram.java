@@ -0,0 +1,70 @@
+package engine;
+
+import java.util.Arrays;
+
+/**
+ * Counts of non-negative integer samples with exact percentiles. Memory grows with the
+ * largest value seen, not with the number of samples, so millions of battles fit easily.
+ * Merging is plain summation and therefore independent of how samples were split.
+ */
+public class Histogram {
+    private long[] counts = new long[64];
+    private long total;
+    private double sum;
+    private int max = -1;
+
+    public void add(double value) {
+        if (value < 0) throw new IllegalArgumentException("Negative sample: " + value);
+        int bucket = (int) Math.min(value, Integer.MAX_VALUE - 8);
+        grow(bucket);
+        counts[bucket]++;
+        total++;
+        sum += value;
+        if (bucket > max) max = bucket;
+    }
+
+    public void merge(Histogram other) {
+        if (other.max >= 0) grow(other.max);
+        for (int i = 0; i <= other.max; i++) counts[i] += other.counts[i];
+        total += other.total;
+        sum += other.sum;
+        if (other.max > max) max = other.max;
+    }
+
+    public long getCount() { return total; }
+
+    public double mean() {
+        return total == 0 ? 0.0 : sum / total;
+    }
+
+    public int min() {
+        for (int i = 0; i <= max; i++) if (counts[i] > 0) return i;
+        return 0;
+    }
+
+    public int max() {
+        return Math.max(max, 0);
+    }
+
+    /**
+     * Smallest bucket with at least {@code p} of the samples at or below it.
+     *
+     * @param p fraction in [0, 1]
+     */
+    public int percentile(double p) {
+        if (p < 0 || p > 1) throw new IllegalArgumentException("p must be in [0, 1]");
+        long rank = Math.max(1, (long) Math.ceil(p * total));
+        long seen = 0;
+        for (int i = 0; i <= max; i++) {
+            seen += counts[i];
+            if (seen >= rank) return i;
+        }
+        return 0;
+    }
+
+    private void grow(int bucket) {
+        if (bucket >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(bucket + 1, counts.length * 2));
+        }
+    }
+}
\ No newline at end of file
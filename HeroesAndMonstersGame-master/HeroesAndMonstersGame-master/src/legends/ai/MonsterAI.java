@@ -1,27 +1,56 @@
 package legends.ai;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.DoubleSupplier;
 
 import controller.HeroController;
 import legends.config.LegendsConfig;
+import legends.journal.MatchListener;
 import legends.world.Direction;
+import legends.world.LaneTurnBatch;
 import legends.world.LegendsBoard;
 import legends.world.Position;
 import model.entity.Hero;
 import model.entity.Monster;
 import model.item.Armor;
+import model.store.EntityStore;
 
 /**
  * Encapsulates the monster behavior rules (movement, attacking, targeting).
+ *
+ * Monsters walk their lane's flow field toward the hero nexus (see
+ * {@link LegendsBoard#nextMonsterStep}), straight south unless something blocks the way. Lanes
+ * are walled off from each other and the field never leads out of a lane, so monsters in
+ * different lanes never interact within a round. In lane-parallel mode every round hands each lane its
+ * own {@link SplittableRandom}, split from the root stream in lane order, and the lanes' turns
+ * are planned concurrently on a {@link ForkJoinPool} without touching the board (heroes, which
+ * belong to one lane, take their damage directly). The plans are then applied to the board,
+ * listener and logs in lane order, so the result is the same for every thread count, including
+ * running the lanes inline without a pool.
  */
 public class MonsterAI {
+    private static final byte WAIT = 0;
+    private static final byte MOVE = 1;
+    private static final byte MISS = 2;
+    private static final byte HIT = 3;
+    private static final byte KNOCKOUT = 4;
+
     private final HeroController heroController;
     private final Random random;
+    private final SplittableRandom laneStreams;
+    private final ForkJoinPool pool;
+    private final LaneTurnBatch laneTurns = new LaneTurnBatch();
+    private LanePlan[] lanePlans = new LanePlan[0];
+    private MatchListener listener;
 
     public MonsterAI(HeroController heroController) {
         this(heroController, new Random());
@@ -30,24 +59,191 @@ public class MonsterAI {
     public MonsterAI(HeroController heroController, Random random) {
         this.heroController = Objects.requireNonNull(heroController, "heroController");
         this.random = Objects.requireNonNull(random, "random");
+        this.laneStreams = null;
+        this.pool = null;
+    }
+
+    /**
+     * Lane-parallel mode, see the class comment. Single {@link #takeTurn} calls draw from
+     * {@code random} directly.
+     *
+     * @param pool runs the lanes of a round concurrently; null runs them one after another
+     *             on the calling thread with the same outcome. Not shut down by this class.
+     */
+    public MonsterAI(HeroController heroController, SplittableRandom random, ForkJoinPool pool) {
+        this.heroController = Objects.requireNonNull(heroController, "heroController");
+        this.random = null;
+        this.laneStreams = Objects.requireNonNull(random, "random");
+        this.pool = pool;
+    }
+
+    /**
+     * Reports moves and attacks (with their dodge rolls) to {@code listener}; null disables reporting.
+     */
+    public void setListener(MatchListener listener) {
+        this.listener = listener;
     }
 
     public List<String> performRound(LegendsBoard board) {
         List<String> logs = new ArrayList<>();
+        performRound(board, logs);
+        return logs;
+    }
+
+    /**
+     * Runs every monster turn for the round. When {@code logs} is null no
+     * action strings are built, which keeps headless simulations allocation-light.
+     *
+     * Each lane is collected once up front, front-most monster first, together with the heroes
+     * in range of every monster, so a turn costs neither a position lookup nor a hero scan.
+     * The outcome is the same as calling {@link #takeTurn} for each monster in lane order.
+     */
+    public void performRound(LegendsBoard board, List<String> logs) {
+        if (laneStreams != null) {
+            performLaneRound(board, logs);
+            return;
+        }
         for (int lane = 0; lane < board.getLaneCount(); lane++) {
-            List<Monster> monsters = board.monstersInLane(lane);
-            monsters.sort(Comparator.comparingInt(m -> board.getMonsterPositions().get(m).getRow()).reversed());
-            for (Monster monster : monsters) {
-                String action = takeTurn(board, monster);
-                if (action != null && !action.isEmpty()) {
-                    logs.add(action);
+            board.collectLaneTurns(lane, LegendsConfig.MONSTER_ATTACK_RANGE, laneTurns);
+            playLane(board, laneTurns, random::nextDouble, logs);
+        }
+    }
+
+    private void playLane(LegendsBoard board, LaneTurnBatch turns, DoubleSupplier rolls, List<String> logs) {
+        boolean describe = logs != null;
+        for (int i = 0; i < turns.size(); i++) {
+            Monster monster = turns.getMonster(i);
+            Hero target = turns.weakestTarget(i);
+            String action;
+            if (target != null) {
+                action = resolveAttack(board, monster, target, rolls.getAsDouble(), describe);
+            } else {
+                Direction step = turns.nextStep(i);
+                if (step != null) {
+                    moveMonster(board, monster, step);
+                    turns.markMoved(i, step);
                 }
+                action = describe ? describeStep(monster, step) : null;
+            }
+            if (action != null && !action.isEmpty()) {
+                logs.add(action);
             }
         }
-        return logs;
+    }
+
+    private void performLaneRound(LegendsBoard board, List<String> logs) {
+        int lanes = board.getLaneCount();
+        if (lanePlans.length < lanes) {
+            LanePlan[] grown = Arrays.copyOf(lanePlans, lanes);
+            for (int lane = lanePlans.length; lane < lanes; lane++) {
+                grown[lane] = new LanePlan();
+            }
+            lanePlans = grown;
+        }
+        for (int lane = 0; lane < lanes; lane++) {
+            lanePlans[lane].random = laneStreams.split();
+        }
+        if (pool == null) {
+            for (int lane = 0; lane < lanes; lane++) {
+                LanePlan plan = lanePlans[lane];
+                board.collectLaneTurns(lane, LegendsConfig.MONSTER_ATTACK_RANGE, plan.turns);
+                playLane(board, plan.turns, plan.random::nextDouble, logs);
+            }
+            return;
+        }
+        pool.invoke(new PlanTask(board, logs != null, 0, lanes));
+        for (int lane = 0; lane < lanes; lane++) {
+            applyPlan(board, lanePlans[lane], logs);
+        }
+    }
+
+    /**
+     * Decides every turn of the lane from the collected batch alone, applying only hero damage.
+     * Mirrors {@link #playLane}: same targets, rolls, hits, knockouts and moves.
+     */
+    private void planLane(LegendsBoard board, int lane, boolean describe) {
+        LanePlan plan = lanePlans[lane];
+        LaneTurnBatch turns = plan.turns;
+        board.collectLaneTurns(lane, LegendsConfig.MONSTER_ATTACK_RANGE, turns);
+        plan.prepare(turns.size());
+        for (int i = 0; i < turns.size(); i++) {
+            Monster monster = turns.getMonster(i);
+            Hero target = turns.weakestTarget(i);
+            String action;
+            if (target != null) {
+                double roll = plan.random.nextDouble();
+                plan.targets[i] = target;
+                plan.rolls[i] = roll;
+                if (roll < heroController.calculateDodgeChance(target)) {
+                    plan.actions[i] = MISS;
+                    action = describe ? describeMiss(monster, target) : null;
+                } else {
+                    double damage = hitDamage(monster, target);
+                    plan.damage[i] = damage;
+                    target.takeDamage(damage);
+                    plan.actions[i] = HIT;
+                    if (target.isFainted()) {
+                        plan.actions[i] = KNOCKOUT;
+                        turns.markKnockedOut(target);
+                    }
+                    action = describe ? describeHit(monster, target, damage) : null;
+                }
+            } else {
+                Direction step = turns.nextStep(i);
+                if (step != null) {
+                    turns.markMoved(i, step);
+                    plan.steps[i] = step;
+                    plan.actions[i] = MOVE;
+                } else {
+                    plan.actions[i] = WAIT;
+                }
+                action = describe ? describeStep(monster, step) : null;
+            }
+            if (action != null) {
+                plan.logs.add(action);
+            }
+        }
+    }
+
+    /**
+     * Applies a planned lane to the board and reports it, in turn order.
+     */
+    private void applyPlan(LegendsBoard board, LanePlan plan, List<String> logs) {
+        LaneTurnBatch turns = plan.turns;
+        for (int i = 0; i < turns.size(); i++) {
+            Monster monster = turns.getMonster(i);
+            byte action = plan.actions[i];
+            if (action == MOVE) {
+                if (!board.moveMonster(monster, plan.steps[i])) {
+                    throw new IllegalStateException("Planned move of " + monster.getName() + " is blocked");
+                }
+                if (listener != null) {
+                    listener.monsterMoved(board.getMonsterId(monster).orElse(0), plan.steps[i]);
+                }
+            } else if (action != WAIT) {
+                Hero hero = plan.targets[i];
+                if (listener != null) {
+                    boolean hit = action != MISS;
+                    listener.monsterAttacked(board.getMonsterId(monster).orElse(0), board.getHeroId(hero).orElse(0),
+                        plan.rolls[i], hit, hit ? plan.damage[i] : 0);
+                }
+                if (action == KNOCKOUT) {
+                    board.removeHero(hero);
+                } else {
+                    board.refreshHealth(hero);
+                }
+            }
+        }
+        if (logs != null) {
+            logs.addAll(plan.logs);
+        }
     }
 
     public String takeTurn(LegendsBoard board, Monster monster) {
+        return takeTurn(board, monster, true);
+    }
+
+    private String takeTurn(LegendsBoard board, Monster monster, boolean describe) {
         Position position = board.getMonsterPositions().get(monster);
         if (position == null) {
             return null;
@@ -55,46 +251,161 @@ public class MonsterAI {
         List<Hero> heroesInRange = board.heroesInRange(position, LegendsConfig.MONSTER_ATTACK_RANGE);
         if (!heroesInRange.isEmpty()) {
             Hero target = selectTarget(heroesInRange);
-            return resolveAttack(board, monster, target);
+            double roll = (random != null) ? random.nextDouble() : laneStreams.nextDouble();
+            return resolveAttack(board, monster, target, roll, describe);
+        }
+        Direction step = board.nextMonsterStep(position);
+        if (step != null) {
+            moveMonster(board, monster, step);
+        }
+        return describe ? describeStep(monster, step) : null;
+    }
+
+    private void moveMonster(LegendsBoard board, Monster monster, Direction step) {
+        if (board.moveMonster(monster, step) && listener != null) {
+            listener.monsterMoved(board.getMonsterId(monster).orElse(0), step);
+        }
+    }
+
+    private static String describeStep(Monster monster, Direction step) {
+        if (step == null) {
+            return monster.getName() + " waits.";
+        }
+        if (step == Direction.SOUTH) {
+            return monster.getName() + " advances.";
         }
-        boolean moved = attemptAdvance(board, monster, position);
-        return moved ? monster.getName() + " advances." : monster.getName() + " waits.";
+        return monster.getName() + " moves " + step.name().toLowerCase(Locale.ROOT) + " around a blocker.";
     }
 
+    /**
+     * Weakest hero in range, first one on ties; matches {@link LaneTurnBatch#weakestTarget(int)}.
+     */
     private Hero selectTarget(List<Hero> heroes) {
-        return heroes.stream()
-            .min(Comparator.comparingDouble(Hero::getHp))
-            .orElse(heroes.get(0));
+        Hero target = heroes.get(0);
+        for (int i = 1; i < heroes.size(); i++) {
+            Hero hero = heroes.get(i);
+            if (hero.getHp() < target.getHp()) {
+                target = hero;
+            }
+        }
+        return target;
     }
 
-    private String resolveAttack(LegendsBoard board, Monster monster, Hero hero) {
+    private String resolveAttack(LegendsBoard board, Monster monster, Hero hero, double roll, boolean describe) {
         double dodgeChance = heroController.calculateDodgeChance(hero);
-        if (random.nextDouble() < dodgeChance) {
-            return monster.getName() + " attacks " + hero.getName() + " but misses.";
+        if (roll < dodgeChance) {
+            if (listener != null) {
+                listener.monsterAttacked(board.getMonsterId(monster).orElse(0), board.getHeroId(hero).orElse(0),
+                    roll, false, 0);
+            }
+            return describe ? describeMiss(monster, hero) : null;
+        }
+        double rawDamage = hitDamage(monster, hero);
+        if (listener != null) {
+            listener.monsterAttacked(board.getMonsterId(monster).orElse(0), board.getHeroId(hero).orElse(0),
+                roll, true, rawDamage);
         }
-        double defense = Optional.ofNullable(hero.getEquippedArmor())
-            .map(Armor::getDamageReduction)
-            .orElse(0.0);
-        double rawDamage = Math.max(0, monster.getBaseDamage() - defense);
         hero.takeDamage(rawDamage);
+        board.refreshHealth(hero);
         if (hero.isFainted()) {
             board.removeHero(hero);
         }
-        return monster.getName() + " hits " + hero.getName() + " for " + String.format("%.1f", rawDamage) + " damage.";
+        if (!describe) {
+            return null;
+        }
+        return describeHit(monster, hero, rawDamage);
     }
 
-    private boolean attemptAdvance(LegendsBoard board, Monster monster, Position position) {
-        Position next = position.translate(Direction.SOUTH.deltaRow(), Direction.SOUTH.deltaCol());
-        if (!board.isInside(next)) {
-            return false;
+    private static double hitDamage(Monster monster, Hero hero) {
+        double defense = Optional.ofNullable(hero.getEquippedArmor())
+            .map(Armor::getDamageReduction)
+            .orElse(0.0);
+        return Math.max(0, monster.getBaseDamage() - defense);
+    }
+
+    private static String describeMiss(Monster monster, Hero hero) {
+        return monster.getName() + " attacks " + hero.getName() + " but misses.";
+    }
+
+    private static String describeHit(Monster monster, Hero hero, double damage) {
+        return monster.getName() + " hits " + hero.getName() + " for " + String.format("%.1f", damage) + " damage.";
+    }
+
+    /**
+     * Store-backed attack step for bulk simulations: monster slot {@code attackers[i]} strikes
+     * hero slot {@code targets[i]} with the pre-drawn dodge roll {@code rolls[i]}, in order.
+     * Hit and damage rules match {@code takeTurn}; removing fainted heroes from a board is left
+     * to the caller.
+     *
+     * @param damage receives the damage of each attack (0 when dodged)
+     * @return number of attacks that hit
+     */
+    public int resolveAttacks(EntityStore store, int[] attackers, int[] targets, double[] rolls, int count,
+                              double[] damage) {
+        double[] hp = store.hpColumn();
+        double[] armor = store.defenseColumn();
+        double[] baseDamage = store.damageColumn();
+        int hits = 0;
+        for (int i = 0; i < count; i++) {
+            int hero = targets[i];
+            if (rolls[i] < heroController.calculateDodgeChance(store, hero)) {
+                damage[i] = 0;
+                continue;
+            }
+            double dealt = Math.max(0, baseDamage[attackers[i]] - armor[hero]);
+            damage[i] = dealt;
+            double left = hp[hero] - dealt;
+            hp[hero] = (left < 0) ? 0 : left;
+            hits++;
         }
-        if (board.getTile(next).getHeroOccupant() != null) {
-            // Respect the "cannot pass through a hero" rule by stopping in place.
-            return false;
+        return hits;
+    }
+
+    /** Per-lane plan buffers, reused across rounds. */
+    private static final class LanePlan {
+        final LaneTurnBatch turns = new LaneTurnBatch();
+        final List<String> logs = new ArrayList<>();
+        SplittableRandom random;
+        byte[] actions = new byte[8];
+        Direction[] steps = new Direction[8];
+        Hero[] targets = new Hero[8];
+        double[] rolls = new double[8];
+        double[] damage = new double[8];
+
+        void prepare(int turnCount) {
+            logs.clear();
+            if (actions.length < turnCount) {
+                actions = new byte[turnCount];
+                steps = new Direction[turnCount];
+                targets = new Hero[turnCount];
+                rolls = new double[turnCount];
+                damage = new double[turnCount];
+            }
         }
-        if (board.getTile(next).getMonsterOccupant() != null) {
-            return false;
+    }
+
+    /** Plans lanes {@code [from, to)}, splitting the range in halves down to single lanes. */
+    private final class PlanTask extends RecursiveAction {
+        private final LegendsBoard board;
+        private final boolean describe;
+        private final int from;
+        private final int to;
+
+        private PlanTask(LegendsBoard board, boolean describe, int from, int to) {
+            this.board = board;
+            this.describe = describe;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                planLane(board, from, describe);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new PlanTask(board, describe, from, mid), new PlanTask(board, describe, mid, to));
         }
-        return board.moveMonster(monster, Direction.SOUTH);
     }
 }
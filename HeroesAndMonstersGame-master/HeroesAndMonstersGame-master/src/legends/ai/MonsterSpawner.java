@@ -6,8 +6,8 @@ import java.util.List;
 import java.util.Objects;
 
 import legends.config.LegendsConfig;
+import legends.journal.MatchListener;
 import legends.world.LegendsBoard;
-import legends.world.LegendsTile;
 import legends.world.Position;
 import model.entity.Hero;
 import model.entity.Monster;
@@ -18,6 +18,7 @@ import model.entity.Monster;
 public class MonsterSpawner {
     private final int interval;
     private int roundCounter;
+    private MatchListener listener;
 
     public MonsterSpawner() {
         this(LegendsConfig.MONSTER_SPAWN_INTERVAL);
@@ -31,46 +32,84 @@ public class MonsterSpawner {
         this.roundCounter = 0;
     }
 
+    /**
+     * Reports every spawned monster to {@code listener}; null disables reporting.
+     */
+    public void setListener(MatchListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Independent spawner at the same point in the spawn cycle, for look-ahead searches.
+     * The listener is not copied.
+     */
+    public MonsterSpawner copy() {
+        MonsterSpawner copy = new MonsterSpawner(interval);
+        copy.roundCounter = roundCounter;
+        return copy;
+    }
+
+    public int getRoundCounter() {
+        return roundCounter;
+    }
+
     public List<String> onRoundStart(LegendsBoard board, MonsterFactory factory, List<Hero> heroes) {
+        List<String> logs = new ArrayList<>();
+        if (!onRoundStart(board, factory, heroes, logs)) {
+            return Collections.emptyList();
+        }
+        return logs;
+    }
+
+    /**
+     * Advances the round counter and spawns a wave when it is due.
+     * Messages are only built when {@code logs} is non-null.
+     *
+     * @return true if this round was a spawn round
+     */
+    public boolean onRoundStart(LegendsBoard board, MonsterFactory factory, List<Hero> heroes, List<String> logs) {
         Objects.requireNonNull(board, "board");
         Objects.requireNonNull(factory, "factory");
         Objects.requireNonNull(heroes, "heroes");
         roundCounter++;
         if (roundCounter % interval != 0) {
-            return Collections.emptyList();
+            return false;
         }
-        int level = heroes.stream().mapToInt(Hero::getLevel).max().orElse(1);
-        return spawnWave(board, factory, level);
+        int level = 1;
+        for (Hero hero : heroes) {
+            level = Math.max(level, hero.getLevel());
+        }
+        spawnWave(board, factory, level, logs);
+        return true;
     }
 
-    private List<String> spawnWave(LegendsBoard board, MonsterFactory factory, int level) {
-        List<String> logs = new ArrayList<>();
+    private void spawnWave(LegendsBoard board, MonsterFactory factory, int level, List<String> logs) {
         for (int lane = 0; lane < board.getLaneCount(); lane++) {
             Position spawnPos = findSpawnSlot(board, lane);
             if (spawnPos == null) {
-                logs.add("Lane " + lane + " spawn blocked.");
+                if (logs != null) {
+                    logs.add("Lane " + lane + " spawn blocked.");
+                }
                 continue;
             }
             Monster monster = factory.createMonsterForLane(lane, level);
             if (monster == null) {
-                logs.add("Factory produced null monster for lane " + lane);
+                if (logs != null) {
+                    logs.add("Factory produced null monster for lane " + lane);
+                }
                 continue;
             }
             board.addMonster(monster, spawnPos);
-            logs.add(monster.getName() + " emerges in lane " + lane);
+            if (listener != null) {
+                listener.monsterSpawned(board.getMonsterId(monster).orElse(0), monster, spawnPos);
+            }
+            if (logs != null) {
+                logs.add(monster.getName() + " emerges in lane " + lane);
+            }
         }
-        return logs;
     }
 
     private Position findSpawnSlot(LegendsBoard board, int lane) {
-        int[][] laneColumns = board.getLaneColumns();
-        for (int col : laneColumns[lane]) {
-            Position pos = new Position(0, col);
-            LegendsTile tile = board.getTile(pos);
-            if (tile.getMonsterOccupant() == null) {
-                return pos;
-            }
-        }
-        return null;
+        return board.findMonsterSpawnSlot(lane);
     }
 }
@@ -10,11 +10,10 @@ public final class LegendsConfig {
     private LegendsConfig() {
     }
 
-    public static final int BOARD_SIZE = 8;
     public static final int LANES = 3;
     public static final int LANE_WIDTH = 2;
-
-    public static final int[] INACCESSIBLE_COLUMNS = {2, 5};
+    /** Default board side: the lanes plus one inaccessible column between each pair, see {@code BoardSpec}. */
+    public static final int BOARD_SIZE = LANES * LANE_WIDTH + LANES - 1;
 
     public static final double PLAIN_RATIO = 0.40;
     public static final double BUSH_RATIO = 0.15;
@@ -29,5 +28,16 @@ public final class LegendsConfig {
     public static final int MONSTER_SPAWN_INTERVAL = 8;
     public static final int MONSTER_ATTACK_RANGE = 1;
 
+    public static final int SIMULATION_MAX_ROUNDS = 200;
+
+    /** HP width of one bucket in a board's Zobrist key; smaller changes keep the key. */
+    public static final double HASH_HP_BUCKET = 25.0;
+
+    /** Redraw only changed cells with ANSI cursor moves; needs a VT100-compatible terminal. */
+    public static final boolean DIFFERENTIAL_RENDERING = false;
+
     public static final long DEFAULT_RANDOM_SEED = -1L;
+
+    /** Binary match journal written by every Legends of Valor session, see {@code MatchReplayer}. */
+    public static final String JOURNAL_FILE = "valor-match.journal";
 }
@@ -2,28 +2,31 @@ package legends.controller;
 
 import controller.HeroController;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Random;
 import java.util.Scanner;
 import legends.ai.MonsterAI;
 import legends.ai.MonsterFactory;
 import legends.ai.MonsterSpawner;
 import legends.config.LegendsConfig;
+import legends.engine.HeroAction;
+import legends.engine.MctsHeroController;
+import legends.journal.MatchJournal;
 import legends.view.LegendsBoardRenderer;
 import legends.world.Direction;
 import legends.world.LegendsBoard;
 import legends.world.LegendsTile;
 import legends.world.Position;
-import model.entity.Dragon;
-import model.entity.Exoskeleton;
+import model.MonsterCatalog;
 import model.entity.Hero;
 import model.entity.Monster;
-import model.entity.Spirit;
-import util.GameDataParser;
+import util.GameDataCatalog;
+import util.RngService;
 import view.Colors;
 
 /**
@@ -36,11 +39,15 @@ public class LegendsOfValorController {
     private final HeroController heroController;
     private final MonsterAI monsterAI;
     private final MonsterSpawner monsterSpawner;
-    private final Random random;
+    private MctsHeroController autopilot;
+    private final RngService random;
+    private final long boardSeed;
+    private MatchJournal journal;
 
     private final List<Hero> heroRoster = new ArrayList<>();
     private final List<Hero> activeHeroes = new ArrayList<>();
     private final List<Monster> monsterTemplates = new ArrayList<>();
+    private MonsterCatalog monsterCatalog;
 
     private int roundNumber = 0;
 
@@ -50,14 +57,26 @@ public class LegendsOfValorController {
 
     public LegendsOfValorController(Scanner scanner, long seed) {
         this.scanner = Objects.requireNonNull(scanner, "scanner");
-        this.random = (seed == LegendsConfig.DEFAULT_RANDOM_SEED) ? new Random() : new Random(seed);
-        this.board = new LegendsBoard(seed);
-        this.renderer = new LegendsBoardRenderer();
+        this.random = (seed == LegendsConfig.DEFAULT_RANDOM_SEED) ? RngService.unseeded() : new RngService(seed);
+        this.boardSeed = (seed == LegendsConfig.DEFAULT_RANDOM_SEED) ? pickBoardSeed(random) : seed;
+        this.board = new LegendsBoard(boardSeed);
+        this.renderer = new LegendsBoardRenderer(LegendsConfig.DIFFERENTIAL_RENDERING);
         this.heroController = new HeroController();
-        this.monsterAI = new MonsterAI(heroController, random);
+        this.monsterAI = new MonsterAI(heroController, random.get(RngService.Stream.AI));
         this.monsterSpawner = new MonsterSpawner();
     }
 
+    /**
+     * Unseeded games still get a concrete board seed so the match journal can rebuild the terrain.
+     */
+    private static long pickBoardSeed(RngService random) {
+        long seed;
+        do {
+            seed = random.get(RngService.Stream.BOARD).nextLong();
+        } while (seed == LegendsConfig.DEFAULT_RANDOM_SEED);
+        return seed;
+    }
+
     public void start() {
         System.out.println(Colors.CYAN + "\n=== LEGENDS OF VALOR (Prototype) ===" + Colors.RESET);
         System.out.println("Person 1 focus: board generation, terrain effects, monster AI & spawning.\n");
@@ -75,15 +94,13 @@ public class LegendsOfValorController {
     }
 
     private void loadGameData() throws IOException {
+        GameDataCatalog catalog = GameDataCatalog.load();
         heroRoster.clear();
-        heroRoster.addAll(GameDataParser.parseHeroes("Warriors.txt", "Warrior"));
-        heroRoster.addAll(GameDataParser.parseHeroes("Sorcerers.txt", "Sorcerer"));
-        heroRoster.addAll(GameDataParser.parseHeroes("Paladins.txt", "Paladin"));
+        heroRoster.addAll(catalog.newHeroes());
 
         monsterTemplates.clear();
-        monsterTemplates.addAll(GameDataParser.parseMonsters("Dragons.txt", "Dragon"));
-        monsterTemplates.addAll(GameDataParser.parseMonsters("Exoskeletons.txt", "Exoskeleton"));
-        monsterTemplates.addAll(GameDataParser.parseMonsters("Spirits.txt", "Spirit"));
+        monsterTemplates.addAll(catalog.newMonsters());
+        monsterCatalog = new MonsterCatalog(monsterTemplates);
     }
 
     private boolean selectHeroes() {
@@ -131,12 +148,50 @@ public class LegendsOfValorController {
             Position start = board.getHeroNexusEntry(lane);
             board.addHero(hero, start);
         }
+        openJournal();
+    }
+
+    /**
+     * Starts recording the match to {@link LegendsConfig#JOURNAL_FILE} for later replay.
+     * A journal that cannot be created only costs the recording, not the game.
+     */
+    private void openJournal() {
+        Path path = Paths.get(LegendsConfig.JOURNAL_FILE);
+        try {
+            journal = MatchJournal.create(path, board.getSpec(), boardSeed);
+        } catch (IOException ex) {
+            System.err.println("Match journal disabled: " + ex.getMessage());
+            return;
+        }
+        for (Hero hero : activeHeroes) {
+            journal.heroRegistered(board.getHeroId(hero).orElse(0), hero, board.getHeroPositions().get(hero));
+        }
+        monsterAI.setListener(journal);
+        monsterSpawner.setListener(journal);
+    }
+
+    private void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        monsterAI.setListener(null);
+        monsterSpawner.setListener(null);
+        try {
+            journal.close();
+            System.out.println("Match journal saved to " + LegendsConfig.JOURNAL_FILE);
+        } catch (IOException ex) {
+            System.err.println("Failed to save match journal: " + ex.getMessage());
+        }
+        journal = null;
     }
 
     private void gameLoop() {
         boolean running = true;
         while (running && !activeHeroes.isEmpty()) {
             roundNumber++;
+            if (journal != null) {
+                journal.roundStarted(roundNumber);
+            }
             System.out.println(Colors.YELLOW + "\n-- Round " + roundNumber + " --" + Colors.RESET);
             renderer.render(board);
             printHeroStatus();
@@ -154,6 +209,8 @@ public class LegendsOfValorController {
             }
             pruneDefeatedHeroes();
         }
+        renderer.release();
+        closeJournal();
         System.out.println(Colors.CYAN + "\nLegends of Valor session ended." + Colors.RESET);
     }
 
@@ -167,7 +224,7 @@ public class LegendsOfValorController {
 
     private boolean handleHeroPhase() {
         while (true) {
-            System.out.print("Command (move <id> <N|S|E|W> | clear <row> <col> | end | quit): ");
+            System.out.print("Command (move <id> <N|S|E|W> | clear <row> <col> | auto | end | quit): ");
             String line = scanner.nextLine().trim();
             if (line.isEmpty()) {
                 continue;
@@ -191,6 +248,8 @@ public class LegendsOfValorController {
                     }
                     if (!board.moveHero(hero, direction)) {
                         System.out.println("Cannot move hero in that direction.");
+                    } else if (journal != null) {
+                        journal.heroMoved(board.getHeroId(hero).orElse(0), direction);
                     }
                     renderer.render(board);
                     printHeroStatus();
@@ -208,6 +267,9 @@ public class LegendsOfValorController {
                         System.out.println("Row/column must be numbers.");
                     }
                     break;
+                case "auto":
+                    autoPlayHeroes();
+                    return true;
                 case "end":
                     return true;
                 case "quit":
@@ -218,8 +280,39 @@ public class LegendsOfValorController {
         }
     }
 
+    /**
+     * Lets the MCTS autopilot take one action for every active hero, then ends the hero phase.
+     */
+    private void autoPlayHeroes() {
+        if (autopilot == null) {
+            autopilot = new MctsHeroController(heroController, monsterTemplates,
+                MctsHeroController.DEFAULT_BUDGET_MILLIS, Runtime.getRuntime().availableProcessors(),
+                MctsHeroController.DEFAULT_HORIZON, MctsHeroController.DEFAULT_EXPLORATION,
+                random.get(RngService.Stream.AUTOPILOT));
+        }
+        for (Hero hero : activeHeroes) {
+            Optional<Integer> id = board.getHeroId(hero);
+            if (!id.isPresent()) {
+                continue;
+            }
+            HeroAction action = autopilot.chooseAction(board, monsterSpawner, hero);
+            System.out.println(Colors.CYAN + "H" + id.get() + " " + action.describe(board, hero)
+                + " (" + autopilot.getLastPlayouts() + " playouts)" + Colors.RESET);
+            Position before = board.getHeroPositions().get(hero);
+            if (action.apply(board, hero) && journal != null) {
+                Direction direction = action.getDirection();
+                if (action.isClear()) {
+                    journal.obstacleCleared(board.neighbour(before, direction));
+                } else {
+                    journal.heroMoved(id.get(), direction);
+                }
+            }
+        }
+        renderer.render(board);
+    }
+
     private void clearObstacle(int row, int col) {
-        Position position = new Position(row, col);
+        Position position = Position.of(row, col);
         if (!board.isInside(position)) {
             System.out.println("Position out of bounds.");
             return;
@@ -230,6 +323,9 @@ public class LegendsOfValorController {
             return;
         }
         board.clearObstacle(position);
+        if (journal != null) {
+            journal.obstacleCleared(position);
+        }
         System.out.println("Obstacle cleared. Terrain is now plain.");
     }
 
@@ -271,29 +367,13 @@ public class LegendsOfValorController {
 
     private MonsterFactory buildFactory() {
         return (lane, level) -> {
-            if (monsterTemplates.isEmpty()) {
+            if (monsterCatalog == null || monsterCatalog.isEmpty()) {
                 return null;
             }
-            Monster template = monsterTemplates.get(random.nextInt(monsterTemplates.size()));
-            Monster monster = cloneMonster(template);
-            monster.scaleStats(level);
-            return monster;
+            return monsterCatalog.spawnRandom(level, random.get(RngService.Stream.SPAWN));
         };
     }
 
-    private Monster cloneMonster(Monster template) {
-        if (template instanceof Dragon) {
-            return new Dragon(template.getName(), template.getLevel(), template.getBaseDamage(), template.getDefense(), template.getDodgeChance());
-        }
-        if (template instanceof Exoskeleton) {
-            return new Exoskeleton(template.getName(), template.getLevel(), template.getBaseDamage(), template.getDefense(), template.getDodgeChance());
-        }
-        if (template instanceof Spirit) {
-            return new Spirit(template.getName(), template.getLevel(), template.getBaseDamage(), template.getDefense(), template.getDodgeChance());
-        }
-        throw new IllegalArgumentException("Unsupported monster type: " + template.getClass());
-    }
-
     private void pruneDefeatedHeroes() {
         activeHeroes.removeIf(hero -> hero.isFainted() || !board.getHeroId(hero).isPresent());
     }
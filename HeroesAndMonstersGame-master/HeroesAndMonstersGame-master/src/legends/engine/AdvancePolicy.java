@@ -0,0 +1,30 @@
+package legends.engine;
+
+import legends.world.Direction;
+import legends.world.LegendsBoard;
+import legends.world.Position;
+import legends.world.TerrainType;
+import model.entity.Hero;
+
+/**
+ * Baseline policy that pushes every hero straight up its lane toward the monster nexus,
+ * spending the turn on a "clear" when an obstacle is directly ahead.
+ */
+public class AdvancePolicy implements HeroPolicy {
+    @Override
+    public void playTurn(LegendsBoard board, Hero hero) {
+        Position current = board.getHeroPositions().get(hero);
+        if (current == null) {
+            return;
+        }
+        Position ahead = board.neighbour(current, Direction.NORTH);
+        if (!board.isInside(ahead)) {
+            return;
+        }
+        if (board.hasTerrain(ahead, TerrainType.OBSTACLE)) {
+            board.clearObstacle(ahead);
+            return;
+        }
+        board.moveHero(hero, Direction.NORTH);
+    }
+}
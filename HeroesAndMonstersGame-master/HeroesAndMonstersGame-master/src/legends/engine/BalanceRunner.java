@@ -0,0 +1,205 @@
+package legends.engine;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import legends.config.LegendsConfig;
+import legends.world.BoardSpec;
+import model.entity.Hero;
+import model.entity.Monster;
+import util.GameDataCatalog;
+
+/**
+ * Monte Carlo balance sweep over every {@link LegendsConfig#LANES}-hero team that can be
+ * drawn from a roster. Matches are sharded across a {@link ForkJoinPool} in fixed
+ * (team, seed chunk) work units. Every match regenerates its seeded board (one per worker
+ * thread) and builds its own {@code Random} and entity copies inside
+ * {@link ValorSimulator#runMatch(long)}, and each unit writes to its own slot, so the
+ * aggregated table is identical for any thread count. Boards are generated with
+ * {@link BoardSpec#withConnectedLanes() connected lanes}, so no match is decided by a lane
+ * that obstacles wall off.
+ *
+ * The {@link HeroPolicy} is shared by all workers and must therefore be stateless.
+ */
+public class BalanceRunner {
+    private static final int SEEDS_PER_UNIT = 64;
+
+    private final List<Hero> roster;
+    private final List<Monster> monsterTemplates;
+    private final HeroPolicy policy;
+    private final int parallelism;
+
+    public BalanceRunner(List<Hero> roster, List<Monster> monsterTemplates, HeroPolicy policy) {
+        this(roster, monsterTemplates, policy, Runtime.getRuntime().availableProcessors());
+    }
+
+    public BalanceRunner(List<Hero> roster, List<Monster> monsterTemplates, HeroPolicy policy, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.roster = new ArrayList<>(Objects.requireNonNull(roster, "roster"));
+        this.monsterTemplates = new ArrayList<>(Objects.requireNonNull(monsterTemplates, "monsterTemplates"));
+        this.policy = Objects.requireNonNull(policy, "policy");
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Plays seeds {@code firstSeed .. firstSeed + seedsPerTeam - 1} for every team.
+     *
+     * @return one entry per team, in combination order
+     */
+    public List<TeamStats> run(long firstSeed, int seedsPerTeam) {
+        if (seedsPerTeam <= 0) {
+            throw new IllegalArgumentException("seedsPerTeam must be positive");
+        }
+        List<List<Hero>> teams = enumerateTeams(roster, LegendsConfig.LANES);
+        List<ValorSimulator> simulators = new ArrayList<>(teams.size());
+        for (List<Hero> team : teams) {
+            simulators.add(new ValorSimulator(team, monsterTemplates, policy, LegendsConfig.SIMULATION_MAX_ROUNDS,
+                BoardSpec.DEFAULT.withConnectedLanes()));
+        }
+
+        int unitsPerTeam = (seedsPerTeam + SEEDS_PER_UNIT - 1) / SEEDS_PER_UNIT;
+        TeamStats[] unitResults = new TeamStats[teams.size() * unitsPerTeam];
+        SweepTask root = new SweepTask(simulators, teams, unitResults, unitsPerTeam, firstSeed, seedsPerTeam,
+            0, unitResults.length);
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(root);
+        } finally {
+            pool.shutdown();
+        }
+
+        List<TeamStats> totals = new ArrayList<>(teams.size());
+        for (int team = 0; team < teams.size(); team++) {
+            TeamStats total = new TeamStats(heroNames(teams.get(team)));
+            for (int unit = 0; unit < unitsPerTeam; unit++) {
+                total.merge(unitResults[team * unitsPerTeam + unit]);
+            }
+            totals.add(total);
+        }
+        return totals;
+    }
+
+    static List<List<Hero>> enumerateTeams(List<Hero> roster, int teamSize) {
+        List<List<Hero>> teams = new ArrayList<>();
+        int[] picks = new int[teamSize];
+        collectTeams(roster, teams, picks, 0, 0);
+        return teams;
+    }
+
+    private static void collectTeams(List<Hero> roster, List<List<Hero>> teams, int[] picks, int depth, int from) {
+        if (depth == picks.length) {
+            List<Hero> team = new ArrayList<>(picks.length);
+            for (int index : picks) {
+                team.add(roster.get(index));
+            }
+            teams.add(team);
+            return;
+        }
+        for (int i = from; i <= roster.size() - (picks.length - depth); i++) {
+            picks[depth] = i;
+            collectTeams(roster, teams, picks, depth + 1, i + 1);
+        }
+    }
+
+    private static List<String> heroNames(List<Hero> team) {
+        List<String> names = new ArrayList<>(team.size());
+        for (Hero hero : team) {
+            names.add(hero.getName());
+        }
+        return names;
+    }
+
+    /**
+     * Renders the sweep as a table ordered by descending win rate.
+     */
+    public static String formatTable(List<TeamStats> stats) {
+        List<TeamStats> sorted = new ArrayList<>(stats);
+        sorted.sort(Comparator.comparingDouble(TeamStats::winRate).reversed());
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.US, "%-60s %8s %8s %8s %10s%n", "Team", "Matches", "Win %", "Draws", "Rounds/Win"));
+        for (TeamStats entry : sorted) {
+            sb.append(String.format(Locale.US, "%-60s %8d %8.2f %8d %10.2f%n",
+                String.join(" + ", entry.getHeroNames()), entry.getMatches(), entry.winRate() * 100,
+                entry.getDraws(), entry.averageRoundsToWin()));
+        }
+        return sb.toString();
+    }
+
+    private static final class SweepTask extends RecursiveAction {
+        private final List<ValorSimulator> simulators;
+        private final List<List<Hero>> teams;
+        private final TeamStats[] unitResults;
+        private final int unitsPerTeam;
+        private final long firstSeed;
+        private final int seedsPerTeam;
+        private final int fromUnit;
+        private final int toUnit;
+
+        private SweepTask(List<ValorSimulator> simulators, List<List<Hero>> teams, TeamStats[] unitResults,
+                          int unitsPerTeam, long firstSeed, int seedsPerTeam, int fromUnit, int toUnit) {
+            this.simulators = simulators;
+            this.teams = teams;
+            this.unitResults = unitResults;
+            this.unitsPerTeam = unitsPerTeam;
+            this.firstSeed = firstSeed;
+            this.seedsPerTeam = seedsPerTeam;
+            this.fromUnit = fromUnit;
+            this.toUnit = toUnit;
+        }
+
+        @Override
+        protected void compute() {
+            if (toUnit - fromUnit == 1) {
+                runUnit(fromUnit);
+                return;
+            }
+            int mid = (fromUnit + toUnit) >>> 1;
+            invokeAll(
+                new SweepTask(simulators, teams, unitResults, unitsPerTeam, firstSeed, seedsPerTeam, fromUnit, mid),
+                new SweepTask(simulators, teams, unitResults, unitsPerTeam, firstSeed, seedsPerTeam, mid, toUnit));
+        }
+
+        private void runUnit(int unit) {
+            int team = unit / unitsPerTeam;
+            int start = (unit % unitsPerTeam) * SEEDS_PER_UNIT;
+            int end = Math.min(seedsPerTeam, start + SEEDS_PER_UNIT);
+            ValorSimulator simulator = simulators.get(team);
+            TeamStats stats = new TeamStats(heroNames(teams.get(team)));
+            for (int offset = start; offset < end; offset++) {
+                stats.record(simulator.runMatch(firstSeed + offset));
+            }
+            unitResults[unit] = stats;
+        }
+    }
+
+    /**
+     * Command line entry: {@code java legends.engine.BalanceRunner [seedsPerTeam] [threads] [firstSeed]}.
+     */
+    public static void main(String[] args) throws IOException {
+        int seedsPerTeam = args.length > 0 ? Integer.parseInt(args[0]) : 1_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long firstSeed = args.length > 2 ? Long.parseLong(args[2]) : 1L;
+
+        GameDataCatalog catalog = GameDataCatalog.load();
+        List<Hero> roster = catalog.newHeroes();
+        List<Monster> monsters = catalog.newMonsters();
+
+        BalanceRunner runner = new BalanceRunner(roster, monsters, new AdvancePolicy(), threads);
+        long start = System.nanoTime();
+        List<TeamStats> stats = runner.run(firstSeed, seedsPerTeam);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        System.out.print(formatTable(stats));
+        long matches = (long) stats.size() * seedsPerTeam;
+        System.out.printf(Locale.US, "%d teams x %d seeds on %d threads: %.2fs (%.0f matches/sec)%n",
+            stats.size(), seedsPerTeam, threads, seconds, matches / seconds);
+    }
+}
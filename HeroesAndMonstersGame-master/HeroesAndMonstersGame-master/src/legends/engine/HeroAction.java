@@ -0,0 +1,117 @@
+package legends.engine;
+
+import legends.world.Direction;
+import legends.world.LegendsBoard;
+import legends.world.Position;
+import legends.world.TerrainType;
+import model.entity.Hero;
+
+/**
+ * The Legends of Valor hero action space: step in a direction, clear an adjacent obstacle,
+ * or end the turn in place. Actions are relative to the hero so they can be replayed on
+ * copies of the board.
+ */
+public enum HeroAction {
+    MOVE_NORTH(Direction.NORTH, false),
+    MOVE_SOUTH(Direction.SOUTH, false),
+    MOVE_EAST(Direction.EAST, false),
+    MOVE_WEST(Direction.WEST, false),
+    CLEAR_NORTH(Direction.NORTH, true),
+    CLEAR_SOUTH(Direction.SOUTH, true),
+    CLEAR_EAST(Direction.EAST, true),
+    CLEAR_WEST(Direction.WEST, true),
+    END(Direction.STAY, false);
+
+    private static final HeroAction[] VALUES = values();
+
+    private final Direction direction;
+    private final boolean clear;
+
+    HeroAction(Direction direction, boolean clear) {
+        this.direction = direction;
+        this.clear = clear;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public boolean isClear() {
+        return clear;
+    }
+
+    /**
+     * Whether the action would succeed for {@code hero} on {@code board} right now.
+     */
+    public boolean isLegal(LegendsBoard board, Hero hero) {
+        if (this == END) {
+            return true;
+        }
+        Position current = board.getHeroPositions().get(hero);
+        if (current == null) {
+            return false;
+        }
+        Position target = board.neighbour(current, direction);
+        if (!board.isInside(target)) {
+            return false;
+        }
+        if (clear) {
+            return board.hasTerrain(target, TerrainType.OBSTACLE);
+        }
+        return board.isPassable(target) && !board.hasHero(target);
+    }
+
+    /**
+     * Performs the action. Illegal actions leave the board unchanged.
+     *
+     * @return true if the board changed
+     */
+    public boolean apply(LegendsBoard board, Hero hero) {
+        if (this == END) {
+            return false;
+        }
+        Position current = board.getHeroPositions().get(hero);
+        if (current == null) {
+            return false;
+        }
+        if (clear) {
+            Position target = board.neighbour(current, direction);
+            if (board.isInside(target) && board.hasTerrain(target, TerrainType.OBSTACLE)) {
+                board.clearObstacle(target);
+                return true;
+            }
+            return false;
+        }
+        return board.moveHero(hero, direction);
+    }
+
+    /**
+     * Fills {@code out} with the legal actions and returns how many there are. {@link #END} is always legal.
+     */
+    public static int legalActions(LegendsBoard board, Hero hero, HeroAction[] out) {
+        int count = 0;
+        for (HeroAction action : VALUES) {
+            if (action.isLegal(board, hero)) {
+                out[count++] = action;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Console form of the action, matching the hero phase commands.
+     */
+    public String describe(LegendsBoard board, Hero hero) {
+        if (this == END) {
+            return "end";
+        }
+        if (clear) {
+            Position current = board.getHeroPositions().get(hero);
+            if (current != null) {
+                Position target = board.neighbour(current, direction);
+                return "clear " + target.getRow() + " " + target.getCol();
+            }
+        }
+        return "move " + direction.name().charAt(0);
+    }
+}
@@ -0,0 +1,21 @@
+package legends.engine;
+
+import legends.ai.MonsterSpawner;
+import legends.world.LegendsBoard;
+import model.entity.Hero;
+
+/**
+ * Scripted stand-in for the console hero phase.
+ * The simulator asks the policy for exactly one action per living hero per round.
+ */
+public interface HeroPolicy {
+    void playTurn(LegendsBoard board, Hero hero);
+
+    /**
+     * Variant for policies that look ahead and need to know when the next wave spawns.
+     * The spawner must not be advanced by the policy.
+     */
+    default void playTurn(LegendsBoard board, MonsterSpawner spawner, Hero hero) {
+        playTurn(board, hero);
+    }
+}
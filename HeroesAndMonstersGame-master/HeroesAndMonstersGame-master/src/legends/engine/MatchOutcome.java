@@ -0,0 +1,10 @@
+package legends.engine;
+
+/**
+ * Terminal state of a simulated Legends of Valor match.
+ */
+public enum MatchOutcome {
+    HEROES_WIN,
+    MONSTERS_WIN,
+    DRAW
+}
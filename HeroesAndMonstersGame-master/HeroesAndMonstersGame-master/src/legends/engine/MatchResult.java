@@ -0,0 +1,46 @@
+package legends.engine;
+
+/**
+ * Immutable summary of a single headless match.
+ */
+public final class MatchResult {
+    private final long seed;
+    private final MatchOutcome outcome;
+    private final int rounds;
+    private final int survivingHeroes;
+    private final int monstersOnBoard;
+
+    public MatchResult(long seed, MatchOutcome outcome, int rounds, int survivingHeroes, int monstersOnBoard) {
+        this.seed = seed;
+        this.outcome = outcome;
+        this.rounds = rounds;
+        this.survivingHeroes = survivingHeroes;
+        this.monstersOnBoard = monstersOnBoard;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public MatchOutcome getOutcome() {
+        return outcome;
+    }
+
+    public int getRounds() {
+        return rounds;
+    }
+
+    public int getSurvivingHeroes() {
+        return survivingHeroes;
+    }
+
+    public int getMonstersOnBoard() {
+        return monstersOnBoard;
+    }
+
+    @Override
+    public String toString() {
+        return "seed=" + seed + " " + outcome + " after " + rounds + " rounds"
+            + " (heroes=" + survivingHeroes + ", monsters=" + monstersOnBoard + ")";
+    }
+}
@@ -0,0 +1,399 @@
+package legends.engine;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import controller.HeroController;
+import legends.ai.MonsterAI;
+import legends.ai.MonsterFactory;
+import legends.ai.MonsterSpawner;
+import legends.world.BoardSnapshot;
+import legends.world.LegendsBoard;
+import legends.world.Position;
+import model.MonsterCatalog;
+import model.entity.Hero;
+import model.entity.Monster;
+import util.GameConfig;
+
+/**
+ * Hero autopilot backed by a time-bounded Monte Carlo tree search over {@link HeroAction}s.
+ *
+ * The tree holds the searching hero's own decisions, one per round (open-loop UCT: the same
+ * node is reused whatever the dice did in between). Each playout forks the match with
+ * {@link LegendsBoard#snapshot()}, lets teammates follow {@link AdvancePolicy}, spawns waves
+ * on a copy of the live {@link MonsterSpawner} and uses {@link MonsterAI} as the opponent.
+ * Playouts score a win by {@code WIN_DISCOUNT^rounds} so faster wins are preferred (weighted a
+ * little by the hero's own progress), 0 for a loss, and a progress/health estimate that is
+ * always below any win when the horizon runs out.
+ *
+ * Positions reached in the tree (right after the searching hero's action, keyed by
+ * {@link LegendsBoard#getZobristKey()} and depth) collect their playout rewards in a
+ * {@link TranspositionTable}. Once a position has {@code CUTOFF_VISITS} samples, expanding into
+ * it again reuses their mean instead of a new rollout, however the search got there.
+ *
+ * With several threads each worker searches its own {@link LegendsBoard#copy()} and the root
+ * visit counts are summed (root parallelisation). Copies hash alike, so the workers share one
+ * table. Teammates whose id is lower than the
+ * searching hero are assumed to have already acted this round.
+ * Instances are not safe for concurrent {@code chooseAction} calls.
+ */
+public class MctsHeroController implements HeroPolicy {
+    public static final long DEFAULT_BUDGET_MILLIS = 200;
+    public static final int DEFAULT_HORIZON = 20;
+    public static final double DEFAULT_EXPLORATION = Math.sqrt(2);
+
+    private static final double ROLLOUT_EPSILON = 0.2;
+    private static final double WIN_DISCOUNT = 0.95;
+    private static final int ACTION_COUNT = HeroAction.values().length;
+    private static final int TABLE_ENTRIES = 1 << 16;
+    private static final int CUTOFF_VISITS = 16;
+    private static final long DEPTH_SALT = 0x9E3779B97F4A7C15L;
+
+    private final HeroController heroController;
+    private final MonsterCatalog monsterCatalog;
+    private final long budgetNanos;
+    private final int threads;
+    private final int horizon;
+    private final double exploration;
+    private final Random seeds;
+    private final TranspositionTable table = new TranspositionTable(TABLE_ENTRIES);
+    private int lastPlayouts;
+
+    public MctsHeroController(HeroController heroController, List<Monster> monsterTemplates) {
+        this(heroController, monsterTemplates, DEFAULT_BUDGET_MILLIS, 1, DEFAULT_HORIZON, DEFAULT_EXPLORATION,
+            new Random());
+    }
+
+    public MctsHeroController(HeroController heroController, List<Monster> monsterTemplates, long budgetMillis,
+                              int threads, int horizon, double exploration, Random random) {
+        this.heroController = Objects.requireNonNull(heroController, "heroController");
+        Objects.requireNonNull(monsterTemplates, "monsterTemplates");
+        if (monsterTemplates.isEmpty()) {
+            throw new IllegalArgumentException("Monster templates must not be empty");
+        }
+        if (budgetMillis <= 0) {
+            throw new IllegalArgumentException("budgetMillis must be positive");
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads must be positive");
+        }
+        if (horizon <= 0) {
+            throw new IllegalArgumentException("horizon must be positive");
+        }
+        this.monsterCatalog = new MonsterCatalog(monsterTemplates);
+        this.budgetNanos = budgetMillis * 1_000_000L;
+        this.threads = threads;
+        this.horizon = horizon;
+        this.exploration = exploration;
+        this.seeds = Objects.requireNonNull(random, "random");
+    }
+
+    /**
+     * Searches from a fresh spawn cycle. Prefer the spawner-aware overload when one is available.
+     */
+    @Override
+    public void playTurn(LegendsBoard board, Hero hero) {
+        playTurn(board, new MonsterSpawner(), hero);
+    }
+
+    @Override
+    public void playTurn(LegendsBoard board, MonsterSpawner spawner, Hero hero) {
+        chooseAction(board, spawner, hero).apply(board, hero);
+    }
+
+    /**
+     * Runs the search for {@code hero} and returns the most visited root action.
+     * The board and spawner are left exactly as they were.
+     */
+    public HeroAction chooseAction(LegendsBoard board, MonsterSpawner spawner, Hero hero) {
+        Objects.requireNonNull(board, "board");
+        Objects.requireNonNull(spawner, "spawner");
+        Objects.requireNonNull(hero, "hero");
+        lastPlayouts = 0;
+        if (!board.getHeroPositions().containsKey(hero)) {
+            return HeroAction.END;
+        }
+        long deadline = System.nanoTime() + budgetNanos;
+        table.clear();
+        Optional<Integer> heroId = board.getHeroId(hero);
+        int workers = heroId.isPresent() ? threads : 1;
+
+        List<Search> searches = new ArrayList<>(workers);
+        searches.add(new Search(board, spawner, hero, seeds.nextLong()));
+        for (int i = 1; i < workers; i++) {
+            LegendsBoard copy = board.copy();
+            searches.add(new Search(copy, spawner, copy.getHeroById(heroId.get()).get(), seeds.nextLong()));
+        }
+
+        if (workers == 1) {
+            searches.get(0).run(deadline);
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(workers - 1);
+            try {
+                List<ForkJoinTask<?>> tasks = new ArrayList<>(workers - 1);
+                for (int i = 1; i < workers; i++) {
+                    Search search = searches.get(i);
+                    tasks.add(pool.submit(() -> search.run(deadline)));
+                }
+                searches.get(0).run(deadline);
+                for (ForkJoinTask<?> task : tasks) {
+                    task.join();
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        long[] visits = new long[ACTION_COUNT];
+        double[] rewards = new double[ACTION_COUNT];
+        for (Search search : searches) {
+            lastPlayouts += search.playouts;
+            for (int a = 0; a < ACTION_COUNT; a++) {
+                Node child = search.tree.children[a];
+                if (child != null) {
+                    visits[a] += child.visits;
+                    rewards[a] += child.reward;
+                }
+            }
+        }
+
+        HeroAction best = HeroAction.END;
+        for (HeroAction action : HeroAction.values()) {
+            int a = action.ordinal();
+            if (visits[a] == 0 || !action.isLegal(board, hero)) {
+                continue;
+            }
+            int b = best.ordinal();
+            if (visits[a] > visits[b]
+                || (visits[a] == visits[b] && rewards[a] / visits[a] > rewards[b] / Math.max(1, visits[b]))) {
+                best = action;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Number of playouts (summed over workers) behind the last decision.
+     */
+    public int getLastPlayouts() {
+        return lastPlayouts;
+    }
+
+    /** Table entries pack the sample count (high half) and the reward sum as a float (low half). */
+    private static long addSample(long entry, double reward) {
+        int visits = (int) (entry >>> 32) + 1;
+        float sum = Float.intBitsToFloat((int) entry) + (float) reward;
+        return ((long) visits << 32) | (Float.floatToRawIntBits(sum) & 0xFFFFFFFFL);
+    }
+
+    private static final class Node {
+        private final Node[] children = new Node[ACTION_COUNT];
+        private int visits;
+        private double reward;
+    }
+
+    /**
+     * One worker's tree plus everything it mutates: its board, spawner copies, RNG and monster AI.
+     */
+    private final class Search {
+        private final LegendsBoard board;
+        private final Hero hero;
+        private final BoardSnapshot root;
+        private final MonsterSpawner rootSpawner;
+        private final Random random;
+        private final MonsterAI monsterAI;
+        private final MonsterFactory factory;
+        private final AdvancePolicy defaultPolicy = new AdvancePolicy();
+        private final List<Hero> laterTeammates = new ArrayList<>();
+        private final List<Hero> allTeammates = new ArrayList<>();
+        private final List<Hero> livingHeroes = new ArrayList<>();
+        private final List<Node> path = new ArrayList<>();
+        private final HeroAction[] legal = new HeroAction[ACTION_COUNT];
+        private final long[] pathKeys = new long[horizon];
+        private final Node tree = new Node();
+        private int playouts;
+
+        private Search(LegendsBoard board, MonsterSpawner spawner, Hero hero, long seed) {
+            this.board = board;
+            this.hero = hero;
+            this.root = board.snapshot();
+            this.rootSpawner = spawner.copy();
+            this.random = new Random(seed);
+            this.monsterAI = new MonsterAI(heroController, random);
+            this.factory = (lane, level) -> monsterCatalog.spawnRandom(level, random);
+
+            for (Hero other : board.getHeroPositions().keySet()) {
+                if (other != hero) {
+                    allTeammates.add(other);
+                }
+            }
+            allTeammates.sort(Comparator.comparingInt(other -> board.getHeroId(other).orElse(Integer.MAX_VALUE)));
+            int ownId = board.getHeroId(hero).orElse(0);
+            for (Hero other : allTeammates) {
+                if (board.getHeroId(other).orElse(Integer.MAX_VALUE) > ownId) {
+                    laterTeammates.add(other);
+                }
+            }
+        }
+
+        private void run(long deadline) {
+            try {
+                do {
+                    playout();
+                    playouts++;
+                } while (System.nanoTime() < deadline);
+            } finally {
+                board.restore(root);
+            }
+        }
+
+        private void playout() {
+            board.restore(root);
+            MonsterSpawner spawner = rootSpawner.copy();
+            path.clear();
+            path.add(tree);
+            Node node = tree;
+            double reward = -1;
+            int round = 0;
+            boolean expanded = false;
+            while (reward < 0 && round < horizon && !expanded) {
+                int count = HeroAction.legalActions(board, hero, legal);
+                HeroAction action = select(node, count);
+                Node child = node.children[action.ordinal()];
+                if (child == null) {
+                    child = new Node();
+                    node.children[action.ordinal()] = child;
+                    expanded = true;
+                }
+                action.apply(board, hero);
+                long key = board.getZobristKey() ^ (round * DEPTH_SALT);
+                pathKeys[round] = key;
+                round++;
+                node = child;
+                path.add(child);
+                long entry = expanded ? table.get(key, 0L) : 0L;
+                if ((int) (entry >>> 32) >= CUTOFF_VISITS) {
+                    // Transposition: the position is already well sampled
+                    reward = Float.intBitsToFloat((int) entry) / (int) (entry >>> 32);
+                } else {
+                    reward = finishRound(spawner, round == 1 ? laterTeammates : allTeammates, round);
+                }
+            }
+            int keyed = round;
+            while (reward < 0 && round < horizon) {
+                rolloutTurn(hero);
+                round++;
+                reward = finishRound(spawner, allTeammates, round);
+            }
+            if (reward < 0) {
+                reward = evaluate();
+            }
+            for (Node visited : path) {
+                visited.visits++;
+                visited.reward += reward;
+            }
+            for (int i = 0; i < keyed; i++) {
+                table.put(pathKeys[i], addSample(table.get(pathKeys[i], 0L), reward));
+            }
+        }
+
+        /**
+         * Picks an untried legal action at random, otherwise the legal child with the best UCB1 score.
+         */
+        private HeroAction select(Node node, int count) {
+            int untried = 0;
+            for (int i = 0; i < count; i++) {
+                if (node.children[legal[i].ordinal()] == null) {
+                    untried++;
+                }
+            }
+            if (untried > 0) {
+                int pick = random.nextInt(untried);
+                for (int i = 0; i < count; i++) {
+                    if (node.children[legal[i].ordinal()] == null && pick-- == 0) {
+                        return legal[i];
+                    }
+                }
+            }
+            double logVisits = Math.log(Math.max(1, node.visits));
+            HeroAction best = legal[0];
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                Node child = node.children[legal[i].ordinal()];
+                double score = child.reward / child.visits + exploration * Math.sqrt(logVisits / child.visits);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = legal[i];
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Plays the rest of the round after the searching hero has acted.
+         *
+         * @return the terminal reward, or -1 if the match goes on
+         */
+        private double finishRound(MonsterSpawner spawner, List<Hero> teammates, int round) {
+            for (int i = 0; i < teammates.size(); i++) {
+                Hero teammate = teammates.get(i);
+                if (board.getHeroPositions().containsKey(teammate)) {
+                    rolloutTurn(teammate);
+                }
+            }
+            livingHeroes.clear();
+            for (Position position : board.getHeroPositions().values()) {
+                if (position.getRow() == 0) {
+                    return Math.pow(WIN_DISCOUNT, round) * (0.8 + 0.2 * progress());
+                }
+            }
+            livingHeroes.addAll(board.getHeroPositions().keySet());
+            spawner.onRoundStart(board, factory, livingHeroes, null);
+            monsterAI.performRound(board, null);
+            if (!board.getHeroPositions().containsKey(hero)) {
+                return 0.0;
+            }
+            int nexusRow = board.getSize() - 1;
+            for (Position position : board.getMonsterPositions().values()) {
+                if (position.getRow() == nexusRow) {
+                    return 0.0;
+                }
+            }
+            return -1;
+        }
+
+        private void rolloutTurn(Hero actor) {
+            if (random.nextDouble() < ROLLOUT_EPSILON) {
+                int count = HeroAction.legalActions(board, actor, legal);
+                legal[random.nextInt(count)].apply(board, actor);
+            } else {
+                defaultPolicy.playTurn(board, actor);
+            }
+        }
+
+        /**
+         * Horizon estimate: mostly distance travelled, partly remaining health, scaled so it never
+         * beats a win inside the horizon.
+         */
+        private double evaluate() {
+            double health = Math.min(1.0, hero.getHp() / (hero.getLevel() * GameConfig.HP_PER_LEVEL));
+            return Math.pow(WIN_DISCOUNT, horizon) * 0.8 * (0.2 + 0.6 * progress() + 0.2 * health);
+        }
+
+        /**
+         * Fraction of the board the searching hero has climbed. Also used to credit a team win to
+         * the heroes that pushed, since any one hero reaching the nexus ends the match.
+         */
+        private double progress() {
+            Position position = board.getHeroPositions().get(hero);
+            int lastRow = board.getSize() - 1;
+            return (double) (lastRow - position.getRow()) / lastRow;
+        }
+    }
+}
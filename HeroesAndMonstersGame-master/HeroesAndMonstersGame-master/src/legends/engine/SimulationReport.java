@@ -0,0 +1,83 @@
+package legends.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Aggregated results of a batch of simulated matches, including throughput.
+ */
+public class SimulationReport {
+    private final List<MatchResult> results;
+    private final long elapsedNanos;
+    private int heroWins;
+    private int monsterWins;
+    private int draws;
+    private long totalRounds;
+
+    public SimulationReport(List<MatchResult> results, long elapsedNanos) {
+        this.results = Collections.unmodifiableList(new ArrayList<>(results));
+        this.elapsedNanos = elapsedNanos;
+        for (MatchResult result : results) {
+            totalRounds += result.getRounds();
+            switch (result.getOutcome()) {
+                case HEROES_WIN:
+                    heroWins++;
+                    break;
+                case MONSTERS_WIN:
+                    monsterWins++;
+                    break;
+                default:
+                    draws++;
+                    break;
+            }
+        }
+    }
+
+    public List<MatchResult> getResults() {
+        return results;
+    }
+
+    public int getMatches() {
+        return results.size();
+    }
+
+    public int getHeroWins() {
+        return heroWins;
+    }
+
+    public int getMonsterWins() {
+        return monsterWins;
+    }
+
+    public int getDraws() {
+        return draws;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double heroWinRate() {
+        return results.isEmpty() ? 0.0 : (double) heroWins / results.size();
+    }
+
+    public double averageRounds() {
+        return results.isEmpty() ? 0.0 : (double) totalRounds / results.size();
+    }
+
+    public double matchesPerSecond() {
+        if (elapsedNanos <= 0) {
+            return 0.0;
+        }
+        return results.size() / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US,
+            "%d matches | heroes %d / monsters %d / draws %d | win rate %.2f%% | avg rounds %.1f | %.0f matches/sec",
+            getMatches(), heroWins, monsterWins, draws, heroWinRate() * 100, averageRounds(), matchesPerSecond());
+    }
+}
@@ -0,0 +1,74 @@
+package legends.engine;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Win/loss tally for one hero team across many seeded matches.
+ * Instances are merged by plain summation, so the totals do not depend on
+ * how the seeds were split between worker threads.
+ */
+public class TeamStats {
+    private final List<String> heroNames;
+    private long matches;
+    private long heroWins;
+    private long monsterWins;
+    private long draws;
+    private long roundsToWin;
+
+    public TeamStats(List<String> heroNames) {
+        this.heroNames = Collections.unmodifiableList(heroNames);
+    }
+
+    public void record(MatchResult result) {
+        matches++;
+        switch (result.getOutcome()) {
+            case HEROES_WIN:
+                heroWins++;
+                roundsToWin += result.getRounds();
+                break;
+            case MONSTERS_WIN:
+                monsterWins++;
+                break;
+            default:
+                draws++;
+                break;
+        }
+    }
+
+    public void merge(TeamStats other) {
+        matches += other.matches;
+        heroWins += other.heroWins;
+        monsterWins += other.monsterWins;
+        draws += other.draws;
+        roundsToWin += other.roundsToWin;
+    }
+
+    public List<String> getHeroNames() {
+        return heroNames;
+    }
+
+    public long getMatches() {
+        return matches;
+    }
+
+    public long getHeroWins() {
+        return heroWins;
+    }
+
+    public long getMonsterWins() {
+        return monsterWins;
+    }
+
+    public long getDraws() {
+        return draws;
+    }
+
+    public double winRate() {
+        return matches == 0 ? 0.0 : (double) heroWins / matches;
+    }
+
+    public double averageRoundsToWin() {
+        return heroWins == 0 ? 0.0 : (double) roundsToWin / heroWins;
+    }
+}
@@ -0,0 +1,71 @@
+package legends.engine;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size cache from 64-bit position keys (e.g. {@link legends.world.LegendsBoard#getZobristKey()})
+ * to 64-bit values, shared by search threads without locks.
+ *
+ * Each slot holds the value and {@code key ^ value}. A reader accepts a slot only if the two
+ * words still XOR to its key, so a slot torn by two writers racing, or taken over by another
+ * key, reads as a miss instead of a wrong value; empty slots XOR to a key that never maps to
+ * them. Writers always replace. Like any transposition table it is lossy: concurrent
+ * read-modify-write sequences may drop updates and colliding keys evict each other, which
+ * only costs search effort, never correctness of the values returned.
+ */
+public final class TranspositionTable {
+    private final AtomicLongArray checks;
+    private final AtomicLongArray values;
+    private final int mask;
+
+    /**
+     * @param entries minimum number of slots; rounded up to a power of two, at least 2
+     */
+    public TranspositionTable(int entries) {
+        if (entries <= 0 || entries > 1 << 30) {
+            throw new IllegalArgumentException("entries must be between 1 and 2^30");
+        }
+        int capacity = Math.max(2, Integer.highestOneBit(entries));
+        if (capacity < entries) {
+            capacity <<= 1;
+        }
+        this.checks = new AtomicLongArray(capacity);
+        this.values = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        clear();
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * The value last stored for {@code key}, or {@code absent} when it was never stored,
+     * has been evicted or is being overwritten right now.
+     */
+    public long get(long key, long absent) {
+        int slot = slot(key);
+        long value = values.getOpaque(slot);
+        return (checks.getOpaque(slot) ^ value) == key ? value : absent;
+    }
+
+    public void put(long key, long value) {
+        int slot = slot(key);
+        values.setOpaque(slot, value);
+        checks.setOpaque(slot, key ^ value);
+    }
+
+    /**
+     * Empties the table. Not atomic with respect to concurrent {@link #put} calls.
+     */
+    public void clear() {
+        for (int slot = 0; slot <= mask; slot++) {
+            values.setOpaque(slot, 0L);
+            checks.setOpaque(slot, slot ^ 1);
+        }
+    }
+
+    private int slot(long key) {
+        return (int) (key ^ (key >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,241 @@
+package legends.engine;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import controller.HeroController;
+import legends.ai.MonsterAI;
+import legends.ai.MonsterFactory;
+import legends.ai.MonsterSpawner;
+import legends.config.LegendsConfig;
+import legends.world.BoardSpec;
+import legends.world.LegendsBoard;
+import legends.world.Position;
+import model.MonsterCatalog;
+import model.entity.Hero;
+import model.entity.Monster;
+import model.entity.Paladin;
+import model.entity.Sorcerer;
+import model.entity.Warrior;
+import util.GameDataCatalog;
+
+/**
+ * Headless Legends of Valor engine for balance testing.
+ * Runs the same round structure as {@code LegendsOfValorController.gameLoop()}
+ * (hero phase, spawning, monster phase, pruning) with a scripted {@link HeroPolicy}
+ * instead of console input, and without rendering or building log strings.
+ *
+ * A match is won by the heroes when any hero reaches the monster nexus row, and by the
+ * monsters when every hero has fallen or a monster reaches the hero nexus row.
+ * Matches still running after {@code maxRounds} are recorded as draws.
+ */
+public class ValorSimulator {
+    private final List<Hero> team;
+    private final MonsterCatalog monsterCatalog;
+    private final HeroPolicy policy;
+    private final int maxRounds;
+    private final BoardSpec spec;
+    private final int laneThreads;
+    // One board per thread across all simulators, reset for each match instead of rebuilt
+    private static final ThreadLocal<LegendsBoard> BOARDS = new ThreadLocal<>();
+
+    private final HeroController heroController = new HeroController();
+
+    public ValorSimulator(List<Hero> team, List<Monster> monsterTemplates, HeroPolicy policy) {
+        this(team, monsterTemplates, policy, LegendsConfig.SIMULATION_MAX_ROUNDS);
+    }
+
+    public ValorSimulator(List<Hero> team, List<Monster> monsterTemplates, HeroPolicy policy, int maxRounds) {
+        this(team, monsterTemplates, policy, maxRounds, BoardSpec.DEFAULT);
+    }
+
+    /**
+     * @param spec board geometry for every match; heroes start in the first {@code team.size()} lanes
+     */
+    public ValorSimulator(List<Hero> team, List<Monster> monsterTemplates, HeroPolicy policy, int maxRounds,
+                          BoardSpec spec) {
+        this(team, monsterTemplates, policy, maxRounds, spec, 0);
+    }
+
+    /**
+     * @param laneThreads 0 plays the monster phase lane by lane on the match's {@code Random};
+     *                    1 or more switches to the lane-parallel {@link MonsterAI} mode (one split
+     *                    stream per lane, seeded from the match seed) on that many threads.
+     *                    Results then depend on the seed only, not on the thread count.
+     */
+    public ValorSimulator(List<Hero> team, List<Monster> monsterTemplates, HeroPolicy policy, int maxRounds,
+                          BoardSpec spec, int laneThreads) {
+        Objects.requireNonNull(team, "team");
+        Objects.requireNonNull(monsterTemplates, "monsterTemplates");
+        Objects.requireNonNull(spec, "spec");
+        if (team.isEmpty() || team.size() > spec.getLaneCount()) {
+            throw new IllegalArgumentException("Team must have between 1 and " + spec.getLaneCount() + " heroes");
+        }
+        if (monsterTemplates.isEmpty()) {
+            throw new IllegalArgumentException("Monster templates must not be empty");
+        }
+        if (maxRounds <= 0) {
+            throw new IllegalArgumentException("maxRounds must be positive");
+        }
+        if (laneThreads < 0) {
+            throw new IllegalArgumentException("laneThreads must not be negative");
+        }
+        this.team = Collections.unmodifiableList(new ArrayList<>(team));
+        this.monsterCatalog = new MonsterCatalog(monsterTemplates);
+        this.policy = Objects.requireNonNull(policy, "policy");
+        this.maxRounds = maxRounds;
+        this.spec = spec;
+        this.laneThreads = laneThreads;
+    }
+
+    /**
+     * Plays {@code matches} games with consecutive seeds starting at {@code firstSeed}.
+     */
+    public SimulationReport run(long firstSeed, int matches) {
+        List<MatchResult> results = new ArrayList<>(matches);
+        long start = System.nanoTime();
+        ForkJoinPool pool = newLanePool();
+        try {
+            for (int i = 0; i < matches; i++) {
+                results.add(play(boardFor(firstSeed + i), firstSeed + i, pool));
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+        return new SimulationReport(results, System.nanoTime() - start);
+    }
+
+    /**
+     * Plays one match to completion. The same seed always yields the same result.
+     */
+    public MatchResult runMatch(long seed) {
+        ForkJoinPool pool = newLanePool();
+        try {
+            return play(boardFor(seed), seed, pool);
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private ForkJoinPool newLanePool() {
+        return laneThreads > 1 ? new ForkJoinPool(laneThreads) : null;
+    }
+
+    private MatchResult play(LegendsBoard board, long seed, ForkJoinPool lanePool) {
+        Random random = new Random(seed);
+        MonsterAI monsterAI = (laneThreads == 0)
+            ? new MonsterAI(heroController, random)
+            : new MonsterAI(heroController, new SplittableRandom(seed), lanePool);
+        MonsterSpawner spawner = new MonsterSpawner();
+        MonsterFactory factory = (lane, level) -> monsterCatalog.spawnRandom(level, random);
+
+        List<Hero> heroes = new ArrayList<>(team.size());
+        for (Hero template : team) {
+            heroes.add(template.copy());
+        }
+        board.registerHeroes(heroes);
+        for (int lane = 0; lane < heroes.size(); lane++) {
+            board.addHero(heroes.get(lane), board.getHeroNexusEntry(lane));
+        }
+
+        for (int round = 1; round <= maxRounds; round++) {
+            for (int i = 0; i < heroes.size(); i++) {
+                policy.playTurn(board, spawner, heroes.get(i));
+            }
+            if (heroReachedNexus(board)) {
+                return result(seed, MatchOutcome.HEROES_WIN, round, heroes, board);
+            }
+            spawner.onRoundStart(board, factory, heroes, null);
+            monsterAI.performRound(board, null);
+            heroes.removeIf(hero -> hero.isFainted() || !board.getHeroId(hero).isPresent());
+            if (heroes.isEmpty() || monsterReachedNexus(board)) {
+                return result(seed, MatchOutcome.MONSTERS_WIN, round, heroes, board);
+            }
+        }
+        return result(seed, MatchOutcome.DRAW, maxRounds, heroes, board);
+    }
+
+    /**
+     * This thread's board, regenerated for {@code seed}; identical to {@code new LegendsBoard(spec, seed)}.
+     * The board is shared by every simulator the thread runs and only replaced when the spec changes.
+     */
+    private LegendsBoard boardFor(long seed) {
+        LegendsBoard board = BOARDS.get();
+        if (board == null || !board.getSpec().equals(spec)) {
+            board = new LegendsBoard(spec, seed);
+            BOARDS.set(board);
+        } else {
+            board.reset(seed);
+        }
+        return board;
+    }
+
+    private boolean heroReachedNexus(LegendsBoard board) {
+        for (Position position : board.getHeroPositions().values()) {
+            if (position.getRow() == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean monsterReachedNexus(LegendsBoard board) {
+        int nexusRow = board.getSize() - 1;
+        for (Position position : board.getMonsterPositions().values()) {
+            if (position.getRow() == nexusRow) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private MatchResult result(long seed, MatchOutcome outcome, int rounds, List<Hero> heroes, LegendsBoard board) {
+        return new MatchResult(seed, outcome, rounds, heroes.size(), board.getMonsterPositions().size());
+    }
+
+    /**
+     * Command line entry:
+     * {@code java legends.engine.ValorSimulator [matches] [firstSeed] [lanes] [laneWidth] [laneThreads] [connectedLanes]}.
+     * Fields the first Warrior, Sorcerer and Paladin against the full monster pool.
+     */
+    public static void main(String[] args) throws IOException {
+        int matches = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        long firstSeed = args.length > 1 ? Long.parseLong(args[1]) : 1L;
+        int lanes = args.length > 2 ? Integer.parseInt(args[2]) : LegendsConfig.LANES;
+        int laneWidth = args.length > 3 ? Integer.parseInt(args[3]) : LegendsConfig.LANE_WIDTH;
+        int laneThreads = args.length > 4 ? Integer.parseInt(args[4]) : 0;
+        boolean connectedLanes = args.length > 5 && Boolean.parseBoolean(args[5]);
+
+        GameDataCatalog catalog = GameDataCatalog.load();
+        List<Hero> roster = catalog.newHeroes();
+        List<Hero> team = new ArrayList<>();
+        team.add(firstOf(roster, Warrior.class));
+        team.add(firstOf(roster, Sorcerer.class));
+        team.add(firstOf(roster, Paladin.class));
+        List<Monster> monsters = catalog.newMonsters();
+
+        BoardSpec spec = new BoardSpec(lanes, laneWidth);
+        ValorSimulator simulator = new ValorSimulator(team, monsters, new AdvancePolicy(),
+                LegendsConfig.SIMULATION_MAX_ROUNDS, connectedLanes ? spec.withConnectedLanes() : spec, laneThreads);
+        System.out.println(simulator.run(firstSeed, matches));
+    }
+
+    private static Hero firstOf(List<Hero> roster, Class<? extends Hero> type) {
+        for (Hero hero : roster) {
+            if (type.isInstance(hero)) {
+                return hero;
+            }
+        }
+        throw new IllegalStateException("No " + type.getSimpleName() + " in the hero data");
+    }
+}
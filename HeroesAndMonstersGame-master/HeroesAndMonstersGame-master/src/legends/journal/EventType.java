@@ -0,0 +1,23 @@
+package legends.journal;
+
+/**
+ * Record tags of the binary journal. The tag byte is the ordinal, so only append new values.
+ */
+enum EventType {
+    HERO,
+    ROUND,
+    HERO_MOVE,
+    OBSTACLE_CLEAR,
+    MONSTER_SPAWN,
+    MONSTER_MOVE,
+    MONSTER_ATTACK;
+
+    private static final EventType[] VALUES = values();
+
+    static EventType fromTag(int tag) {
+        if (tag < 0 || tag >= VALUES.length) {
+            throw new IllegalStateException("Unknown journal event tag: " + tag);
+        }
+        return VALUES[tag];
+    }
+}
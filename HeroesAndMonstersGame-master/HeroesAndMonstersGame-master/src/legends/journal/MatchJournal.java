@@ -0,0 +1,177 @@
+package legends.journal;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import legends.world.BoardSpec;
+import legends.world.Direction;
+import legends.world.Position;
+import model.entity.Hero;
+import model.entity.Monster;
+
+/**
+ * Append-only binary journal of a Legends of Valor match, read back by {@link MatchReplayer}.
+ *
+ * Layout: a header (magic, version, board seed, lane count, lane width and whether lanes are
+ * {@link BoardSpec#withConnectedLanes() connected}) followed by tagged records, one per
+ * {@link EventType}. Records hold outcomes (positions, stats, damage) rather than text, so a
+ * replay never re-runs the AI. The stream is flushed at the start of every round, so a crash
+ * loses at most the round in progress; the buffer may also have written part of that round,
+ * possibly ending in a cut-off record, which {@link MatchReplayer} drops.
+ */
+public class MatchJournal implements MatchListener, Closeable {
+    static final int MAGIC = 0x4C564A31; // "LVJ1"
+    static final int VERSION = 2;
+
+    private final DataOutputStream out;
+
+    /**
+     * @param spec      geometry and generation rules of the recorded board
+     * @param boardSeed seed the board was generated from, as passed to {@code new LegendsBoard(spec, boardSeed)}
+     */
+    public MatchJournal(OutputStream out, BoardSpec spec, long boardSeed) {
+        Objects.requireNonNull(spec, "spec");
+        this.out = new DataOutputStream(new BufferedOutputStream(Objects.requireNonNull(out, "out")));
+        try {
+            this.out.writeInt(MAGIC);
+            this.out.writeShort(VERSION);
+            this.out.writeLong(boardSeed);
+            this.out.writeShort(spec.getLaneCount());
+            this.out.writeShort(spec.getLaneWidth());
+            this.out.writeBoolean(spec.hasConnectedLanes());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public static MatchJournal create(Path path, BoardSpec spec, long boardSeed) throws IOException {
+        return new MatchJournal(Files.newOutputStream(path), spec, boardSeed);
+    }
+
+    /**
+     * Records a hero's starting stats and position. Call once per hero, in registration order,
+     * before the first round.
+     */
+    public void heroRegistered(int heroId, Hero hero, Position start) {
+        try {
+            out.writeByte(EventType.HERO.ordinal());
+            out.writeShort(heroId);
+            writeString(hero.getClass().getSimpleName());
+            writeString(hero.getName());
+            out.writeInt(hero.getLevel());
+            out.writeDouble(hero.getHp());
+            out.writeDouble(hero.getMana());
+            out.writeDouble(hero.getStrength());
+            out.writeDouble(hero.getAgility());
+            out.writeDouble(hero.getDexterity());
+            out.writeDouble(hero.getGold());
+            out.writeDouble(hero.getExperience());
+            writePosition(start);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void roundStarted(int round) {
+        try {
+            out.writeByte(EventType.ROUND.ordinal());
+            out.writeInt(round);
+            out.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void heroMoved(int heroId, Direction direction) {
+        try {
+            out.writeByte(EventType.HERO_MOVE.ordinal());
+            out.writeShort(heroId);
+            out.writeByte(direction.ordinal());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void obstacleCleared(Position position) {
+        try {
+            out.writeByte(EventType.OBSTACLE_CLEAR.ordinal());
+            writePosition(position);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void monsterSpawned(int monsterId, Monster monster, Position position) {
+        try {
+            out.writeByte(EventType.MONSTER_SPAWN.ordinal());
+            out.writeInt(monsterId);
+            writeString(monster.getClass().getSimpleName());
+            writeString(monster.getName());
+            out.writeInt(monster.getLevel());
+            out.writeDouble(monster.getHp());
+            out.writeDouble(monster.getBaseDamage());
+            out.writeDouble(monster.getDefense());
+            out.writeDouble(monster.getDodgeChance());
+            writePosition(position);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void monsterMoved(int monsterId, Direction direction) {
+        try {
+            out.writeByte(EventType.MONSTER_MOVE.ordinal());
+            out.writeInt(monsterId);
+            out.writeByte(direction.ordinal());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void monsterAttacked(int monsterId, int heroId, double roll, boolean hit, double damage) {
+        try {
+            out.writeByte(EventType.MONSTER_ATTACK.ordinal());
+            out.writeInt(monsterId);
+            out.writeShort(heroId);
+            out.writeDouble(roll);
+            out.writeBoolean(hit);
+            out.writeDouble(damage);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void writePosition(Position position) throws IOException {
+        out.writeShort(position.getRow());
+        out.writeShort(position.getCol());
+    }
+
+    private void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,32 @@
+package legends.journal;
+
+import legends.world.Direction;
+import legends.world.Position;
+import model.entity.Monster;
+
+/**
+ * Receives every state-changing action of a Legends of Valor match as structured data.
+ * Monsters and heroes are identified by their board ids. Methods are only called for
+ * actions that actually changed the board.
+ */
+public interface MatchListener {
+    void roundStarted(int round);
+
+    void heroMoved(int heroId, Direction direction);
+
+    void obstacleCleared(Position position);
+
+    /**
+     * @param monster the freshly spawned monster with its final (scaled) stats
+     */
+    void monsterSpawned(int monsterId, Monster monster, Position position);
+
+    void monsterMoved(int monsterId, Direction direction);
+
+    /**
+     * @param roll   the dodge draw from the AI's random source
+     * @param hit    whether the hero failed to dodge
+     * @param damage damage applied to the hero, 0 on a miss
+     */
+    void monsterAttacked(int monsterId, int heroId, double roll, boolean hit, double damage);
+}
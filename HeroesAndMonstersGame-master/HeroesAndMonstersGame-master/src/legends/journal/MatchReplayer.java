@@ -0,0 +1,420 @@
+package legends.journal;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import legends.config.LegendsConfig;
+import legends.view.LegendsBoardRenderer;
+import legends.world.BoardSnapshot;
+import legends.world.BoardSpec;
+import legends.world.Direction;
+import legends.world.LegendsBoard;
+import legends.world.Position;
+import model.entity.Dragon;
+import model.entity.Exoskeleton;
+import model.entity.Hero;
+import model.entity.Monster;
+import model.entity.Paladin;
+import model.entity.Sorcerer;
+import model.entity.Spirit;
+import model.entity.StatModifiers;
+import model.entity.Warrior;
+
+/**
+ * Rebuilds board states from a {@link MatchJournal} without console output.
+ *
+ * The journal is indexed by round on load. {@link #seek(int)} rolls the board forward by
+ * re-applying recorded outcomes, and keeps a {@link BoardSnapshot} every
+ * {@value #CHECKPOINT_INTERVAL} rounds so that seeking backwards (or far ahead, once visited)
+ * only replays the rounds after the nearest checkpoint.
+ */
+public class MatchReplayer {
+    private static final int CHECKPOINT_INTERVAL = 16;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final ByteBuffer data;
+    private final long boardSeed;
+    private final BoardSpec spec;
+    private final int[] roundEnds;
+    private final LegendsBoard board;
+    private final List<Hero> heroes = new ArrayList<>();
+    private final BoardSnapshot[] checkpoints;
+    private final double[][] checkpointHeroStats;
+    private final StatModifiers[][] checkpointHeroModifiers;
+    private int currentRound;
+
+    public MatchReplayer(byte[] journal) {
+        this.data = ByteBuffer.wrap(journal);
+        try {
+            if (data.getInt() != MatchJournal.MAGIC) {
+                throw new IllegalArgumentException("Not a match journal");
+            }
+            int version = data.getShort();
+            if (version != MatchJournal.VERSION) {
+                throw new IllegalArgumentException("Unsupported journal version: " + version);
+            }
+            this.boardSeed = data.getLong();
+            this.spec = readSpec();
+            int setupStart = data.position();
+            this.roundEnds = indexRounds();
+            this.board = new LegendsBoard(spec, boardSeed);
+            data.position(setupStart);
+            replaySetup();
+        } catch (BufferUnderflowException ex) {
+            throw new IllegalArgumentException("Truncated match journal", ex);
+        }
+        this.checkpoints = new BoardSnapshot[getRoundCount() / CHECKPOINT_INTERVAL + 1];
+        this.checkpointHeroStats = new double[checkpoints.length][];
+        this.checkpointHeroModifiers = new StatModifiers[checkpoints.length][];
+        checkpoint(0);
+    }
+
+    public static MatchReplayer load(Path path) throws IOException {
+        return new MatchReplayer(Files.readAllBytes(path));
+    }
+
+    public long getBoardSeed() {
+        return boardSeed;
+    }
+
+    /**
+     * Spec of the recorded board, which the replay board is generated from.
+     */
+    public BoardSpec getSpec() {
+        return spec;
+    }
+
+    /**
+     * Number of rounds that were started in the journal (the last one may be incomplete, and a
+     * record cut off by a crash is left out).
+     */
+    public int getRoundCount() {
+        return roundEnds.length - 1;
+    }
+
+    public int getCurrentRound() {
+        return currentRound;
+    }
+
+    /**
+     * The replay board. It is reused and mutated by every {@link #seek(int)}.
+     */
+    public LegendsBoard getBoard() {
+        return board;
+    }
+
+    /**
+     * Heroes in registration order; their stats follow the board as it is replayed.
+     */
+    public List<Hero> getHeroes() {
+        return Collections.unmodifiableList(heroes);
+    }
+
+    /**
+     * Moves the board to the state at the end of {@code round}; round 0 is the starting position.
+     */
+    public LegendsBoard seek(int round) {
+        if (round < 0 || round > getRoundCount()) {
+            throw new IllegalArgumentException("Round out of range: " + round);
+        }
+        int checkpoint = round / CHECKPOINT_INTERVAL;
+        while (checkpoints[checkpoint] == null) {
+            checkpoint--;
+        }
+        int checkpointRound = checkpoint * CHECKPOINT_INTERVAL;
+        if (round < currentRound || checkpointRound > currentRound) {
+            board.restore(checkpoints[checkpoint]);
+            double[] stats = checkpointHeroStats[checkpoint];
+            StatModifiers[] modifiers = checkpointHeroModifiers[checkpoint];
+            for (int i = 0; i < heroes.size(); i++) {
+                Hero hero = heroes.get(i);
+                hero.setHp(stats[i * 4]);
+                hero.setStrength(stats[i * 4 + 1]);
+                hero.setAgility(stats[i * 4 + 2]);
+                hero.setDexterity(stats[i * 4 + 3]);
+                hero.setModifiers(modifiers[i]);
+                board.refreshHealth(hero);
+            }
+            currentRound = checkpointRound;
+        }
+        while (currentRound < round) {
+            replayRound(currentRound + 1);
+            currentRound++;
+            if (currentRound % CHECKPOINT_INTERVAL == 0 && checkpoints[currentRound / CHECKPOINT_INTERVAL] == null) {
+                checkpoint(currentRound / CHECKPOINT_INTERVAL);
+            }
+        }
+        return board;
+    }
+
+    /**
+     * Board snapshots leave out fallen heroes (they are no longer registered), so the stats a
+     * replay can change (terrain modifiers included) are kept for every hero alongside the snapshot.
+     */
+    private void checkpoint(int index) {
+        checkpoints[index] = board.snapshot();
+        double[] stats = new double[heroes.size() * 4];
+        StatModifiers[] modifiers = new StatModifiers[heroes.size()];
+        for (int i = 0; i < heroes.size(); i++) {
+            Hero hero = heroes.get(i);
+            stats[i * 4] = hero.getHp();
+            stats[i * 4 + 1] = hero.getStrength();
+            stats[i * 4 + 2] = hero.getAgility();
+            stats[i * 4 + 3] = hero.getDexterity();
+            modifiers[i] = hero.getModifiers();
+        }
+        checkpointHeroStats[index] = stats;
+        checkpointHeroModifiers[index] = modifiers;
+    }
+
+    /**
+     * Scans every record once, checking round numbers and remembering where each round ends.
+     * A record cut off at the end of the data (the journal was not closed, e.g. after a crash)
+     * is dropped together with anything after it.
+     */
+    private int[] indexRounds() {
+        List<Integer> ends = new ArrayList<>();
+        while (data.hasRemaining()) {
+            int start = data.position();
+            EventType type = EventType.fromTag(data.get());
+            try {
+                if (type == EventType.ROUND) {
+                    int round = data.getInt();
+                    if (round != ends.size() + 1) {
+                        throw new IllegalArgumentException("Expected round " + (ends.size() + 1) + " but found " + round);
+                    }
+                    ends.add(start);
+                } else {
+                    skip(type);
+                }
+            } catch (BufferUnderflowException ex) {
+                data.limit(start);
+                break;
+            }
+        }
+        int[] result = new int[ends.size() + 1];
+        for (int i = 0; i < ends.size(); i++) {
+            result[i] = ends.get(i);
+        }
+        result[ends.size()] = data.limit();
+        return result;
+    }
+
+    private void replaySetup() {
+        List<Position> starts = new ArrayList<>();
+        while (data.position() < roundEnds[0]) {
+            EventType type = EventType.fromTag(data.get());
+            if (type != EventType.HERO) {
+                throw new IllegalArgumentException("Unexpected " + type + " before the first round");
+            }
+            int heroId = data.getShort();
+            if (heroId != heroes.size() + 1) {
+                throw new IllegalArgumentException("Heroes must be recorded in id order");
+            }
+            String heroType = readString();
+            String name = readString();
+            int level = data.getInt();
+            double hp = data.getDouble();
+            double mana = data.getDouble();
+            double strength = data.getDouble();
+            double agility = data.getDouble();
+            double dexterity = data.getDouble();
+            double gold = data.getDouble();
+            double experience = data.getDouble();
+            Hero hero = createHero(heroType, name, mana, strength, agility, dexterity, gold, experience);
+            hero.setLevel(level);
+            hero.setHp(hp);
+            heroes.add(hero);
+            starts.add(readPosition());
+        }
+        board.registerHeroes(heroes);
+        for (int i = 0; i < heroes.size(); i++) {
+            board.addHero(heroes.get(i), starts.get(i));
+        }
+    }
+
+    private void replayRound(int round) {
+        data.position(roundEnds[round - 1]);
+        EventType.fromTag(data.get());
+        data.getInt();
+        while (data.position() < roundEnds[round]) {
+            apply(EventType.fromTag(data.get()));
+        }
+    }
+
+    private void apply(EventType type) {
+        switch (type) {
+            case HERO_MOVE: {
+                Hero hero = heroById(data.getShort());
+                if (!board.moveHero(hero, DIRECTIONS[data.get()])) {
+                    throw desync("hero move was rejected");
+                }
+                break;
+            }
+            case OBSTACLE_CLEAR:
+                board.clearObstacle(readPosition());
+                break;
+            case MONSTER_SPAWN: {
+                int monsterId = data.getInt();
+                String monsterType = readString();
+                String name = readString();
+                int level = data.getInt();
+                double hp = data.getDouble();
+                double damage = data.getDouble();
+                double defense = data.getDouble();
+                double dodge = data.getDouble();
+                Monster monster = createMonster(monsterType, name, level, damage, defense, dodge);
+                monster.setHp(hp);
+                board.addMonster(monster, readPosition());
+                if (board.getMonsterId(monster).orElse(-1) != monsterId) {
+                    throw desync("spawned monster got a different id than M" + monsterId);
+                }
+                break;
+            }
+            case MONSTER_MOVE: {
+                int monsterId = data.getInt();
+                Monster monster = board.getMonsterById(monsterId).orElseThrow(() -> desync("no monster M" + monsterId));
+                if (!board.moveMonster(monster, DIRECTIONS[data.get()])) {
+                    throw desync("monster move was rejected");
+                }
+                break;
+            }
+            case MONSTER_ATTACK: {
+                data.getInt();
+                Hero hero = heroById(data.getShort());
+                data.getDouble();
+                boolean hit = data.get() != 0;
+                double damage = data.getDouble();
+                if (hit) {
+                    hero.takeDamage(damage);
+                    board.refreshHealth(hero);
+                    if (hero.isFainted()) {
+                        board.removeHero(hero);
+                    }
+                }
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Unexpected " + type + " inside a round");
+        }
+    }
+
+    private void skip(EventType type) {
+        switch (type) {
+            case HERO:
+                data.getShort();
+                readString();
+                readString();
+                skipBytes(4 + 7 * 8 + 4);
+                break;
+            case HERO_MOVE:
+                skipBytes(3);
+                break;
+            case OBSTACLE_CLEAR:
+                skipBytes(4);
+                break;
+            case MONSTER_SPAWN:
+                data.getInt();
+                readString();
+                readString();
+                skipBytes(4 + 4 * 8 + 4);
+                break;
+            case MONSTER_MOVE:
+                skipBytes(5);
+                break;
+            case MONSTER_ATTACK:
+                skipBytes(4 + 2 + 8 + 1 + 8);
+                break;
+            default:
+                throw new IllegalStateException("Unhandled event " + type);
+        }
+    }
+
+    private void skipBytes(int count) {
+        if (data.remaining() < count) {
+            throw new BufferUnderflowException();
+        }
+        data.position(data.position() + count);
+    }
+
+    private Hero heroById(int heroId) {
+        return board.getHeroById(heroId).orElseThrow(() -> desync("no hero H" + heroId));
+    }
+
+    private IllegalStateException desync(String detail) {
+        return new IllegalStateException("Journal out of sync in round " + (currentRound + 1) + ": " + detail);
+    }
+
+    private BoardSpec readSpec() {
+        int lanes = data.getShort();
+        int laneWidth = data.getShort();
+        boolean connectedLanes = data.get() != 0;
+        BoardSpec recorded = new BoardSpec(lanes, laneWidth);
+        return connectedLanes ? recorded.withConnectedLanes() : recorded;
+    }
+
+    private Position readPosition() {
+        int row = data.getShort();
+        int col = data.getShort();
+        return board.positionAt(row, col);
+    }
+
+    private String readString() {
+        byte[] bytes = new byte[data.getShort()];
+        data.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Command line entry: {@code java legends.journal.MatchReplayer [journal] [round]}.
+     * Prints the board and hero status at the end of the round (default: the last one).
+     */
+    public static void main(String[] args) throws IOException {
+        Path path = Paths.get(args.length > 0 ? args[0] : LegendsConfig.JOURNAL_FILE);
+        MatchReplayer replayer = load(path);
+        int round = args.length > 1 ? Integer.parseInt(args[1]) : replayer.getRoundCount();
+        LegendsBoard board = replayer.seek(round);
+        System.out.println("Board seed " + replayer.getBoardSeed() + " on " + replayer.getSpec() + ", round " + round
+            + " of " + replayer.getRoundCount());
+        System.out.print(new LegendsBoardRenderer().renderToString(board));
+        for (Hero hero : replayer.getHeroes()) {
+            System.out.println(hero.getName() + " HP " + hero.getHp() + (board.getHeroId(hero).isPresent() ? "" : " (fallen)"));
+        }
+    }
+
+    private static Hero createHero(String type, String name, double mana, double strength, double agility,
+                                   double dexterity, double gold, double experience) {
+        switch (type) {
+            case "Warrior":
+                return new Warrior(name, mana, strength, agility, dexterity, gold, experience);
+            case "Sorcerer":
+                return new Sorcerer(name, mana, strength, agility, dexterity, gold, experience);
+            case "Paladin":
+                return new Paladin(name, mana, strength, agility, dexterity, gold, experience);
+            default:
+                throw new IllegalArgumentException("Unsupported hero type in journal: " + type);
+        }
+    }
+
+    private static Monster createMonster(String type, String name, int level, double damage, double defense,
+                                         double dodge) {
+        switch (type) {
+            case "Dragon":
+                return new Dragon(name, level, damage, defense, dodge);
+            case "Exoskeleton":
+                return new Exoskeleton(name, level, damage, defense, dodge);
+            case "Spirit":
+                return new Spirit(name, level, damage, defense, dodge);
+            default:
+                throw new IllegalArgumentException("Unsupported monster type in journal: " + type);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package legends.view;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 import legends.world.LegendsBoard;
@@ -10,61 +11,266 @@ import model.entity.Monster;
 
 /**
  * Responsible for terminal rendering of the Legends of Valor board.
+ *
+ * The frame is laid out once per board size in a char buffer whose grid lines never change;
+ * each render only rewrites the cell contents. In differential mode the renderer keeps the
+ * previously drawn frame and emits ANSI cursor-positioned writes for the cells that changed.
+ * The board is pinned to the top of the screen and the lines below it are made a scroll
+ * region, so prompts and logs scroll underneath without moving the board.
+ *
+ * Terrain is only re-read when the board's terrain revision changes; otherwise a render
+ * rewrites just the cells occupied now or at the previous render, so its cost follows the
+ * number of heroes and monsters rather than the board area.
  */
 public class LegendsBoardRenderer {
     private static final int CELL_WIDTH = 6;
+    private static final String ESC = "\u001B[";
+    private static final String SAVE_CURSOR = "\u001B7";
+    private static final String RESTORE_CURSOR = "\u001B8";
+
+    private final boolean differential;
+    private final StringBuilder out = new StringBuilder();
+    private int size = -1;
+    private int lineWidth;
+    private int lineCount;
+    private char[] frame;
+    private char[] previous;
+    private boolean drawn;
+    private LegendsBoard filledBoard;
+    private int filledRevision;
+    private boolean filledAll;
+    private boolean compareAll;
+    private int[] touched = new int[16];
+    private int touchedCount;
+    private int occupiedFrom;
+
+    public LegendsBoardRenderer() {
+        this(false);
+    }
+
+    /**
+     * @param differential true to redraw only changed cells with ANSI escapes; the terminal must support them
+     */
+    public LegendsBoardRenderer(boolean differential) {
+        this.differential = differential;
+    }
 
     public void render(LegendsBoard board) {
-        System.out.print(renderToString(board));
+        System.out.print(differential ? renderUpdate(board) : renderToString(board));
     }
 
+    /**
+     * Full plain-text frame, independent of the differential state.
+     */
     public String renderToString(LegendsBoard board) {
-        StringBuilder sb = new StringBuilder();
-        String horizontal = buildHorizontal(board.getSize());
-        for (int row = 0; row < board.getSize(); row++) {
-            sb.append(horizontal).append(System.lineSeparator());
-            for (int col = 0; col < board.getSize(); col++) {
-                Position position = new Position(row, col);
-                sb.append("|");
-                sb.append(formatCell(board, position));
-            }
-            sb.append("|").append(System.lineSeparator());
+        fillCells(board);
+        // the next differential render can no longer rely on touched cells alone
+        compareAll = true;
+        String separator = System.lineSeparator();
+        StringBuilder sb = new StringBuilder(lineCount * (lineWidth + separator.length()));
+        for (int line = 0; line < lineCount; line++) {
+            sb.append(frame, line * lineWidth, lineWidth).append(separator);
         }
-        sb.append(horizontal).append(System.lineSeparator());
         return sb.toString();
     }
 
-    private String formatCell(LegendsBoard board, Position position) {
+    /**
+     * ANSI sequence that brings the terminal from the last drawn frame to the current board:
+     * a full redraw the first time (or after {@link #invalidate()}), otherwise only changed cells.
+     * Returns an empty string when nothing changed.
+     */
+    public String renderUpdate(LegendsBoard board) {
+        fillCells(board);
+        out.setLength(0);
+        if (!drawn) {
+            out.append(ESC).append('r').append(ESC).append('H').append(ESC).append("2J");
+            for (int line = 0; line < lineCount; line++) {
+                out.append(frame, line * lineWidth, lineWidth).append(System.lineSeparator());
+            }
+            out.append(ESC).append(lineCount + 1).append(";r");
+            out.append(ESC).append(lineCount + 1).append(";1H");
+        } else if (filledAll || compareAll) {
+            for (int cell = 0; cell < size * size; cell++) {
+                appendIfChanged(cell);
+            }
+        } else {
+            for (int i = 0; i < touchedCount; i++) {
+                appendIfChanged(touched[i]);
+            }
+        }
+        if (out.length() > 0 && drawn) {
+            out.append(RESTORE_CURSOR);
+        }
+        if (!drawn || filledAll || compareAll) {
+            System.arraycopy(frame, 0, previous, 0, frame.length);
+        }
+        drawn = true;
+        compareAll = false;
+        return out.toString();
+    }
+
+    /**
+     * Emits a cursor move and the cell text when the cell differs from the drawn frame.
+     */
+    private void appendIfChanged(int cell) {
+        int line = 2 * (cell / size) + 1;
+        int col = cell % size;
+        int start = line * lineWidth + col * (CELL_WIDTH + 1) + 1;
+        if (!Arrays.equals(frame, start, start + CELL_WIDTH, previous, start, start + CELL_WIDTH)) {
+            if (out.length() == 0) {
+                out.append(SAVE_CURSOR);
+            }
+            out.append(ESC).append(line + 1).append(';').append(col * (CELL_WIDTH + 1) + 2).append('H');
+            out.append(frame, start, CELL_WIDTH);
+            System.arraycopy(frame, start, previous, start, CELL_WIDTH);
+        }
+    }
+
+    /**
+     * Forgets the drawn frame so the next differential render repaints everything,
+     * e.g. after something else cleared the screen.
+     */
+    public void invalidate() {
+        drawn = false;
+    }
+
+    /**
+     * Gives the whole screen back to normal scrolling output after differential rendering.
+     */
+    public void release() {
+        if (drawn) {
+            System.out.print(ESC + "r" + ESC + "999;1H");
+            drawn = false;
+        }
+    }
+
+    /**
+     * Brings the cell text up to date: every cell when the board, its size or its terrain
+     * changed, otherwise only the cells occupied last time and now. The cells rewritten in the
+     * second case are left in {@code touched}.
+     */
+    private void fillCells(LegendsBoard board) {
+        if (board.getSize() != size) {
+            layout(board.getSize());
+        }
+        filledAll = board != filledBoard || board.getTerrainRevision() != filledRevision;
+        if (filledAll) {
+            for (int row = 0; row < size; row++) {
+                for (int col = 0; col < size; col++) {
+                    formatCell(board, board.positionAt(row, col));
+                }
+            }
+            filledBoard = board;
+            filledRevision = board.getTerrainRevision();
+            touchedCount = 0;
+        } else {
+            // Cells occupied at the last render may have been vacated
+            System.arraycopy(touched, occupiedFrom, touched, 0, touchedCount - occupiedFrom);
+            touchedCount -= occupiedFrom;
+            for (int i = 0; i < touchedCount; i++) {
+                int cell = touched[i];
+                formatCell(board, board.positionAt(cell / size, cell % size));
+            }
+        }
+        occupiedFrom = touchedCount;
+        for (Position position : board.getHeroPositions().values()) {
+            touch(board, position);
+        }
+        for (Position position : board.getMonsterPositions().values()) {
+            touch(board, position);
+        }
+    }
+
+    private void touch(LegendsBoard board, Position position) {
+        if (touchedCount == touched.length) {
+            touched = Arrays.copyOf(touched, touchedCount * 2);
+        }
+        touched[touchedCount++] = position.getRow() * size + position.getCol();
+        formatCell(board, position);
+    }
+
+    /**
+     * Precomputes the static grid: horizontal borders and cell separators.
+     */
+    private void layout(int boardSize) {
+        size = boardSize;
+        lineWidth = size * (CELL_WIDTH + 1) + 1;
+        lineCount = 2 * size + 1;
+        frame = new char[lineWidth * lineCount];
+        for (int line = 0; line < lineCount; line++) {
+            boolean horizontal = line % 2 == 0;
+            for (int x = 0; x < lineWidth; x++) {
+                boolean corner = x % (CELL_WIDTH + 1) == 0;
+                char c;
+                if (horizontal) {
+                    c = corner ? '+' : '-';
+                } else {
+                    c = corner ? '|' : ' ';
+                }
+                frame[line * lineWidth + x] = c;
+            }
+        }
+        previous = frame.clone();
+        drawn = false;
+        filledBoard = null;
+        touchedCount = 0;
+        occupiedFrom = 0;
+    }
+
+    /**
+     * Writes the cell text into its slot in {@code frame}, truncated or space padded to fit.
+     */
+    private void formatCell(LegendsBoard board, Position position) {
+        int start = (2 * position.getRow() + 1) * lineWidth + position.getCol() * (CELL_WIDTH + 1) + 1;
+        int end = start + CELL_WIDTH;
         LegendsTile tile = board.getTile(position);
         Hero hero = tile.getHeroOccupant();
         Monster monster = tile.getMonsterOccupant();
         char baseSymbol = deriveBaseSymbol(tile);
 
-        String content;
+        int at = start;
         if (hero != null && monster != null) {
-            String heroToken = heroToken(board, hero);
-            String monsterToken = monsterToken(board, monster);
-            content = heroToken + "/" + monsterToken;
+            at = putToken('H', board.getHeroId(hero), at, end);
+            at = put('/', at, end);
+            at = putToken('M', board.getMonsterId(monster), at, end);
         } else if (hero != null) {
-            String heroToken = heroToken(board, hero);
-            content = heroToken + "-" + baseSymbol;
+            at = putToken('H', board.getHeroId(hero), at, end);
+            at = put('-', at, end);
+            at = put(baseSymbol, at, end);
         } else if (monster != null) {
-            String monsterToken = monsterToken(board, monster);
-            content = monsterToken + "-" + baseSymbol;
+            at = putToken('M', board.getMonsterId(monster), at, end);
+            at = put('-', at, end);
+            at = put(baseSymbol, at, end);
         } else {
-            content = " " + baseSymbol + " ";
+            at = put(' ', at, end);
+            at = put(baseSymbol, at, end);
+            at = put(' ', at, end);
+        }
+        if (at < end) {
+            Arrays.fill(frame, at, end, ' ');
         }
-        return pad(content, CELL_WIDTH);
     }
 
-    private String heroToken(LegendsBoard board, Hero hero) {
-        Optional<Integer> id = board.getHeroId(hero);
-        return "H" + id.orElse(0);
+    private int putToken(char prefix, Optional<Integer> id, int at, int end) {
+        at = put(prefix, at, end);
+        int value = id.orElse(0);
+        int digits = 1;
+        for (int v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        for (int i = digits - 1, v = value; i >= 0; i--, v /= 10) {
+            if (at + i < end) {
+                frame[at + i] = (char) ('0' + v % 10);
+            }
+        }
+        return at + digits;
     }
 
-    private String monsterToken(LegendsBoard board, Monster monster) {
-        Optional<Integer> id = board.getMonsterId(monster);
-        return "M" + id.orElse(0);
+    private int put(char c, int at, int end) {
+        if (at < end) {
+            frame[at] = c;
+        }
+        return at + 1;
     }
 
     private char deriveBaseSymbol(LegendsTile tile) {
@@ -78,27 +284,4 @@ public class LegendsBoardRenderer {
                 return tile.getTerrain().getSymbol();
         }
     }
-
-    private String pad(String value, int width) {
-        if (value.length() >= width) {
-            return value.substring(0, width);
-        }
-        StringBuilder sb = new StringBuilder(value);
-        while (sb.length() < width) {
-            sb.append(' ');
-        }
-        return sb.toString();
-    }
-
-    private String buildHorizontal(int size) {
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < size; i++) {
-            sb.append('+');
-            for (int j = 0; j < CELL_WIDTH; j++) {
-                sb.append('-');
-            }
-        }
-        sb.append('+');
-        return sb.toString();
-    }
 }
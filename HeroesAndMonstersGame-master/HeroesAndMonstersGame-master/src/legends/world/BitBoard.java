@@ -0,0 +1,31 @@
+package legends.world;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size set of board cells packed into 64-bit words, indexed row-major
+ * ({@code row * size + col}). An 8x8 board fits into a single {@code long}.
+ */
+final class BitBoard {
+    private final long[] words;
+
+    BitBoard(int cells) {
+        this.words = new long[(cells + 63) >>> 6];
+    }
+
+    void set(int index) {
+        words[index >>> 6] |= 1L << index;
+    }
+
+    void clear(int index) {
+        words[index >>> 6] &= ~(1L << index);
+    }
+
+    boolean get(int index) {
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    void clearAll() {
+        Arrays.fill(words, 0L);
+    }
+}
@@ -0,0 +1,138 @@
+package legends.world;
+
+import model.entity.Hero;
+import model.entity.Monster;
+import model.entity.StatModifiers;
+import model.item.Armor;
+import model.item.Weapon;
+
+/**
+ * Immutable, array-backed copy of a {@link LegendsBoard} game state: terrain, hero and
+ * monster placements and ids, the monster id counter, each hero's terrain modifiers and the
+ * mutable combat stats of every entity involved.
+ *
+ * Snapshots keep references to the original entity objects and are only valid for the
+ * board that produced them, until it is {@link LegendsBoard#reset(long) reset}.
+ * {@link LegendsBoard#restore(BoardSnapshot)} writes the captured stats back into those same
+ * objects. Hero inventories are not captured.
+ */
+public final class BoardSnapshot {
+    final LegendsBoard source;
+    /** {@link LegendsBoard} reset count at capture time. */
+    final int generation;
+    /** Cells whose generated obstacle had been cleared, in clearing order. */
+    final int[] clearedObstacles;
+
+    final Hero[] heroes;
+    final int[] heroCells;
+    final int[] heroIds;
+    final int[] heroLevels;
+    final double[] heroHp;
+    final double[] heroMana;
+    final double[] heroStrength;
+    final double[] heroAgility;
+    final double[] heroDexterity;
+    final double[] heroGold;
+    final double[] heroExperience;
+    final Weapon[] heroWeapons;
+    final Armor[] heroArmor;
+    final StatModifiers[] heroModifiers;
+
+    final Monster[] monsters;
+    final int[] monsterCells;
+    final int[] monsterIds;
+    final int[] monsterLevels;
+    final double[] monsterHp;
+    final double[] monsterDamage;
+    final double[] monsterDefense;
+    final double[] monsterDodge;
+
+    final int monsterIdCounter;
+
+    /**
+     * @param heroes     heroes on the board in placement order, followed by registered heroes off the board
+     * @param heroCells  cell index per hero, or -1 when off the board
+     * @param heroIds    registered id per hero, or 0 when unregistered
+     */
+    BoardSnapshot(LegendsBoard source, int generation, int[] clearedObstacles, Hero[] heroes, int[] heroCells, int[] heroIds,
+                  Monster[] monsters, int[] monsterCells, int[] monsterIds,
+                  int monsterIdCounter) {
+        this.source = source;
+        this.generation = generation;
+        this.clearedObstacles = clearedObstacles;
+        this.heroes = heroes;
+        this.heroCells = heroCells;
+        this.heroIds = heroIds;
+        this.monsters = monsters;
+        this.monsterCells = monsterCells;
+        this.monsterIds = monsterIds;
+        this.monsterIdCounter = monsterIdCounter;
+
+        int heroCount = heroes.length;
+        heroLevels = new int[heroCount];
+        heroHp = new double[heroCount];
+        heroMana = new double[heroCount];
+        heroStrength = new double[heroCount];
+        heroAgility = new double[heroCount];
+        heroDexterity = new double[heroCount];
+        heroGold = new double[heroCount];
+        heroExperience = new double[heroCount];
+        heroWeapons = new Weapon[heroCount];
+        heroArmor = new Armor[heroCount];
+        heroModifiers = new StatModifiers[heroCount];
+        for (int i = 0; i < heroCount; i++) {
+            Hero hero = heroes[i];
+            heroLevels[i] = hero.getLevel();
+            heroHp[i] = hero.getHp();
+            heroMana[i] = hero.getMana();
+            heroStrength[i] = hero.getStrength();
+            heroAgility[i] = hero.getAgility();
+            heroDexterity[i] = hero.getDexterity();
+            heroGold[i] = hero.getGold();
+            heroExperience[i] = hero.getExperience();
+            heroWeapons[i] = hero.getEquippedWeapon();
+            heroArmor[i] = hero.getEquippedArmor();
+            heroModifiers[i] = hero.getModifiers();
+        }
+
+        int monsterCount = monsters.length;
+        monsterLevels = new int[monsterCount];
+        monsterHp = new double[monsterCount];
+        monsterDamage = new double[monsterCount];
+        monsterDefense = new double[monsterCount];
+        monsterDodge = new double[monsterCount];
+        for (int i = 0; i < monsterCount; i++) {
+            Monster monster = monsters[i];
+            monsterLevels[i] = monster.getLevel();
+            monsterHp[i] = monster.getHp();
+            monsterDamage[i] = monster.getBaseDamage();
+            monsterDefense[i] = monster.getDefense();
+            monsterDodge[i] = monster.getDodgeChance();
+        }
+    }
+
+    void restoreEntityStats() {
+        for (int i = 0; i < heroes.length; i++) {
+            Hero hero = heroes[i];
+            hero.setLevel(heroLevels[i]);
+            hero.setHp(heroHp[i]);
+            hero.setMana(heroMana[i]);
+            hero.setStrength(heroStrength[i]);
+            hero.setAgility(heroAgility[i]);
+            hero.setDexterity(heroDexterity[i]);
+            hero.setGold(heroGold[i]);
+            hero.setExperience(heroExperience[i]);
+            hero.setEquippedWeapon(heroWeapons[i]);
+            hero.setEquippedArmor(heroArmor[i]);
+            hero.setModifiers(heroModifiers[i]);
+        }
+        for (int i = 0; i < monsters.length; i++) {
+            Monster monster = monsters[i];
+            monster.setLevel(monsterLevels[i]);
+            monster.setHp(monsterHp[i]);
+            monster.setBaseDamage(monsterDamage[i]);
+            monster.setDefense(monsterDefense[i]);
+            monster.setDodgeChance(monsterDodge[i]);
+        }
+    }
+}
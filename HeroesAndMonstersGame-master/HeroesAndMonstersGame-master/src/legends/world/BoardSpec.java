@@ -0,0 +1,129 @@
+package legends.world;
+
+import legends.config.LegendsConfig;
+
+/**
+ * Geometry of a Legends of Valor board: {@code lanes} lanes of {@code laneWidth} columns,
+ * separated by single inaccessible columns. The board is square, so its size is
+ * {@code lanes * laneWidth + lanes - 1}; the first and last rows are the nexus rows.
+ * Column layout is computed, never stored per cell.
+ *
+ * A spec can also ask for {@link #withConnectedLanes() connected lanes}, so that generated
+ * obstacles never wall a lane's monster nexus off from its hero nexus.
+ */
+public final class BoardSpec {
+    public static final int MAX_SIZE = 1024;
+
+    /** The assignment board: 3 lanes of 2 columns on an 8x8 grid. */
+    public static final BoardSpec DEFAULT = new BoardSpec(LegendsConfig.LANES, LegendsConfig.LANE_WIDTH);
+
+    private final int lanes;
+    private final int laneWidth;
+    private final int size;
+    private final boolean connectedLanes;
+
+    public BoardSpec(int lanes, int laneWidth) {
+        this(lanes, laneWidth, false);
+    }
+
+    private BoardSpec(int lanes, int laneWidth, boolean connectedLanes) {
+        if (lanes <= 0) {
+            throw new IllegalArgumentException("lanes must be positive");
+        }
+        if (laneWidth <= 0) {
+            throw new IllegalArgumentException("laneWidth must be positive");
+        }
+        long size = (long) lanes * (laneWidth + 1) - 1;
+        if (size < 3 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Board size " + size + " is outside [3, " + MAX_SIZE + "]");
+        }
+        this.lanes = lanes;
+        this.laneWidth = laneWidth;
+        this.size = (int) size;
+        this.connectedLanes = connectedLanes;
+    }
+
+    /**
+     * As many lanes of {@code laneWidth} as fit in a board of at most {@code maxSize} cells a side.
+     */
+    public static BoardSpec fitting(int maxSize, int laneWidth) {
+        if (laneWidth <= 0) {
+            throw new IllegalArgumentException("laneWidth must be positive");
+        }
+        return new BoardSpec(Math.max(1, (maxSize + 1) / (laneWidth + 1)), laneWidth);
+    }
+
+    /**
+     * The same geometry, with terrain generation that checks every lane for a path between the
+     * nexuses and re-deals only the lanes without one. Lanes that already connect keep the layout
+     * the unchecked spec deals for the same seed.
+     */
+    public BoardSpec withConnectedLanes() {
+        return connectedLanes ? this : new BoardSpec(lanes, laneWidth, true);
+    }
+
+    public boolean hasConnectedLanes() {
+        return connectedLanes;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getLaneCount() {
+        return lanes;
+    }
+
+    public int getLaneWidth() {
+        return laneWidth;
+    }
+
+    /**
+     * True for the inaccessible columns between lanes.
+     */
+    public boolean isSeparatorColumn(int col) {
+        return col >= 0 && col < size && (col + 1) % (laneWidth + 1) == 0;
+    }
+
+    /**
+     * Lane containing {@code col}, or -1 for separators and columns off the board.
+     */
+    public int laneOf(int col) {
+        if (col < 0 || col >= size || isSeparatorColumn(col)) {
+            return -1;
+        }
+        return col / (laneWidth + 1);
+    }
+
+    /**
+     * Column of the {@code slot}-th cell (from the left) of {@code lane}.
+     */
+    public int laneColumn(int lane, int slot) {
+        if (lane < 0 || lane >= lanes || slot < 0 || slot >= laneWidth) {
+            throw new IllegalArgumentException("No lane column " + lane + "/" + slot);
+        }
+        return lane * (laneWidth + 1) + slot;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BoardSpec)) {
+            return false;
+        }
+        BoardSpec other = (BoardSpec) o;
+        return lanes == other.lanes && laneWidth == other.laneWidth && connectedLanes == other.connectedLanes;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * lanes + laneWidth) + (connectedLanes ? 1 : 0);
+    }
+
+    @Override
+    public String toString() {
+        return size + "x" + size + " (" + lanes + " lanes of " + laneWidth + (connectedLanes ? ", connected" : "") + ")";
+    }
+}
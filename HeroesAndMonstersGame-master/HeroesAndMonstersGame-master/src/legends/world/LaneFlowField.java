@@ -0,0 +1,153 @@
+package legends.world;
+
+import java.util.Arrays;
+
+/**
+ * Number of steps from every cell of one lane to the lane's hero nexus row, over open
+ * terrain inside the lane, shared by all monsters in the lane. Heroes and monsters are not
+ * part of the field; they are stepped around at move time (see {@link #nextStep}), so moves,
+ * spawns and deaths never touch it and its cost does not grow with the number of monsters.
+ *
+ * The field is rebuilt with one breadth-first pass when first needed and after an obstacle is
+ * put back (by {@link LegendsBoard#restore}). Clearing an obstacle can only shorten paths, so
+ * it is applied incrementally: only cells whose distance drops are revisited.
+ */
+final class LaneFlowField {
+    static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    /** Tie-break among equally good steps: straight ahead first, then sideways, then back. */
+    static final Direction[] STEP_ORDER = {Direction.SOUTH, Direction.WEST, Direction.EAST, Direction.NORTH};
+
+    private final LegendsBoard board;
+    private final int size;
+    private final int firstColumn;
+    private final int width;
+    private final int[] distances;
+    private final int[] queue;
+    private boolean dirty = true;
+
+    LaneFlowField(LegendsBoard board, int[] columns) {
+        this.board = board;
+        this.size = board.getSize();
+        this.firstColumn = columns[0];
+        this.width = columns.length;
+        this.distances = new int[size * width];
+        this.queue = new int[size * width];
+    }
+
+    /**
+     * Steps from board cell {@code cell} to the hero nexus row, or {@link #UNREACHABLE}
+     * for blocked cells, cells walled off from the nexus and cells outside the lane.
+     */
+    int distance(int cell) {
+        int slot = cell % size - firstColumn;
+        if (slot < 0 || slot >= width) {
+            return UNREACHABLE;
+        }
+        refresh();
+        return distances[(cell / size) * width + slot];
+    }
+
+    /**
+     * Board cell one step from {@code cell} in {@code direction}, or -1 when that leaves the lane.
+     */
+    int neighbour(int cell, Direction direction) {
+        int row = cell / size + direction.deltaRow();
+        int slot = cell % size - firstColumn + direction.deltaCol();
+        if (row < 0 || row >= size || slot < 0 || slot >= width) {
+            return -1;
+        }
+        return row * size + firstColumn + slot;
+    }
+
+    /**
+     * First step in {@link #STEP_ORDER} from {@code cell} to a cell one closer to the hero
+     * nexus that {@code occupied} reports free, or null to wait.
+     */
+    Direction nextStep(int cell, Occupancy occupied) {
+        int here = distance(cell);
+        if (here == UNREACHABLE || here == 0) {
+            return null;
+        }
+        for (Direction direction : STEP_ORDER) {
+            int next = neighbour(cell, direction);
+            if (next >= 0 && distances[local(next)] == here - 1 && !occupied.isOccupied(next)) {
+                return direction;
+            }
+        }
+        return null;
+    }
+
+    /** Called after the terrain of {@code cell}, inside this lane, changed. */
+    void obstacleChanged(int cell, boolean obstacle) {
+        if (obstacle || dirty) {
+            dirty = true;
+            return;
+        }
+        int best = UNREACHABLE;
+        for (Direction direction : STEP_ORDER) {
+            int next = neighbour(cell, direction);
+            if (next >= 0) {
+                best = Math.min(best, distances[local(next)]);
+            }
+        }
+        if (best == UNREACHABLE) {
+            return;
+        }
+        distances[local(cell)] = best + 1;
+        queue[0] = cell;
+        propagate(1);
+    }
+
+    /** Schedules a rebuild, e.g. after the lane's terrain was regenerated. */
+    void invalidate() {
+        dirty = true;
+    }
+
+    /** Brings the field up to date if a rebuild is pending. */
+    void refresh() {
+        if (!dirty) {
+            return;
+        }
+        Arrays.fill(distances, UNREACHABLE);
+        int tail = 0;
+        int nexusRow = size - 1;
+        for (int slot = 0; slot < width; slot++) {
+            int cell = nexusRow * size + firstColumn + slot;
+            if (board.isOpenCell(cell)) {
+                distances[nexusRow * width + slot] = 0;
+                queue[tail++] = cell;
+            }
+        }
+        propagate(tail);
+        dirty = false;
+    }
+
+    /**
+     * Breadth-first relaxation from the {@code tail} cells already queued, lowering every
+     * open neighbour that can be reached in fewer steps.
+     */
+    private void propagate(int tail) {
+        int head = 0;
+        while (head < tail) {
+            int cell = queue[head++];
+            int reach = distances[local(cell)] + 1;
+            for (Direction direction : STEP_ORDER) {
+                int next = neighbour(cell, direction);
+                if (next >= 0 && distances[local(next)] > reach && board.isOpenCell(next)) {
+                    distances[local(next)] = reach;
+                    queue[tail++] = next;
+                }
+            }
+        }
+    }
+
+    private int local(int cell) {
+        return (cell / size) * width + cell % size - firstColumn;
+    }
+
+    /** Which cells a stepping monster has to go around. */
+    interface Occupancy {
+        boolean isOccupied(int cell);
+    }
+}
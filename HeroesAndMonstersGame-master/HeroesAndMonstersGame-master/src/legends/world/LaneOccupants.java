@@ -0,0 +1,103 @@
+package legends.world;
+
+import java.util.Arrays;
+
+/**
+ * Occupants of a single lane kept in descending cell order (bottom row first,
+ * right to left within a row). Updated incrementally by {@link LegendsBoard} on every
+ * place/move/remove so lane queries never sort. Filling a whole lane at once (restore, copy)
+ * goes through {@link #append} and a single {@link #sort()} instead of one insertion each.
+ */
+final class LaneOccupants<T> {
+    private Object[] items = new Object[4];
+    private int[] cells = new int[4];
+    private int count;
+
+    void add(T item, int cell) {
+        ensureCapacity();
+        int i = count;
+        while (i > 0 && cells[i - 1] < cell) {
+            items[i] = items[i - 1];
+            cells[i] = cells[i - 1];
+            i--;
+        }
+        items[i] = item;
+        cells[i] = cell;
+        count++;
+    }
+
+    /**
+     * Adds an occupant at the end, out of order; {@link #sort()} must run before the next query.
+     */
+    void append(T item, int cell) {
+        ensureCapacity();
+        items[count] = item;
+        cells[count] = cell;
+        count++;
+    }
+
+    /**
+     * Restores descending cell order after a run of {@link #append} calls. Cells are distinct,
+     * so each one is packed above its slot and the pairs are sorted as longs.
+     */
+    void sort() {
+        boolean sorted = true;
+        for (int i = 1; i < count && sorted; i++) {
+            sorted = cells[i - 1] > cells[i];
+        }
+        if (sorted) {
+            return;
+        }
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = ((long) cells[i] << 32) | i;
+        }
+        Arrays.sort(keys);
+        Object[] ordered = new Object[items.length];
+        for (int i = 0; i < count; i++) {
+            long key = keys[count - 1 - i];
+            ordered[i] = items[(int) key];
+            cells[i] = (int) (key >>> 32);
+        }
+        items = ordered;
+    }
+
+    private void ensureCapacity() {
+        if (count == items.length) {
+            items = Arrays.copyOf(items, count * 2);
+            cells = Arrays.copyOf(cells, count * 2);
+        }
+    }
+
+    boolean remove(T item) {
+        for (int i = 0; i < count; i++) {
+            if (items[i] == item) {
+                int tail = count - i - 1;
+                System.arraycopy(items, i + 1, items, i, tail);
+                System.arraycopy(cells, i + 1, cells, i, tail);
+                count--;
+                items[count] = null;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void clear() {
+        Arrays.fill(items, 0, count, null);
+        count = 0;
+    }
+
+    int size() {
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    T get(int i) {
+        return (T) items[i];
+    }
+
+    int cellAt(int i) {
+        return cells[i];
+    }
+}
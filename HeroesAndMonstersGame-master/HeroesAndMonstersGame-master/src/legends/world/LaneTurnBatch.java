@@ -0,0 +1,194 @@
+package legends.world;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import model.entity.Hero;
+import model.entity.Monster;
+
+/**
+ * Reusable turn list for one lane's monster phase, filled by
+ * {@link LegendsBoard#collectLaneTurns(int, int, LaneTurnBatch)}.
+ *
+ * The monsters come straight from the lane's row-ordered index, so no sorting or position
+ * lookups happen per turn. The heroes in range of every monster are found together in one
+ * merge pass over the lane's heroes, which are kept in the same order. Heroes do not move
+ * during the monster phase and each monster only moves on its own turn, so the candidate
+ * lists stay valid for the whole lane; heroes knocked off the board in the meantime are
+ * skipped by {@link #weakestTarget(int)}.
+ *
+ * Moves follow the lane's flow field, which is brought up to date when the lane is collected.
+ * Record every move with {@link #markMoved(int, Direction)} so that {@link #nextStep(int)}
+ * routes later turns around the monsters that moved. A lane can then also be planned without
+ * touching the board, e.g. on a worker thread while other lanes are planned elsewhere: record
+ * knockouts with {@link #markKnockedOut(Hero)} as well, and {@link #weakestTarget(int)} and
+ * {@link #nextStep(int)} answer as if the outcomes had already been applied.
+ */
+public final class LaneTurnBatch {
+    private LegendsBoard board;
+    private LaneFlowField field;
+    private final LaneFlowField.Occupancy occupancy = this::isOccupied;
+    private int count;
+    private Monster[] monsters = new Monster[8];
+    private int[] cells = new int[8];
+    // Candidates of turn i are heroes[candidateStart[i] .. candidateStart[i + 1]), in row-major order
+    private int[] candidateStart = new int[9];
+    private Hero[] heroes = new Hero[8];
+    private int[] heroCells = new int[8];
+    // Cell each turn's monster moved to, -1 while it has not moved
+    private int[] destinations = new int[8];
+    private Hero[] knockedOut = new Hero[4];
+    private int knockedOutCount;
+
+    /**
+     * Number of turns, i.e. monsters in the lane when it was collected.
+     */
+    public int size() {
+        return count;
+    }
+
+    public Monster getMonster(int turn) {
+        Objects.checkIndex(turn, count);
+        return monsters[turn];
+    }
+
+    /**
+     * The monster's position when the lane was collected, which is still its position when its turn comes.
+     */
+    public Position getPosition(int turn) {
+        Objects.checkIndex(turn, count);
+        return board.positionOf(cells[turn]);
+    }
+
+    /**
+     * Weakest hero still on the board within range of the monster, first in row-major order on
+     * ties (the same choice as scanning {@link LegendsBoard#heroesInRange}); null when none.
+     */
+    public Hero weakestTarget(int turn) {
+        Objects.checkIndex(turn, count);
+        Hero target = null;
+        for (int k = candidateStart[turn], end = candidateStart[turn + 1]; k < end; k++) {
+            Hero hero = heroes[k];
+            if (board.hasHeroAt(heroCells[k], hero) && !isKnockedOut(hero)
+                && (target == null || hero.getHp() < target.getHp())) {
+                target = hero;
+            }
+        }
+        return target;
+    }
+
+    /**
+     * The monster's step toward the hero nexus, as {@link LegendsBoard#nextMonsterStep} would
+     * choose it with the recorded outcomes of earlier turns applied; null to wait.
+     */
+    public Direction nextStep(int turn) {
+        Objects.checkIndex(turn, count);
+        return field.nextStep(cells[turn], occupancy);
+    }
+
+    /** Records that the monster of {@code turn} took {@code step}. */
+    public void markMoved(int turn, Direction step) {
+        Objects.checkIndex(turn, count);
+        int next = field.neighbour(cells[turn], step);
+        if (next < 0) {
+            throw new IllegalArgumentException("Step leaves the lane: " + step);
+        }
+        destinations[turn] = next;
+    }
+
+    /**
+     * Whether a standing hero or a monster is on {@code cell}. A monster is either still on the
+     * cell it was collected on, or moved there this lane from one of the four cells around it.
+     */
+    private boolean isOccupied(int cell) {
+        Hero hero = board.heroAt(cell);
+        if (hero != null && !isKnockedOut(hero)) {
+            return true;
+        }
+        int there = turnAt(cell);
+        if (there >= 0 && destinations[there] < 0) {
+            return true;
+        }
+        for (Direction direction : LaneFlowField.STEP_ORDER) {
+            int from = field.neighbour(cell, direction);
+            int mover = (from < 0) ? -1 : turnAt(from);
+            if (mover >= 0 && destinations[mover] == cell) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Binary search over the descending cells of the turns; -1 when absent. */
+    private int turnAt(int cell) {
+        int lo = 0;
+        int hi = count - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (cells[mid] > cell) {
+                lo = mid + 1;
+            } else if (cells[mid] < cell) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /** Records that {@code hero} left the board during this lane's turns. */
+    public void markKnockedOut(Hero hero) {
+        if (knockedOutCount == knockedOut.length) {
+            knockedOut = Arrays.copyOf(knockedOut, knockedOutCount * 2);
+        }
+        knockedOut[knockedOutCount++] = hero;
+    }
+
+    private boolean isKnockedOut(Hero hero) {
+        for (int i = 0; i < knockedOutCount; i++) {
+            if (knockedOut[i] == hero) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void reset(LegendsBoard source, LaneFlowField laneField, int monsterCount) {
+        Arrays.fill(monsters, 0, count, null);
+        Arrays.fill(heroes, 0, candidateStart[count], null);
+        Arrays.fill(knockedOut, 0, knockedOutCount, null);
+        board = source;
+        field = laneField;
+        // Planning threads then only read the field
+        field.refresh();
+        count = 0;
+        knockedOutCount = 0;
+        candidateStart[0] = 0;
+        if (monsters.length < monsterCount) {
+            monsters = new Monster[monsterCount];
+            cells = new int[monsterCount];
+            destinations = new int[monsterCount];
+            candidateStart = new int[monsterCount + 1];
+        }
+    }
+
+    void addTurn(Monster monster, int cell) {
+        monsters[count] = monster;
+        cells[count] = cell;
+        destinations[count] = -1;
+        count++;
+        candidateStart[count] = candidateStart[count - 1];
+    }
+
+    /** Adds a candidate to the most recently added turn. */
+    void addCandidate(Hero hero, int cell) {
+        int at = candidateStart[count];
+        if (at == heroes.length) {
+            heroes = Arrays.copyOf(heroes, at * 2);
+            heroCells = Arrays.copyOf(heroCells, at * 2);
+        }
+        heroes[at] = hero;
+        heroCells[at] = cell;
+        candidateStart[count] = at + 1;
+    }
+}
@@ -1,29 +1,66 @@
 package legends.world;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Random;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import legends.config.LegendsConfig;
 import legends.world.buff.TerrainBuffManager;
 import model.entity.Hero;
+import model.entity.LivingEntity;
 import model.entity.Monster;
+import model.store.EntityStore;
 
 /**
  * Responsible for constructing and maintaining the Legends of Valor board state.
  * The board enforces lane restrictions, terrain assignments, nexus placement,
  * obstacle rules, hero/monster occupancy, and terrain buff activation.
+ *
+ * Alongside the tile grid the board keeps {@link BitBoard} masks for hero and monster
+ * occupancy, each terrain type, inaccessible cells and both nexus rows, so that
+ * passability, range and spawn-slot queries are answered with mask lookups.
+ * Each lane additionally keeps its heroes and monsters in row order, maintained on every
+ * place/move/remove, so lane walks never scan or sort the whole board.
+ *
+ * The geometry comes from a {@link BoardSpec}. Only construction, {@link #reset(long)} and
+ * {@link #copy()} touch every cell, and only construction allocates the tiles; moves, spawns,
+ * lane queries and snapshots cost time in proportion to the occupants and the obstacles
+ * cleared, so boards up to {@link BoardSpec#MAX_SIZE} a side stay cheap.
+ *
+ * Each lane also has a {@link LaneFlowField} of step counts to the hero nexus, which monsters
+ * follow to route around obstacles. It depends on terrain only and is updated when an obstacle
+ * is cleared or restored, never per move.
+ *
+ * The board also keeps a 64-bit Zobrist key of its state (who stands where, their HP bucket,
+ * which monster it is and which obstacles are cleared), updated by XOR on every place, move, remove and clear, so
+ * searches can identify positions in O(1). The per-feature random numbers are derived by
+ * mixing the feature instead of read from a table, so every board, and every {@link #copy()},
+ * agrees on them without allocating a table per cell.
  */
 public class LegendsBoard {
+    private static final TerrainType[] TERRAIN_TYPES = TerrainType.values();
+    // Lane re-deal markers for cells not yet given a terrain ordinal
+    private static final byte UNDEALT = -1;
+    private static final byte ON_WALK = -2;
+    private static final long HERO_CELL = 1;
+    private static final long HERO_HEALTH = 2;
+    private static final long MONSTER_CELL = 3;
+    private static final long CLEARED_OBSTACLE = 4;
+    private static final long MONSTER_ID = 5;
+    private static final long MONSTER_KIND = 6;
+
+    private final BoardSpec spec;
     private final int size;
     private final LegendsTile[][] grid;
+    // Position.grid(size): canonical positions of every cell plus a one-cell border
+    private final Position[] positions;
     private final Random random;
     private final TerrainBuffManager buffManager = new TerrainBuffManager();
     private final Map<Hero, Position> heroPositions = new LinkedHashMap<>();
@@ -31,34 +68,95 @@ public class LegendsBoard {
     private final Map<Hero, Integer> heroIds = new LinkedHashMap<>();
     private final Map<Monster, Integer> monsterIds = new LinkedHashMap<>();
     private final int[][] laneColumns;
+    private final int[] columnLanes;
+    private final List<LaneOccupants<Hero>> laneHeroes = new ArrayList<>();
+    private final List<LaneOccupants<Monster>> laneMonsters = new ArrayList<>();
+    private final LaneFlowField[] flowFields;
+    private final LaneFlowField.Occupancy standing = this::isStanding;
+    private final BitBoard heroMask;
+    private final BitBoard monsterMask;
+    private final BitBoard inaccessibleMask;
+    private final BitBoard heroNexusMask;
+    private final BitBoard monsterNexusMask;
+    private final BitBoard[] terrainMasks;
+    private final int[] terrainCells;
+    private final byte[] terrainDeck;
+    private final byte[] dealtTerrain;
+    // Scratch for redealLane, sized for one lane on first use
+    private byte[] redealTargets;
+    private byte[] redealDeck;
+    private int[] redealFree;
+    private int[] clearedObstacles = new int[8];
+    private int clearedCount;
+    private int terrainRevision;
     private int monsterIdCounter = 1;
+    private int generation;
+    private long zobristKey;
+    // HP bucket the hero / monster on each cell was last hashed with
+    private final int[] heroBuckets;
+    private final int[] monsterBuckets;
+    // Id and stat features of the monster on each cell, as last hashed
+    private final long[] monsterIdentities;
 
     public LegendsBoard() {
         this(LegendsConfig.DEFAULT_RANDOM_SEED);
     }
 
     public LegendsBoard(long seed) {
-        this.size = LegendsConfig.BOARD_SIZE;
-        this.random = (seed == LegendsConfig.DEFAULT_RANDOM_SEED) ? new Random() : new Random(seed);
+        this(BoardSpec.DEFAULT, seed);
+    }
+
+    public LegendsBoard(BoardSpec spec, long seed) {
+        this(spec, (seed == LegendsConfig.DEFAULT_RANDOM_SEED) ? new Random() : new Random(seed));
+        generateTerrain();
+    }
+
+    /**
+     * Builds the fixed lane/nexus structure on an all-plain board without placing terrain.
+     */
+    private LegendsBoard(BoardSpec spec, Random random) {
+        this.spec = Objects.requireNonNull(spec, "spec");
+        this.size = spec.getSize();
+        this.random = random;
         this.grid = new LegendsTile[size][size];
+        this.positions = Position.grid(size);
         this.laneColumns = computeLaneColumns();
+        this.columnLanes = new int[size];
+        for (int col = 0; col < size; col++) {
+            columnLanes[col] = spec.laneOf(col);
+        }
+        for (int lane = 0; lane < laneColumns.length; lane++) {
+            laneHeroes.add(new LaneOccupants<>());
+            laneMonsters.add(new LaneOccupants<>());
+        }
+        this.flowFields = new LaneFlowField[laneColumns.length];
+        for (int lane = 0; lane < laneColumns.length; lane++) {
+            flowFields[lane] = new LaneFlowField(this, laneColumns[lane]);
+        }
+        int cells = size * size;
+        this.heroBuckets = new int[cells];
+        this.monsterBuckets = new int[cells];
+        this.monsterIdentities = new long[cells];
+        this.heroMask = new BitBoard(cells);
+        this.monsterMask = new BitBoard(cells);
+        this.inaccessibleMask = new BitBoard(cells);
+        this.heroNexusMask = new BitBoard(cells);
+        this.monsterNexusMask = new BitBoard(cells);
+        this.terrainMasks = new BitBoard[TerrainType.values().length];
+        for (int i = 0; i < terrainMasks.length; i++) {
+            terrainMasks[i] = new BitBoard(cells);
+        }
         initialiseStructure();
-        assignLaneTerrains();
+        this.terrainCells = computeTerrainCells();
+        this.terrainDeck = buildTerrainDeck(terrainCells.length);
+        this.dealtTerrain = new byte[terrainDeck.length];
     }
 
     private int[][] computeLaneColumns() {
-        int[][] columns = new int[LegendsConfig.LANES][LegendsConfig.LANE_WIDTH];
-        int laneIndex = 0;
-        int slot = 0;
-        for (int col = 0; col < size; col++) {
-            if (isInaccessibleColumn(col)) {
-                continue;
-            }
-            columns[laneIndex][slot] = col;
-            slot++;
-            if (slot == LegendsConfig.LANE_WIDTH) {
-                slot = 0;
-                laneIndex++;
+        int[][] columns = new int[spec.getLaneCount()][spec.getLaneWidth()];
+        for (int lane = 0; lane < columns.length; lane++) {
+            for (int slot = 0; slot < columns[lane].length; slot++) {
+                columns[lane][slot] = spec.laneColumn(lane, slot);
             }
         }
         return columns;
@@ -70,35 +168,169 @@ public class LegendsBoard {
                 TileOverlay overlay = resolveOverlay(row, col);
                 TerrainType baseTerrain = TerrainType.PLAIN;
                 grid[row][col] = new LegendsTile(baseTerrain, overlay);
+                int index = row * size + col;
+                terrainMasks[baseTerrain.ordinal()].set(index);
+                if (overlay == TileOverlay.INACCESSIBLE) {
+                    inaccessibleMask.set(index);
+                } else if (overlay == TileOverlay.HERO_NEXUS) {
+                    heroNexusMask.set(index);
+                } else if (overlay == TileOverlay.MONSTER_NEXUS) {
+                    monsterNexusMask.set(index);
+                }
             }
         }
     }
 
-    private void assignLaneTerrains() {
-        List<Position> candidates = new ArrayList<>();
+    /**
+     * Cells that receive generated terrain: every accessible cell between the two nexus rows,
+     * in row-major order.
+     */
+    private int[] computeTerrainCells() {
+        int[] cells = new int[Math.max(0, size - 2) * size];
+        int count = 0;
         for (int row = 1; row < size - 1; row++) {
             for (int col = 0; col < size; col++) {
-                if (isInaccessibleColumn(col)) {
-                    continue;
+                if (!spec.isSeparatorColumn(col) && grid[row][col].getOverlay() == TileOverlay.NONE) {
+                    cells[count++] = row * size + col;
                 }
-                LegendsTile tile = grid[row][col];
-                if (tile.getOverlay() == TileOverlay.NONE) {
-                    candidates.add(new Position(row, col));
+            }
+        }
+        return Arrays.copyOf(cells, count);
+    }
+
+    /**
+     * Deals the terrain and, when the spec asks for {@link BoardSpec#withConnectedLanes() connected
+     * lanes}, re-deals each lane that came out cut off from the hero nexus. Expects every flow
+     * field to be pending a rebuild.
+     */
+    private void generateTerrain() {
+        assignLaneTerrains();
+        if (spec.hasConnectedLanes()) {
+            for (int lane = 0; lane < laneColumns.length; lane++) {
+                if (!isLaneConnected(lane)) {
+                    redealLane(lane);
+                    flowFields[lane].invalidate();
                 }
             }
         }
-        List<TerrainType> distribution = buildTerrainDistribution(candidates.size());
-        Collections.shuffle(distribution, random);
-        for (int i = 0; i < candidates.size(); i++) {
-            Position pos = candidates.get(i);
-            TerrainType type = distribution.get(i);
-            grid[pos.getRow()][pos.getCol()] = new LegendsTile(type, TileOverlay.NONE);
+    }
+
+    /**
+     * Deals the shuffled terrain deck onto the terrain cells, replacing whatever terrain they had.
+     * The shuffle draws from {@code random} exactly as {@code Collections.shuffle} would over the
+     * same deck, so a seed yields the same layout as boards generated before the deck existed.
+     */
+    private void assignLaneTerrains() {
+        byte[] deal = dealtTerrain;
+        System.arraycopy(terrainDeck, 0, deal, 0, deal.length);
+        shuffle(deal, deal.length);
+        for (int i = 0; i < terrainCells.length; i++) {
+            setTerrain(terrainCells[i], TERRAIN_TYPES[deal[i]]);
         }
     }
 
-    private List<TerrainType> buildTerrainDistribution(int tiles) {
+    /**
+     * True when the lane's monster nexus reaches its hero nexus over open terrain. Costs one
+     * flood fill of the lane, which its flow field keeps for the monsters afterwards.
+     */
+    private boolean isLaneConnected(int lane) {
+        for (int col : laneColumns[lane]) {
+            // row 0, so the board cell index is the column
+            if (flowFields[lane].distance(col) != LaneFlowField.UNREACHABLE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Shuffles the lane's own terrain again, keeping its obstacles off a random walk from the
+     * first to the last row between the nexuses, so the lane is connected after a single pass
+     * and the rest of the board keeps its layout. The lane keeps its terrain counts unless more
+     * obstacles were dealt to it than fit beside the walk (always the case for one-column lanes);
+     * the extra obstacles become plain.
+     */
+    private void redealLane(int lane) {
+        int[] columns = laneColumns[lane];
+        int width = columns.length;
+        int cells = (size - 2) * width;
+        if (redealTargets == null) {
+            redealTargets = new byte[cells];
+            redealDeck = new byte[cells];
+            redealFree = new int[cells];
+        }
+        byte[] targets = redealTargets;
+        Arrays.fill(targets, 0, cells, UNDEALT);
+
+        int slot = random.nextInt(width);
+        for (int row = 0; row < size - 2; row++) {
+            targets[row * width + slot] = ON_WALK;
+            // Drift sideways now and then; a short walk leaves more room for the obstacles
+            if (width > 1 && random.nextInt(4) == 0) {
+                slot = (slot == 0) ? 1 : (slot == width - 1 || random.nextBoolean()) ? slot - 1 : slot + 1;
+                targets[row * width + slot] = ON_WALK;
+            }
+        }
+
+        int obstacles = 0;
+        int dealt = 0;
+        int free = 0;
+        for (int i = 0; i < cells; i++) {
+            TerrainType type = grid[1 + i / width][columns[i % width]].getTerrain();
+            if (type == TerrainType.OBSTACLE) {
+                obstacles++;
+            } else {
+                redealDeck[dealt++] = (byte) type.ordinal();
+            }
+            if (targets[i] == UNDEALT) {
+                redealFree[free++] = i;
+            }
+        }
+        int placed = Math.min(obstacles, free);
+        for (int i = 0; i < placed; i++) {
+            int pick = i + random.nextInt(free - i);
+            int cell = redealFree[pick];
+            redealFree[pick] = redealFree[i];
+            targets[cell] = (byte) TerrainType.OBSTACLE.ordinal();
+        }
+        for (int i = placed; i < obstacles; i++) {
+            redealDeck[dealt++] = (byte) TerrainType.PLAIN.ordinal();
+        }
+        shuffle(redealDeck, dealt);
+
+        int next = 0;
+        for (int i = 0; i < cells; i++) {
+            byte ordinal = targets[i] < 0 ? redealDeck[next++] : targets[i];
+            setTerrain((1 + i / width) * size + columns[i % width], TERRAIN_TYPES[ordinal]);
+        }
+    }
+
+    /** Fisher-Yates over the first {@code count} entries, drawing as {@code Collections.shuffle} does. */
+    private void shuffle(byte[] deck, int count) {
+        for (int i = count; i > 1; i--) {
+            int j = random.nextInt(i);
+            byte swap = deck[i - 1];
+            deck[i - 1] = deck[j];
+            deck[j] = swap;
+        }
+    }
+
+    private void setTerrain(int index, TerrainType type) {
+        LegendsTile tile = grid[index / size][index % size];
+        if (tile.getTerrain() != type) {
+            terrainMasks[tile.getTerrain().ordinal()].clear(index);
+            terrainMasks[type.ordinal()].set(index);
+            tile.setTerrain(type);
+        }
+    }
+
+    /**
+     * Terrain ordinals in the configured ratios, grouped by type. Can hold a few more entries
+     * than {@code tiles} when every type is rounded up to one; only the first {@code tiles} are dealt.
+     */
+    private static byte[] buildTerrainDeck(int tiles) {
         if (tiles <= 0) {
-            return Collections.emptyList();
+            return new byte[0];
         }
         int plain = Math.max(1, (int) Math.round(tiles * LegendsConfig.PLAIN_RATIO));
         int bush = Math.max(1, (int) Math.round(tiles * LegendsConfig.BUSH_RATIO));
@@ -114,19 +346,18 @@ public class LegendsBoard {
             }
         }
 
-        List<TerrainType> result = new ArrayList<>(tiles);
-        addRepeated(result, TerrainType.PLAIN, plain);
-        addRepeated(result, TerrainType.BUSH, bush);
-        addRepeated(result, TerrainType.CAVE, cave);
-        addRepeated(result, TerrainType.KOULOU, koulou);
-        addRepeated(result, TerrainType.OBSTACLE, obstacle);
-        return result;
+        byte[] deck = new byte[plain + bush + cave + koulou + obstacle];
+        int at = fill(deck, 0, TerrainType.PLAIN, plain);
+        at = fill(deck, at, TerrainType.BUSH, bush);
+        at = fill(deck, at, TerrainType.CAVE, cave);
+        at = fill(deck, at, TerrainType.KOULOU, koulou);
+        fill(deck, at, TerrainType.OBSTACLE, obstacle);
+        return deck;
     }
 
-    private void addRepeated(List<TerrainType> list, TerrainType type, int count) {
-        for (int i = 0; i < count; i++) {
-            list.add(type);
-        }
+    private static int fill(byte[] deck, int from, TerrainType type, int count) {
+        Arrays.fill(deck, from, from + count, (byte) type.ordinal());
+        return from + count;
     }
 
     private TileOverlay resolveOverlay(int row, int col) {
@@ -136,25 +367,27 @@ public class LegendsBoard {
         if (row == size - 1) {
             return TileOverlay.HERO_NEXUS;
         }
-        if (isInaccessibleColumn(col)) {
+        if (spec.isSeparatorColumn(col)) {
             return TileOverlay.INACCESSIBLE;
         }
         return TileOverlay.NONE;
     }
 
-    private boolean isInaccessibleColumn(int col) {
-        for (int blocked : LegendsConfig.INACCESSIBLE_COLUMNS) {
-            if (col == blocked) {
-                return true;
-            }
-        }
-        return false;
+    public BoardSpec getSpec() {
+        return spec;
     }
 
     public int getSize() {
         return size;
     }
 
+    /**
+     * Changes whenever the terrain of any cell changes, so views can cache the static layer.
+     */
+    public int getTerrainRevision() {
+        return terrainRevision;
+    }
+
     public LegendsTile getTile(Position position) {
         Objects.requireNonNull(position, "position");
         if (!isInside(position)) {
@@ -168,12 +401,85 @@ public class LegendsBoard {
             && position.getCol() >= 0 && position.getCol() < size;
     }
 
+    private int indexOf(Position position) {
+        return position.getRow() * size + position.getCol();
+    }
+
+    Position positionOf(int index) {
+        return positions[(index / size + 1) * (size + 2) + index % size + 1];
+    }
+
+    /**
+     * Same value as {@link Position#of(int, int)}, but served from this board's position table, so
+     * looking up cells of a board larger than the default does not allocate. Coordinates more than
+     * one cell outside the board still get a fresh instance.
+     */
+    public Position positionAt(int row, int col) {
+        int span = size + 2;
+        if (row >= -1 && row <= size && col >= -1 && col <= size) {
+            return positions[(row + 1) * span + col + 1];
+        }
+        return Position.of(row, col);
+    }
+
+    /**
+     * The cell one step from {@code position} in {@code direction}, which may lie outside the board.
+     */
+    public Position neighbour(Position position, Direction direction) {
+        return positionAt(position.getRow() + direction.deltaRow(), position.getCol() + direction.deltaCol());
+    }
+
+    /** True when {@code hero} is still standing on cell {@code index}. */
+    boolean hasHeroAt(int index, Hero hero) {
+        return heroMask.get(index) && grid[index / size][index % size].getHeroOccupant() == hero;
+    }
+
+    /** Hero on cell {@code index}, or null. */
+    Hero heroAt(int index) {
+        return heroMask.get(index) ? grid[index / size][index % size].getHeroOccupant() : null;
+    }
+
+    /** True when a monster may stand on cell {@code index} as far as terrain goes. */
+    boolean isOpenCell(int index) {
+        return !isBlocked(index);
+    }
+
+    /** True when a hero or a monster stands on cell {@code index}. */
+    private boolean isStanding(int index) {
+        return heroMask.get(index) || monsterMask.get(index);
+    }
+
+    private boolean isBlocked(int index) {
+        return inaccessibleMask.get(index) || terrainMasks[TerrainType.OBSTACLE.ordinal()].get(index);
+    }
+
+    /**
+     * True when the cell is on the board, accessible and not an obstacle.
+     * Heroes and monsters share the same passability rules.
+     */
+    public boolean isPassable(Position position) {
+        return isInside(position) && !isBlocked(indexOf(position));
+    }
+
+    public boolean hasTerrain(Position position, TerrainType terrain) {
+        return isInside(position) && terrainMasks[terrain.ordinal()].get(indexOf(position));
+    }
+
+    public boolean hasHero(Position position) {
+        return isInside(position) && heroMask.get(indexOf(position));
+    }
+
+    public boolean hasMonster(Position position) {
+        return isInside(position) && monsterMask.get(indexOf(position));
+    }
+
     public void registerHeroes(List<Hero> heroes) {
         heroIds.clear();
         int id = 1;
         for (Hero hero : heroes) {
             heroIds.put(hero, id++);
         }
+        rehash();
     }
 
     public void addHero(Hero hero, Position position) {
@@ -185,7 +491,7 @@ public class LegendsBoard {
         if (current == null) {
             throw new IllegalStateException("Hero not on board: " + hero.getName());
         }
-        Position target = current.translate(direction.deltaRow(), direction.deltaCol());
+        Position target = neighbour(current, direction);
         return placeHero(hero, target, false);
     }
 
@@ -193,22 +499,36 @@ public class LegendsBoard {
         if (!isInside(target)) {
             return false;
         }
-        LegendsTile tile = getTile(target);
-        if (!tile.isHeroPassable()) {
+        int index = indexOf(target);
+        if (isBlocked(index)) {
             return false;
         }
-        if (!initial && tile.getHeroOccupant() != null && tile.getHeroOccupant() != hero) {
+        LegendsTile tile = grid[target.getRow()][target.getCol()];
+        if (!initial && heroMask.get(index) && tile.getHeroOccupant() != hero) {
             return false;
         }
 
         Position previous = heroPositions.get(hero);
+        int id = heroIds.getOrDefault(hero, 0);
+        int bucket;
         if (previous != null) {
             LegendsTile previousTile = getTile(previous);
             previousTile.setHeroOccupant(null);
-            buffManager.removeBuff(hero);
+            heroMask.clear(indexOf(previous));
+            unindex(laneHeroes, previous, hero);
+            bucket = heroBuckets[indexOf(previous)];
+            zobristKey ^= zobrist(HERO_CELL, id, indexOf(previous));
+        } else {
+            bucket = healthBucket(hero);
+            zobristKey ^= zobrist(HERO_HEALTH, id, bucket);
         }
+        heroBuckets[index] = bucket;
+        zobristKey ^= zobrist(HERO_CELL, id, index);
         tile.setHeroOccupant(hero);
+        heroMask.set(index);
+        reindex(laneHeroes, target, hero, index);
         heroPositions.put(hero, target);
+        // No-op when the hero already carries this terrain's modifiers
         buffManager.applyBuff(hero, tile.getTerrain());
         return true;
     }
@@ -218,7 +538,11 @@ public class LegendsBoard {
         if (pos != null) {
             LegendsTile tile = getTile(pos);
             tile.setHeroOccupant(null);
+            heroMask.clear(indexOf(pos));
+            unindex(laneHeroes, pos, hero);
             buffManager.removeBuff(hero);
+            int id = heroIds.getOrDefault(hero, 0);
+            zobristKey ^= zobrist(HERO_CELL, id, indexOf(pos)) ^ zobrist(HERO_HEALTH, id, heroBuckets[indexOf(pos)]);
         }
         heroIds.remove(hero);
     }
@@ -232,7 +556,7 @@ public class LegendsBoard {
         if (current == null) {
             throw new IllegalStateException("Monster not on board: " + monster.getName());
         }
-        Position target = current.translate(direction.deltaRow(), direction.deltaCol());
+        Position target = neighbour(current, direction);
         return placeMonster(monster, target, false);
     }
 
@@ -240,30 +564,56 @@ public class LegendsBoard {
         if (!isInside(target)) {
             return false;
         }
-        LegendsTile tile = getTile(target);
-        if (!tile.isMonsterPassable()) {
+        int index = indexOf(target);
+        if (isBlocked(index)) {
             return false;
         }
-        if (tile.getMonsterOccupant() != null && tile.getMonsterOccupant() != monster) {
+        LegendsTile tile = grid[target.getRow()][target.getCol()];
+        if (monsterMask.get(index) && tile.getMonsterOccupant() != monster) {
             return false;
         }
-        if (!initial && tile.getHeroOccupant() != null && !Objects.equals(monsterPositions.get(monster), target)) {
+        if (!initial && heroMask.get(index) && !Objects.equals(monsterPositions.get(monster), target)) {
             // A hero blocks forward progression - sharing is allowed but we do not skip heroes
             // by moving beyond them in a single turn.
         }
 
         Position previous = monsterPositions.get(monster);
+        int bucket;
         if (previous != null) {
             LegendsTile previousTile = getTile(previous);
             previousTile.setMonsterOccupant(null);
+            monsterMask.clear(indexOf(previous));
+            unindex(laneMonsters, previous, monster);
+            bucket = monsterBuckets[indexOf(previous)];
+            zobristKey ^= zobrist(MONSTER_CELL, indexOf(previous), bucket) ^ monsterIdentities[indexOf(previous)];
         } else {
             assignMonsterId(monster);
+            bucket = healthBucket(monster);
         }
+        monsterBuckets[index] = bucket;
+        monsterIdentities[index] = monsterIdentity(monster, index);
+        zobristKey ^= zobrist(MONSTER_CELL, index, bucket) ^ monsterIdentities[index];
         tile.setMonsterOccupant(monster);
+        monsterMask.set(index);
+        reindex(laneMonsters, target, monster, index);
         monsterPositions.put(monster, target);
         return true;
     }
 
+    private <T> void reindex(List<LaneOccupants<T>> lanes, Position position, T occupant, int index) {
+        int lane = laneIndex(position);
+        if (lane >= 0) {
+            lanes.get(lane).add(occupant, index);
+        }
+    }
+
+    private <T> void unindex(List<LaneOccupants<T>> lanes, Position position, T occupant) {
+        int lane = laneIndex(position);
+        if (lane >= 0) {
+            lanes.get(lane).remove(occupant);
+        }
+    }
+
     private void assignMonsterId(Monster monster) {
         monsterIds.putIfAbsent(monster, monsterIdCounter++);
     }
@@ -273,6 +623,10 @@ public class LegendsBoard {
         if (pos != null) {
             LegendsTile tile = getTile(pos);
             tile.setMonsterOccupant(null);
+            monsterMask.clear(indexOf(pos));
+            unindex(laneMonsters, pos, monster);
+            int cell = indexOf(pos);
+            zobristKey ^= zobrist(MONSTER_CELL, cell, monsterBuckets[cell]) ^ monsterIdentities[cell];
         }
         monsterIds.remove(monster);
     }
@@ -289,19 +643,34 @@ public class LegendsBoard {
         return Optional.ofNullable(heroIds.get(hero));
     }
 
+    public Optional<Hero> getHeroById(int id) {
+        for (Map.Entry<Hero, Integer> entry : heroIds.entrySet()) {
+            if (entry.getValue() == id) {
+                return Optional.of(entry.getKey());
+            }
+        }
+        return Optional.empty();
+    }
+
     public Optional<Integer> getMonsterId(Monster monster) {
         return Optional.ofNullable(monsterIds.get(monster));
     }
 
-    public int laneIndex(Position position) {
-        for (int lane = 0; lane < laneColumns.length; lane++) {
-            for (int col : laneColumns[lane]) {
-                if (col == position.getCol()) {
-                    return lane;
-                }
+    public Optional<Monster> getMonsterById(int id) {
+        for (Map.Entry<Monster, Integer> entry : monsterIds.entrySet()) {
+            if (entry.getValue() == id) {
+                return Optional.of(entry.getKey());
             }
         }
-        return -1;
+        return Optional.empty();
+    }
+
+    public int laneIndex(Position position) {
+        int col = position.getCol();
+        if (col < 0 || col >= size) {
+            return -1;
+        }
+        return columnLanes[col];
     }
 
     public int[][] getLaneColumns() {
@@ -318,36 +687,479 @@ public class LegendsBoard {
 
     public Position getMonsterNexusEntry(int laneIndex) {
         validateLaneIndex(laneIndex);
-        return new Position(0, laneColumns[laneIndex][0]);
+        return positionAt(0, laneColumns[laneIndex][0]);
     }
 
     public Position getHeroNexusEntry(int laneIndex) {
         validateLaneIndex(laneIndex);
-        return new Position(size - 1, laneColumns[laneIndex][0]);
+        return positionAt(size - 1, laneColumns[laneIndex][0]);
     }
 
+    /**
+     * Heroes in the same lane within {@code range} (Manhattan distance), in row-major order.
+     */
     public List<Hero> heroesInRange(Position from, int range) {
         int lane = laneIndex(from);
         if (lane < 0) {
             return Collections.emptyList();
         }
-        List<Hero> inRange = new ArrayList<>();
-        for (Map.Entry<Hero, Position> entry : heroPositions.entrySet()) {
-            Position pos = entry.getValue();
-            if (laneIndex(pos) != lane) {
-                continue;
-            }
-            int delta = Math.abs(pos.getRow() - from.getRow()) + Math.abs(pos.getCol() - from.getCol());
+        LaneOccupants<Hero> heroes = laneHeroes.get(lane);
+        List<Hero> inRange = null;
+        for (int i = heroes.size() - 1; i >= 0; i--) {
+            int index = heroes.cellAt(i);
+            int delta = Math.abs(index / size - from.getRow()) + Math.abs(index % size - from.getCol());
             if (delta <= range) {
-                inRange.add(entry.getKey());
+                if (inRange == null) {
+                    inRange = new ArrayList<>(2);
+                }
+                inRange.add(heroes.get(i));
+            }
+        }
+        return inRange == null ? Collections.emptyList() : inRange;
+    }
+
+    /**
+     * Fills {@code out} with the lane's monsters in {@link #monstersInLane(int)} order together
+     * with the heroes within {@code range} of each, as {@link #heroesInRange} would report them.
+     * Monsters and heroes are both indexed by descending cell, so one merge pass with a sliding
+     * window of hero rows answers every monster's range query.
+     */
+    public void collectLaneTurns(int laneIndex, int range, LaneTurnBatch out) {
+        validateLaneIndex(laneIndex);
+        LaneOccupants<Monster> monsters = laneMonsters.get(laneIndex);
+        LaneOccupants<Hero> heroes = laneHeroes.get(laneIndex);
+        out.reset(this, flowFields[laneIndex], monsters.size());
+        int lo = 0;
+        int hi = 0;
+        for (int i = 0; i < monsters.size(); i++) {
+            int cell = monsters.cellAt(i);
+            int row = cell / size;
+            int col = cell % size;
+            out.addTurn(monsters.get(i), cell);
+            while (lo < heroes.size() && heroes.cellAt(lo) / size > row + range) {
+                lo++;
+            }
+            if (hi < lo) {
+                hi = lo;
+            }
+            while (hi < heroes.size() && heroes.cellAt(hi) / size >= row - range) {
+                hi++;
+            }
+            for (int k = hi - 1; k >= lo; k--) {
+                int heroCell = heroes.cellAt(k);
+                if (Math.abs(heroCell / size - row) + Math.abs(heroCell % size - col) <= range) {
+                    out.addCandidate(heroes.get(k), heroCell);
+                }
+            }
+        }
+    }
+
+    /**
+     * Steps a monster needs from {@code position} to its lane's hero nexus row over open terrain,
+     * ignoring heroes and monsters; -1 when the cell is blocked, outside every lane or walled off.
+     */
+    public int distanceToHeroNexus(Position position) {
+        Objects.requireNonNull(position, "position");
+        int lane = isInside(position) ? laneIndex(position) : -1;
+        if (lane < 0) {
+            return -1;
+        }
+        int distance = flowFields[lane].distance(indexOf(position));
+        return distance == LaneFlowField.UNREACHABLE ? -1 : distance;
+    }
+
+    /**
+     * The step a monster at {@code position} takes toward the hero nexus: onto a free cell one
+     * step closer, straight ahead when that is one of them. Null when it has to wait, because
+     * every such cell is taken by a hero or monster, no path exists or it already arrived.
+     */
+    public Direction nextMonsterStep(Position position) {
+        Objects.requireNonNull(position, "position");
+        int lane = isInside(position) ? laneIndex(position) : -1;
+        if (lane < 0) {
+            return null;
+        }
+        return flowFields[lane].nextStep(indexOf(position), standing);
+    }
+
+    LaneFlowField flowField(int laneIndex) {
+        return flowFields[laneIndex];
+    }
+
+    /**
+     * First monster-nexus cell of the lane that has no monster on it, or null if the lane is full.
+     */
+    public Position findMonsterSpawnSlot(int laneIndex) {
+        validateLaneIndex(laneIndex);
+        for (int col : laneColumns[laneIndex]) {
+            if (monsterNexusMask.get(col) && !monsterMask.get(col)) {
+                return positionAt(0, col);
             }
         }
-        return inRange;
+        return null;
     }
 
     public void clearObstacle(Position position) {
         LegendsTile tile = getTile(position);
-        tile.clearObstacle();
+        if (tile.getTerrain().isObstacle()) {
+            setObstacle(indexOf(position), false);
+            if (clearedCount == clearedObstacles.length) {
+                clearedObstacles = Arrays.copyOf(clearedObstacles, clearedCount * 2);
+            }
+            clearedObstacles[clearedCount++] = indexOf(position);
+        }
+    }
+
+    /**
+     * Turns a generated obstacle cell into plain ground or back; only obstacles ever change terrain.
+     */
+    private void setObstacle(int index, boolean obstacle) {
+        TerrainType from = obstacle ? TerrainType.PLAIN : TerrainType.OBSTACLE;
+        TerrainType to = obstacle ? TerrainType.OBSTACLE : TerrainType.PLAIN;
+        terrainMasks[from.ordinal()].clear(index);
+        terrainMasks[to.ordinal()].set(index);
+        grid[index / size][index % size].setTerrain(to);
+        terrainRevision++;
+        flowFields[columnLanes[index % size]].obstacleChanged(index, obstacle);
+        zobristKey ^= zobrist(CLEARED_OBSTACLE, index, 0);
+    }
+
+    /**
+     * Refills {@code store} with every hero and then every monster on the board, in placement
+     * order, with their board ids as external ids and their current positions.
+     */
+    public void exportEntities(EntityStore store) {
+        store.clear();
+        for (Map.Entry<Hero, Position> entry : heroPositions.entrySet()) {
+            Position p = entry.getValue();
+            store.addHero(entry.getKey(), heroIds.getOrDefault(entry.getKey(), 0), p.getRow(), p.getCol());
+        }
+        for (Map.Entry<Monster, Position> entry : monsterPositions.entrySet()) {
+            Position p = entry.getValue();
+            store.addMonster(entry.getKey(), monsterIds.getOrDefault(entry.getKey(), 0), p.getRow(), p.getCol());
+        }
+    }
+
+    /**
+     * Captures the full game state in flat arrays so a search or simulation can fork
+     * the match and later roll back with {@link #restore(BoardSnapshot)}.
+     */
+    public BoardSnapshot snapshot() {
+        int[] cleared = Arrays.copyOf(clearedObstacles, clearedCount);
+
+        int heroCount = heroPositions.size();
+        for (Hero hero : heroIds.keySet()) {
+            if (!heroPositions.containsKey(hero)) {
+                heroCount++;
+            }
+        }
+        Hero[] heroes = new Hero[heroCount];
+        int[] heroCells = new int[heroCount];
+        int[] heroIdValues = new int[heroCount];
+        int i = 0;
+        for (Map.Entry<Hero, Position> entry : heroPositions.entrySet()) {
+            heroes[i] = entry.getKey();
+            heroCells[i] = indexOf(entry.getValue());
+            heroIdValues[i] = heroIds.getOrDefault(entry.getKey(), 0);
+            i++;
+        }
+        for (Map.Entry<Hero, Integer> entry : heroIds.entrySet()) {
+            if (!heroPositions.containsKey(entry.getKey())) {
+                heroes[i] = entry.getKey();
+                heroCells[i] = -1;
+                heroIdValues[i] = entry.getValue();
+                i++;
+            }
+        }
+
+        int monsterCount = monsterPositions.size();
+        Monster[] monsters = new Monster[monsterCount];
+        int[] monsterCells = new int[monsterCount];
+        int[] monsterIdValues = new int[monsterCount];
+        i = 0;
+        for (Map.Entry<Monster, Position> entry : monsterPositions.entrySet()) {
+            monsters[i] = entry.getKey();
+            monsterCells[i] = indexOf(entry.getValue());
+            monsterIdValues[i] = monsterIds.getOrDefault(entry.getKey(), 0);
+            i++;
+        }
+
+        return new BoardSnapshot(this, generation, cleared, heroes, heroCells, heroIdValues, monsters,
+            monsterCells, monsterIdValues, monsterIdCounter);
+    }
+
+    /**
+     * Rolls the board and every captured entity back to the snapshot. Heroes and monsters
+     * placed since the snapshot are taken off the board; removed ones are put back.
+     */
+    public void restore(BoardSnapshot snapshot) {
+        Objects.requireNonNull(snapshot, "snapshot");
+        if (snapshot.source != this) {
+            throw new IllegalArgumentException("Snapshot was taken from a different board");
+        }
+        if (snapshot.generation != generation) {
+            throw new IllegalArgumentException("Snapshot was taken before the board was reset");
+        }
+        for (Position position : heroPositions.values()) {
+            grid[position.getRow()][position.getCol()].setHeroOccupant(null);
+            heroMask.clear(indexOf(position));
+        }
+        for (Position position : monsterPositions.values()) {
+            grid[position.getRow()][position.getCol()].setMonsterOccupant(null);
+            monsterMask.clear(indexOf(position));
+        }
+        heroPositions.clear();
+        monsterPositions.clear();
+        heroIds.clear();
+        monsterIds.clear();
+        for (int lane = 0; lane < laneColumns.length; lane++) {
+            laneHeroes.get(lane).clear();
+            laneMonsters.get(lane).clear();
+        }
+
+        if (clearedCount != snapshot.clearedObstacles.length
+                || !Arrays.equals(clearedObstacles, 0, clearedCount, snapshot.clearedObstacles, 0, clearedCount)) {
+            for (int i = 0; i < clearedCount; i++) {
+                setObstacle(clearedObstacles[i], true);
+            }
+            for (int index : snapshot.clearedObstacles) {
+                setObstacle(index, false);
+            }
+            clearedObstacles = Arrays.copyOf(snapshot.clearedObstacles, Math.max(8, snapshot.clearedObstacles.length));
+            clearedCount = snapshot.clearedObstacles.length;
+        }
+
+        snapshot.restoreEntityStats();
+
+        for (int i = 0; i < snapshot.heroes.length; i++) {
+            Hero hero = snapshot.heroes[i];
+            if (snapshot.heroCells[i] >= 0) {
+                occupyHero(hero, positionOf(snapshot.heroCells[i]));
+            }
+            if (snapshot.heroIds[i] > 0) {
+                heroIds.put(hero, snapshot.heroIds[i]);
+            }
+        }
+        for (int i = 0; i < snapshot.monsters.length; i++) {
+            Monster monster = snapshot.monsters[i];
+            occupyMonster(monster, positionOf(snapshot.monsterCells[i]));
+            monsterIds.put(monster, snapshot.monsterIds[i]);
+        }
+        sortLanes();
+        monsterIdCounter = snapshot.monsterIdCounter;
+        rehash();
+    }
+
+    /**
+     * Regenerates the board in place as {@code new LegendsBoard(getSpec(), seed)} would: every
+     * hero and monster is taken off (heroes lose their terrain modifiers), ids are forgotten and
+     * the terrain is dealt again from {@code seed}. Tiles, masks and lane indexes are reused, so a
+     * worker can keep one board per thread across matches. Snapshots taken before the reset can
+     * no longer be restored.
+     */
+    public void reset(long seed) {
+        for (Map.Entry<Hero, Position> entry : heroPositions.entrySet()) {
+            Position position = entry.getValue();
+            grid[position.getRow()][position.getCol()].setHeroOccupant(null);
+            buffManager.removeBuff(entry.getKey());
+        }
+        for (Position position : monsterPositions.values()) {
+            grid[position.getRow()][position.getCol()].setMonsterOccupant(null);
+        }
+        heroMask.clearAll();
+        monsterMask.clearAll();
+        heroPositions.clear();
+        monsterPositions.clear();
+        heroIds.clear();
+        monsterIds.clear();
+        for (int lane = 0; lane < laneColumns.length; lane++) {
+            laneHeroes.get(lane).clear();
+            laneMonsters.get(lane).clear();
+        }
+        clearedCount = 0;
+        monsterIdCounter = 1;
+        generation++;
+
+        random.setSeed((seed == LegendsConfig.DEFAULT_RANDOM_SEED) ? new Random().nextLong() : seed);
+        for (LaneFlowField field : flowFields) {
+            field.invalidate();
+        }
+        generateTerrain();
+        terrainRevision++;
+        rehash();
+    }
+
+    /**
+     * Independent deep copy: identical terrain, placements and ids, with every
+     * hero and monster replaced by its {@code copy()} (heroes keep their terrain modifiers).
+     * Lets other threads search from this position. Copied heroes can be found with
+     * {@link #getHeroById(int)}.
+     */
+    public LegendsBoard copy() {
+        LegendsBoard copy = new LegendsBoard(spec, new Random());
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                TerrainType terrain = grid[row][col].getTerrain();
+                if (terrain != TerrainType.PLAIN) {
+                    int index = row * size + col;
+                    copy.terrainMasks[TerrainType.PLAIN.ordinal()].clear(index);
+                    copy.terrainMasks[terrain.ordinal()].set(index);
+                    copy.grid[row][col].setTerrain(terrain);
+                }
+            }
+        }
+        copy.clearedObstacles = clearedObstacles.clone();
+        copy.clearedCount = clearedCount;
+        Map<Hero, Hero> heroCopies = new IdentityHashMap<>();
+        for (Map.Entry<Hero, Position> entry : heroPositions.entrySet()) {
+            Hero heroCopy = entry.getKey().copy();
+            heroCopies.put(entry.getKey(), heroCopy);
+            copy.occupyHero(heroCopy, entry.getValue());
+        }
+        for (Map.Entry<Hero, Integer> entry : heroIds.entrySet()) {
+            Hero heroCopy = heroCopies.computeIfAbsent(entry.getKey(), Hero::copy);
+            copy.heroIds.put(heroCopy, entry.getValue());
+        }
+        for (Map.Entry<Monster, Position> entry : monsterPositions.entrySet()) {
+            Monster monsterCopy = entry.getKey().copy();
+            copy.occupyMonster(monsterCopy, entry.getValue());
+            copy.monsterIds.put(monsterCopy, monsterIds.get(entry.getKey()));
+        }
+        copy.sortLanes();
+        copy.monsterIdCounter = monsterIdCounter;
+        copy.rehash();
+        return copy;
+    }
+
+    /**
+     * Zobrist key of the current state: hero and monster cells, their HP buckets
+     * ({@link LegendsConfig#HASH_HP_BUCKET} wide), each monster's id and stats, and the cleared
+     * obstacles. Equal states on boards of the same spec have equal keys. HP and stat changes are
+     * picked up by {@link #refreshHealth}.
+     */
+    public long getZobristKey() {
+        return zobristKey;
+    }
+
+    /**
+     * Re-hashes the HP bucket of a hero on the board after its HP changed; no-op otherwise.
+     */
+    public void refreshHealth(Hero hero) {
+        Position position = heroPositions.get(hero);
+        if (position == null) {
+            return;
+        }
+        int cell = indexOf(position);
+        int bucket = healthBucket(hero);
+        if (heroBuckets[cell] != bucket) {
+            int id = heroIds.getOrDefault(hero, 0);
+            zobristKey ^= zobrist(HERO_HEALTH, id, heroBuckets[cell]) ^ zobrist(HERO_HEALTH, id, bucket);
+            heroBuckets[cell] = bucket;
+        }
+    }
+
+    /**
+     * Re-hashes the HP bucket and stats of a monster on the board after they changed; no-op otherwise.
+     */
+    public void refreshHealth(Monster monster) {
+        Position position = monsterPositions.get(monster);
+        if (position == null) {
+            return;
+        }
+        int cell = indexOf(position);
+        int bucket = healthBucket(monster);
+        if (monsterBuckets[cell] != bucket) {
+            zobristKey ^= zobrist(MONSTER_CELL, cell, monsterBuckets[cell]) ^ zobrist(MONSTER_CELL, cell, bucket);
+            monsterBuckets[cell] = bucket;
+        }
+        long identity = monsterIdentity(monster, cell);
+        zobristKey ^= monsterIdentities[cell] ^ identity;
+        monsterIdentities[cell] = identity;
+    }
+
+    /** Recomputes the key from scratch, after bulk changes that bypass the incremental updates. */
+    private void rehash() {
+        long key = 0;
+        for (Map.Entry<Hero, Position> entry : heroPositions.entrySet()) {
+            Hero hero = entry.getKey();
+            int id = heroIds.getOrDefault(hero, 0);
+            int cell = indexOf(entry.getValue());
+            heroBuckets[cell] = healthBucket(hero);
+            key ^= zobrist(HERO_CELL, id, cell) ^ zobrist(HERO_HEALTH, id, heroBuckets[cell]);
+        }
+        for (Map.Entry<Monster, Position> entry : monsterPositions.entrySet()) {
+            int cell = indexOf(entry.getValue());
+            monsterBuckets[cell] = healthBucket(entry.getKey());
+            monsterIdentities[cell] = monsterIdentity(entry.getKey(), cell);
+            key ^= zobrist(MONSTER_CELL, cell, monsterBuckets[cell]) ^ monsterIdentities[cell];
+        }
+        for (int i = 0; i < clearedCount; i++) {
+            key ^= zobrist(CLEARED_OBSTACLE, clearedObstacles[i], 0);
+        }
+        zobristKey = key;
+    }
+
+    private static int healthBucket(LivingEntity entity) {
+        return (int) (entity.getHp() / LegendsConfig.HASH_HP_BUCKET);
+    }
+
+    /**
+     * Features telling apart monsters that share a cell and HP bucket: the board id, and a
+     * fingerprint of the name, level and combat stats, so different templates never hash alike.
+     */
+    private long monsterIdentity(Monster monster, int cell) {
+        int kind = monster.getName().hashCode();
+        kind = 31 * kind + monster.getLevel();
+        kind = 31 * kind + Long.hashCode(Math.round(monster.getBaseDamage() * 100));
+        kind = 31 * kind + Long.hashCode(Math.round(monster.getDefense() * 100));
+        kind = 31 * kind + Long.hashCode(Math.round(monster.getDodgeChance() * 100));
+        return zobrist(MONSTER_ID, cell, monsterIds.getOrDefault(monster, 0))
+            ^ zobrist(MONSTER_KIND, cell, kind ^ (kind >>> 30));
+    }
+
+    /**
+     * Pseudo-random 64-bit number of a hashed feature: the SplitMix64 finalizer applied to
+     * the packed (feature, subject, detail) triple. The finalizer is a bijection, so distinct
+     * features never share a number.
+     */
+    private static long zobrist(long feature, int subject, int detail) {
+        long z = (feature << 60) ^ ((subject & 0x3FFFFFFFL) << 30) ^ (detail & 0x3FFFFFFFL);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Puts a hero on the board without movement rules or terrain buffs (used by restore and copy).
+     * The lane index is appended to unsorted; callers finish with {@link #sortLanes()}.
+     */
+    private void occupyHero(Hero hero, Position position) {
+        int index = indexOf(position);
+        grid[position.getRow()][position.getCol()].setHeroOccupant(hero);
+        heroMask.set(index);
+        int lane = laneIndex(position);
+        if (lane >= 0) {
+            laneHeroes.get(lane).append(hero, index);
+        }
+        heroPositions.put(hero, position);
+    }
+
+    private void occupyMonster(Monster monster, Position position) {
+        int index = indexOf(position);
+        grid[position.getRow()][position.getCol()].setMonsterOccupant(monster);
+        monsterMask.set(index);
+        int lane = laneIndex(position);
+        if (lane >= 0) {
+            laneMonsters.get(lane).append(monster, index);
+        }
+        monsterPositions.put(monster, position);
+    }
+
+    private void sortLanes() {
+        for (int lane = 0; lane < laneColumns.length; lane++) {
+            laneHeroes.get(lane).sort();
+            laneMonsters.get(lane).sort();
+        }
     }
 
     private void validateLaneIndex(int laneIndex) {
@@ -356,20 +1168,35 @@ public class LegendsBoard {
         }
     }
 
+    /**
+     * Monsters in the lane ordered from the hero nexus side (highest row) upward,
+     * right to left within a row.
+     */
     public List<Monster> monstersInLane(int laneIndex) {
+        List<Monster> monsters = new ArrayList<>();
+        collectMonstersInLane(laneIndex, monsters);
+        return monsters;
+    }
+
+    /**
+     * Allocation-free variant of {@link #monstersInLane(int)}: clears {@code out} and fills it
+     * with the lane's monsters in the same order.
+     */
+    public void collectMonstersInLane(int laneIndex, List<Monster> out) {
         validateLaneIndex(laneIndex);
-        Set<Integer> laneColumnSet = new java.util.HashSet<>();
-        for (int col : laneColumns[laneIndex]) {
-            laneColumnSet.add(col);
+        out.clear();
+        LaneOccupants<Monster> monsters = laneMonsters.get(laneIndex);
+        for (int i = 0; i < monsters.size(); i++) {
+            out.add(monsters.get(i));
         }
-        return monsterPositions.entrySet().stream()
-            .filter(e -> laneColumnSet.contains(e.getValue().getCol()))
-            .sorted((a, b) -> Integer.compare(b.getValue().getRow(), a.getValue().getRow()))
-            .map(Map.Entry::getKey)
-            .collect(Collectors.toList());
     }
 
     public boolean isNexus(Position position) {
-        return getTile(position).getOverlay().isNexus();
+        Objects.requireNonNull(position, "position");
+        if (!isInside(position)) {
+            throw new IllegalArgumentException("Position out of bounds: " + position);
+        }
+        int index = indexOf(position);
+        return heroNexusMask.get(index) || monsterNexusMask.get(index);
     }
 }
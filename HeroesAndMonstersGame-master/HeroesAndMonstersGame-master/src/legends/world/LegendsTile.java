@@ -34,6 +34,10 @@ public class LegendsTile {
         return overlay != TileOverlay.INACCESSIBLE && !terrain.isObstacle();
     }
 
+    void setTerrain(TerrainType terrain) {
+        this.terrain = terrain;
+    }
+
     public void clearObstacle() {
         if (terrain.isObstacle()) {
             terrain = TerrainType.PLAIN;
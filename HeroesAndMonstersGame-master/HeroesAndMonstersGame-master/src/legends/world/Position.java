@@ -1,17 +1,69 @@
 package legends.world;
 
-import java.util.Objects;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import legends.config.LegendsConfig;
 
 /**
  * Immutable coordinate on the Legends of Valor map.
+ * Instances are interned: {@link #of(int, int)} and {@link #translate(int, int)} hand out
+ * canonical objects from a pre-built table covering the board plus a one-cell border,
+ * so hot board/AI/rendering paths do not allocate. Coordinates outside the table fall
+ * back to fresh instances, which still compare equal by value. Boards larger than the default
+ * look their cells up in a per-size {@link #grid(int) grid} instead.
  */
 public final class Position {
+    private static final int CACHE_MIN = -1;
+    private static final int CACHE_SPAN = LegendsConfig.BOARD_SIZE + 2;
+    private static final Position[] CACHE = new Position[CACHE_SPAN * CACHE_SPAN];
+    private static final Map<Integer, Position[]> GRIDS = new ConcurrentHashMap<>();
+
+    static {
+        for (int row = 0; row < CACHE_SPAN; row++) {
+            for (int col = 0; col < CACHE_SPAN; col++) {
+                CACHE[row * CACHE_SPAN + col] = new Position(row + CACHE_MIN, col + CACHE_MIN);
+            }
+        }
+    }
+
     private final int row;
     private final int col;
+    private final int packed;
 
-    public Position(int row, int col) {
+    private Position(int row, int col) {
         this.row = row;
         this.col = col;
+        this.packed = (row << 16) ^ (col & 0xFFFF);
+    }
+
+    public static Position of(int row, int col) {
+        int r = row - CACHE_MIN;
+        int c = col - CACHE_MIN;
+        if (r >= 0 && r < CACHE_SPAN && c >= 0 && c < CACHE_SPAN) {
+            return CACHE[r * CACHE_SPAN + c];
+        }
+        return new Position(row, col);
+    }
+
+    /**
+     * Canonical positions of a {@code size}-a-side board plus a one-cell border, indexed by
+     * {@code (row + 1) * (size + 2) + col + 1}. Built once per size and shared by every board of
+     * that size; cells the default table covers reuse its instances.
+     */
+    static Position[] grid(int size) {
+        return GRIDS.computeIfAbsent(size, Position::buildGrid);
+    }
+
+    private static Position[] buildGrid(int size) {
+        int span = size + 2;
+        Position[] grid = new Position[span * span];
+        for (int row = 0; row < span; row++) {
+            for (int col = 0; col < span; col++) {
+                grid[row * span + col] = of(row - 1, col - 1);
+            }
+        }
+        return grid;
     }
 
     public int getRow() {
@@ -22,8 +74,18 @@ public final class Position {
         return col;
     }
 
+    /**
+     * Row and column packed into a single int (row in the high half, column in the low half).
+     */
+    public int packed() {
+        return packed;
+    }
+
     public Position translate(int dRow, int dCol) {
-        return new Position(row + dRow, col + dCol);
+        if (dRow == 0 && dCol == 0) {
+            return this;
+        }
+        return of(row + dRow, col + dCol);
     }
 
     @Override
@@ -40,7 +102,7 @@ public final class Position {
 
     @Override
     public int hashCode() {
-        return Objects.hash(row, col);
+        return packed;
     }
 
     @Override
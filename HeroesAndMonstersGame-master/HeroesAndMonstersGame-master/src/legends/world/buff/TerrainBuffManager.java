@@ -1,61 +1,46 @@
 package legends.world.buff;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import legends.config.LegendsConfig;
 import legends.world.TerrainType;
 import model.entity.Hero;
+import model.entity.StatModifiers;
 
 /**
  * Applies and reverts terrain specific stat buffs for heroes.
- * The manager keeps a per-hero snapshot to ensure temporary bonuses are reverted
- * when the entity leaves the tile.
+ * Buffs are a modifier layer: each terrain maps to one shared {@link StatModifiers} instance,
+ * built once, and a hero simply points at the modifiers of the tile it stands on. Base stats
+ * are never rewritten, so a level-up while buffed scales the real base values, and moving
+ * between tiles of the same terrain leaves the hero untouched.
  */
 public class TerrainBuffManager {
-    private final Map<Hero, HeroSnapshot> heroSnapshots = new HashMap<>();
+    private static final StatModifiers[] MODIFIERS = new StatModifiers[TerrainType.values().length];
 
-    public void applyBuff(Hero hero, TerrainType terrain) {
-        removeBuff(hero); // Reset any previous state first
-        if (!terrain.grantsBuff()) {
-            return;
+    static {
+        for (TerrainType terrain : TerrainType.values()) {
+            MODIFIERS[terrain.ordinal()] = StatModifiers.NONE;
         }
-        HeroSnapshot snapshot = new HeroSnapshot(hero.getStrength(), hero.getAgility(), hero.getDexterity());
-        heroSnapshots.put(hero, snapshot);
+        MODIFIERS[TerrainType.BUSH.ordinal()] = new StatModifiers(1.0, 1.0, LegendsConfig.BUSH_DEXTERITY_MULTIPLIER);
+        MODIFIERS[TerrainType.CAVE.ordinal()] = new StatModifiers(1.0, LegendsConfig.CAVE_AGILITY_MULTIPLIER, 1.0);
+        MODIFIERS[TerrainType.KOULOU.ordinal()] = new StatModifiers(LegendsConfig.KOULOU_STRENGTH_MULTIPLIER, 1.0, 1.0);
+    }
 
-        switch (terrain) {
-            case BUSH:
-                hero.setDexterity(snapshot.dexterity * LegendsConfig.BUSH_DEXTERITY_MULTIPLIER);
-                break;
-            case CAVE:
-                hero.setAgility(snapshot.agility * LegendsConfig.CAVE_AGILITY_MULTIPLIER);
-                break;
-            case KOULOU:
-                hero.setStrength(snapshot.strength * LegendsConfig.KOULOU_STRENGTH_MULTIPLIER);
-                break;
-            default:
-                break;
-        }
+    /**
+     * Shared modifiers for standing on {@code terrain}; {@link StatModifiers#NONE} when it grants no buff.
+     */
+    public static StatModifiers modifiersFor(TerrainType terrain) {
+        return MODIFIERS[terrain.ordinal()];
     }
 
-    public void removeBuff(Hero hero) {
-        HeroSnapshot snapshot = heroSnapshots.remove(hero);
-        if (snapshot != null) {
-            hero.setStrength(snapshot.strength);
-            hero.setAgility(snapshot.agility);
-            hero.setDexterity(snapshot.dexterity);
+    public void applyBuff(Hero hero, TerrainType terrain) {
+        StatModifiers modifiers = MODIFIERS[terrain.ordinal()];
+        if (hero.getModifiers() != modifiers) {
+            hero.setModifiers(modifiers);
         }
     }
 
-    private static final class HeroSnapshot {
-        private final double strength;
-        private final double agility;
-        private final double dexterity;
-
-        private HeroSnapshot(double strength, double agility, double dexterity) {
-            this.strength = strength;
-            this.agility = agility;
-            this.dexterity = dexterity;
+    public void removeBuff(Hero hero) {
+        if (hero.getModifiers() != StatModifiers.NONE) {
+            hero.setModifiers(StatModifiers.NONE);
         }
     }
 }
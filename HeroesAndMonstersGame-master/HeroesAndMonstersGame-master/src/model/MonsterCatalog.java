@@ -0,0 +1,156 @@
+package model;
+
+import model.entity.Monster;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Monster templates indexed up front by level and by type, producing scaled battle instances
+ * through {@link Monster#copy()}. Sampling picks indices directly, so neither the template list
+ * nor any filtered copy of it is shuffled or modified.
+ *
+ * With pooling enabled, monsters handed back through {@link #release(Monster)} are reused by
+ * later spawns of the same type. A pooling catalog is not thread-safe; give each worker its
+ * own. Without pooling the catalog is read-only after construction and may be shared.
+ */
+public class MonsterCatalog {
+    private static final Monster[] NONE = new Monster[0];
+
+    private final Monster[] templates;
+    private final Monster[][] byLevel;
+    private final Map<Class<? extends Monster>, Monster[]> byType = new HashMap<>();
+    private final Map<Class<? extends Monster>, ArrayDeque<Monster>> pool;
+
+    public MonsterCatalog(List<Monster> templates) {
+        this(templates, false);
+    }
+
+    /**
+     * @param templates copied, so later changes to the list or its monsters do not leak in
+     */
+    public MonsterCatalog(List<Monster> templates, boolean pooling) {
+        Objects.requireNonNull(templates, "templates");
+        this.templates = new Monster[templates.size()];
+        int maxLevel = 0;
+        for (int i = 0; i < this.templates.length; i++) {
+            this.templates[i] = templates.get(i).copy();
+            maxLevel = Math.max(maxLevel, this.templates[i].getLevel());
+        }
+
+        List<List<Monster>> levels = new ArrayList<>();
+        for (int level = 0; level <= maxLevel; level++) levels.add(new ArrayList<>());
+        Map<Class<? extends Monster>, List<Monster>> types = new HashMap<>();
+        for (Monster m : this.templates) {
+            levels.get(m.getLevel()).add(m);
+            types.computeIfAbsent(m.getClass(), c -> new ArrayList<>()).add(m);
+        }
+        byLevel = new Monster[maxLevel + 1][];
+        for (int level = 0; level <= maxLevel; level++) byLevel[level] = levels.get(level).toArray(NONE);
+        for (Map.Entry<Class<? extends Monster>, List<Monster>> e : types.entrySet()) {
+            byType.put(e.getKey(), e.getValue().toArray(NONE));
+        }
+        this.pool = pooling ? new HashMap<>() : null;
+    }
+
+    public int size() { return templates.length; }
+
+    public boolean isEmpty() { return templates.length == 0; }
+
+    public int countAtLevel(int level) {
+        return (level >= 0 && level < byLevel.length) ? byLevel[level].length : 0;
+    }
+
+    public int countOfType(Class<? extends Monster> type) {
+        Monster[] group = byType.get(type);
+        return group == null ? 0 : group.length;
+    }
+
+    /**
+     * A fresh (or recycled) copy of {@code template} scaled to {@code level}.
+     */
+    public Monster spawn(Monster template, int level) {
+        Monster monster = null;
+        if (pool != null) {
+            ArrayDeque<Monster> free = pool.get(template.getClass());
+            if (free != null) monster = free.poll();
+        }
+        if (monster == null) {
+            monster = template.copy();
+        } else {
+            monster.copyFrom(template);
+        }
+        monster.scaleStats(level);
+        return monster;
+    }
+
+    /** Uniform pick over all templates, scaled to {@code level}. */
+    public Monster spawnRandom(int level, Random random) {
+        if (templates.length == 0) throw new IllegalStateException("Monster catalog is empty");
+        return spawn(templates[random.nextInt(templates.length)], level);
+    }
+
+    /** Uniform pick among templates of one type, scaled to {@code level}. */
+    public Monster spawnOfType(Class<? extends Monster> type, int level, Random random) {
+        Monster[] group = byType.get(type);
+        if (group == null) throw new IllegalArgumentException("No " + type.getSimpleName() + " templates");
+        return spawn(group[random.nextInt(group.length)], level);
+    }
+
+    /**
+     * Draws {@code count} monsters from the templates of {@code templateLevel} (all templates if
+     * there are none at that level) and scales them to {@code level}. Templates are distinct
+     * while the level has enough of them; any extra picks repeat uniformly.
+     */
+    public List<Monster> sample(int templateLevel, int level, int count, Random random) {
+        if (templates.length == 0) throw new IllegalStateException("Monster catalog is empty");
+        Monster[] candidates = countAtLevel(templateLevel) > 0 ? byLevel[templateLevel] : templates;
+        int n = candidates.length;
+        int distinct = Math.min(count, n);
+
+        // Floyd's algorithm: 'distinct' different indices from [0, n) in O(distinct) draws.
+        int[] picks = new int[distinct];
+        for (int j = n - distinct, k = 0; j < n; j++, k++) {
+            int t = random.nextInt(j + 1);
+            picks[k] = contains(picks, k, t) ? j : t;
+        }
+        // Floyd's set is uniform but its order is not (early picks favour low indices). Order
+        // decides who acts and who is targeted first, so shuffle the few picks as well.
+        for (int i = distinct - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = picks[i];
+            picks[i] = picks[j];
+            picks[j] = tmp;
+        }
+
+        Monster[] out = new Monster[count];
+        for (int i = 0; i < count; i++) {
+            Monster template = (i < distinct) ? candidates[picks[i]] : candidates[random.nextInt(n)];
+            out[i] = spawn(template, level);
+        }
+        return Arrays.asList(out);
+    }
+
+    /**
+     * Hands a monster that is no longer in play back for reuse. Does nothing without pooling.
+     * The caller must not touch the monster afterwards.
+     */
+    public void release(Monster monster) {
+        if (pool != null) pool.computeIfAbsent(monster.getClass(), c -> new ArrayDeque<>()).push(monster);
+    }
+
+    public void releaseAll(List<Monster> monsters) {
+        for (Monster m : monsters) release(m);
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) if (values[i] == value) return true;
+        return false;
+    }
+}
\ No newline at end of file
@@ -11,4 +11,13 @@ public class Dragon extends Monster {
         super(name, level, damage, defense, dodgeChance);
         // Dragons might have slightly higher base damage naturally from the file
     }
+
+    private Dragon(Dragon other) {
+        super(other);
+    }
+
+    @Override
+    public Dragon copy() {
+        return new Dragon(this);
+    }
 }
\ No newline at end of file
@@ -10,4 +10,13 @@ public class Exoskeleton extends Monster {
     public Exoskeleton(String name, int level, double damage, double defense, double dodgeChance) {
         super(name, level, damage, defense, dodgeChance);
     }
+
+    private Exoskeleton(Exoskeleton other) {
+        super(other);
+    }
+
+    @Override
+    public Exoskeleton copy() {
+        return new Exoskeleton(this);
+    }
 }
\ No newline at end of file
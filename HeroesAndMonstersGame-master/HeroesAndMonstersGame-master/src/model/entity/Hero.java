@@ -7,6 +7,7 @@ import util.GameConfig;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Abstract parent class for all playable characters.
@@ -22,6 +23,14 @@ public abstract class Hero extends LivingEntity {
     protected double agility;
     protected double gold;
     protected double experience;
+    // Temporary multipliers on top of the base stats (terrain buffs); never folded into them
+    protected StatModifiers modifiers = StatModifiers.NONE;
+
+    // Combat values derived by HeroController, valid until a stat, gear or modifier changes
+    private boolean combatStatsDirty = true;
+    private double cachedDamage;
+    private double cachedDodgeChance;
+    private double cachedSpellBonus;
 
     // Inventory State
     protected List<Item> inventory;
@@ -42,6 +51,29 @@ public abstract class Hero extends LivingEntity {
         this.inventory = new ArrayList<>();
     }
 
+    /**
+     * Copy constructor used by {@link #copy()}: duplicates every stat, the inventory list and equipped gear.
+     */
+    protected Hero(Hero other) {
+        super(other.name, other.level);
+        this.hp = other.hp;
+        this.mana = other.mana;
+        this.strength = other.strength;
+        this.agility = other.agility;
+        this.dexterity = other.dexterity;
+        this.gold = other.gold;
+        this.experience = other.experience;
+        this.modifiers = other.modifiers;
+        this.inventory = new ArrayList<>(other.inventory);
+        this.equippedWeapon = other.equippedWeapon;
+        this.equippedArmor = other.equippedArmor;
+    }
+
+    /**
+     * Independent copy with the same class and current state.
+     */
+    public abstract Hero copy();
+
     /**
      * Polymorphic method to apply class-specific stat bonuses.
      * Called by HeroController during the level-up process.
@@ -53,6 +85,8 @@ public abstract class Hero extends LivingEntity {
      * Uses GameConfig constants for scalability.
      */
     protected void applyStandardLevelUp() {
+        // Subclasses scale their favored stats right after this call, before any combat read
+        invalidateCombatStats();
         this.level++;
         this.hp = this.level * GameConfig.HP_PER_LEVEL;
 
@@ -90,24 +124,76 @@ public abstract class Hero extends LivingEntity {
         inventory.remove(item);
     }
 
+    // --- COMBAT STAT CACHE ---
+
+    /**
+     * Marks the cached combat values stale. Setters that feed them call this; code that writes
+     * the protected stat fields directly must call it too.
+     */
+    public void invalidateCombatStats() { this.combatStatsDirty = true; }
+    public boolean hasCachedCombatStats() { return !combatStatsDirty; }
+
+    /**
+     * Stores freshly computed combat values; see {@code HeroController}.
+     */
+    public void cacheCombatStats(double damage, double dodgeChance, double spellBonus) {
+        this.cachedDamage = damage;
+        this.cachedDodgeChance = dodgeChance;
+        this.cachedSpellBonus = spellBonus;
+        this.combatStatsDirty = false;
+    }
+
+    public double getCachedDamage() { return cachedDamage; }
+    public double getCachedDodgeChance() { return cachedDodgeChance; }
+    public double getCachedSpellBonus() { return cachedSpellBonus; }
+
     // --- GETTERS & SETTERS ---
-    public void setEquippedWeapon(Weapon w) { this.equippedWeapon = w; }
-    public void setEquippedArmor(Armor a) { this.equippedArmor = a; }
+    public void setEquippedWeapon(Weapon w) {
+        this.equippedWeapon = w;
+        invalidateCombatStats();
+    }
+    public void setEquippedArmor(Armor a) {
+        this.equippedArmor = a;
+        invalidateCombatStats();
+    }
 
+    public void setGold(double gold) { this.gold = gold; }
     public void setExperience(double experience) { this.experience = experience; }
     public void addExperience(double amount) { this.experience += amount; }
 
     public List<Item> getInventory() { return inventory; }
     public void setMana(double mana) { this.mana = mana; }
-    public void setStrength(double strength) { this.strength = strength; }
-    public void setDexterity(double dexterity) { this.dexterity = dexterity; }
-    public void setAgility(double agility) { this.agility = agility; }
+    public void setStrength(double strength) {
+        this.strength = strength;
+        invalidateCombatStats();
+    }
+    public void setDexterity(double dexterity) {
+        this.dexterity = dexterity;
+        invalidateCombatStats();
+    }
+    public void setAgility(double agility) {
+        this.agility = agility;
+        invalidateCombatStats();
+    }
     public double getMana() { return mana; }
     public double getStrength() { return strength; }
     public double getDexterity() { return dexterity; }
     public double getAgility() { return agility; }
     public double getGold() { return gold; }
     public double getExperience() { return experience; }
+    public StatModifiers getModifiers() { return modifiers; }
+    public void setModifiers(StatModifiers modifiers) {
+        this.modifiers = Objects.requireNonNull(modifiers, "modifiers");
+        invalidateCombatStats();
+    }
+
+    /** Base strength with the active modifiers applied; what combat uses. */
+    public double getEffectiveStrength() { return strength * modifiers.getStrength(); }
+    /** Base agility with the active modifiers applied; what combat uses. */
+    public double getEffectiveAgility() { return agility * modifiers.getAgility(); }
+    /** Base dexterity with the active modifiers applied; what combat uses. */
+    public double getEffectiveDexterity() { return dexterity * modifiers.getDexterity(); }
+
     public Weapon getEquippedWeapon() { return equippedWeapon; }
     public Armor getEquippedArmor() { return equippedArmor; }
 
@@ -26,6 +26,10 @@ public abstract class LivingEntity {
         this.hp = hp;
     }
 
+    public void setLevel(int level) {
+        this.level = level;
+    }
+
     public boolean isFainted() {
         return hp <= 0;
     }
@@ -18,6 +18,38 @@ public abstract class Monster extends LivingEntity {
         this.dodgeChance = dodgeChance;
     }
 
+    /**
+     * Copy constructor used by {@link #copy()}: duplicates the current (possibly scaled) stats.
+     */
+    protected Monster(Monster other) {
+        super(other.name, other.level);
+        this.hp = other.hp;
+        this.baseDamage = other.baseDamage;
+        this.defense = other.defense;
+        this.dodgeChance = other.dodgeChance;
+    }
+
+    /**
+     * Independent copy with the same class and current state.
+     */
+    public abstract Monster copy();
+
+    /**
+     * Overwrites this monster with another's name, level, HP and stats, so a spent instance
+     * can be reused instead of allocating a new copy.
+     */
+    public void copyFrom(Monster other) {
+        if (other.getClass() != getClass()) {
+            throw new IllegalArgumentException("Cannot copy a " + other.getClass().getSimpleName() + " into a " + getClass().getSimpleName());
+        }
+        this.name = other.name;
+        this.level = other.level;
+        this.hp = other.hp;
+        this.baseDamage = other.baseDamage;
+        this.defense = other.defense;
+        this.dodgeChance = other.dodgeChance;
+    }
+
     // --- Getters and Setters ---
     public double getBaseDamage() { return baseDamage; }
     public double getDefense() { return defense; }
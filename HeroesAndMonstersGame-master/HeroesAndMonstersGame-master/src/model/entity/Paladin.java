@@ -13,6 +13,15 @@ public class Paladin extends Hero {
         super(name, mana, str, agi, dex, money, exp);
     }
 
+    private Paladin(Paladin other) {
+        super(other);
+    }
+
+    @Override
+    public Paladin copy() {
+        return new Paladin(this);
+    }
+
     @Override
     public void levelUp() {
         super.applyStandardLevelUp();
@@ -13,6 +13,15 @@ public class Sorcerer extends Hero {
         super(name, mana, str, agi, dex, money, exp);
     }
 
+    private Sorcerer(Sorcerer other) {
+        super(other);
+    }
+
+    @Override
+    public Sorcerer copy() {
+        return new Sorcerer(this);
+    }
+
     @Override
     public void levelUp() {
         super.applyStandardLevelUp();
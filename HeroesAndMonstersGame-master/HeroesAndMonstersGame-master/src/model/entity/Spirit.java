@@ -9,4 +9,13 @@ public class Spirit extends Monster {
     public Spirit(String name, int level, double damage, double defense, double dodgeChance) {
         super(name, level, damage, defense, dodgeChance);
     }
+
+    private Spirit(Spirit other) {
+        super(other);
+    }
+
+    @Override
+    public Spirit copy() {
+        return new Spirit(this);
+    }
 }
\ No newline at end of file
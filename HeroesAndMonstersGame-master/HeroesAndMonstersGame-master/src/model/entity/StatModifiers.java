@@ -0,0 +1,33 @@
+package model.entity;
+
+/**
+ * Immutable multipliers applied on top of a hero's base strength, agility and dexterity.
+ * Temporary effects such as terrain buffs swap the hero's modifiers instead of rewriting
+ * its base stats, so level-ups and other base changes stay correct while an effect is active.
+ */
+public final class StatModifiers {
+    /** No effect: every multiplier is exactly 1.0. */
+    public static final StatModifiers NONE = new StatModifiers(1.0, 1.0, 1.0);
+
+    private final double strength;
+    private final double agility;
+    private final double dexterity;
+
+    public StatModifiers(double strength, double agility, double dexterity) {
+        if (!(strength > 0) || !(agility > 0) || !(dexterity > 0)) {
+            throw new IllegalArgumentException("Stat multipliers must be positive");
+        }
+        this.strength = strength;
+        this.agility = agility;
+        this.dexterity = dexterity;
+    }
+
+    public double getStrength() { return strength; }
+    public double getAgility() { return agility; }
+    public double getDexterity() { return dexterity; }
+
+    @Override
+    public String toString() {
+        return "StatModifiers{str x" + strength + ", agi x" + agility + ", dex x" + dexterity + "}";
+    }
+}
\ No newline at end of file
@@ -13,6 +13,15 @@ public class Warrior extends Hero {
         super(name, mana, str, agi, dex, money, exp);
     }
 
+    private Warrior(Warrior other) {
+        super(other);
+    }
+
+    @Override
+    public Warrior copy() {
+        return new Warrior(this);
+    }
+
     @Override
     public void levelUp() {
         super.applyStandardLevelUp(); // Base +5%
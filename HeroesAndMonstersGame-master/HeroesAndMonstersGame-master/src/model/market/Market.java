@@ -15,19 +15,18 @@ import java.util.Random;
 public class Market {
     private List<Item> itemsForSale;
 
-    // Constructor takes the Master List of all game items
-    public Market(List<Item> allGameItems) {
+    // Constructor takes the Master List of all game items and the session's market stream
+    public Market(List<Item> allGameItems, Random random) {
         this.itemsForSale = new ArrayList<>();
-        generateUniqueInventory(allGameItems);
+        generateUniqueInventory(allGameItems, random);
     }
 
-    private void generateUniqueInventory(List<Item> allItems) {
+    private void generateUniqueInventory(List<Item> allItems, Random rand) {
         // 1. Create a temporary copy to shuffle (so we don't mess up the master list)
         List<Item> pool = new ArrayList<>(allItems);
-        Collections.shuffle(pool);
+        Collections.shuffle(pool, rand);
 
         // 2. Determine Shop Size (e.g., Randomly 5 to 10 items)
-        Random rand = new Random();
         int shopSize = 5 + rand.nextInt(6);
 
         // 3. Fill the shelves
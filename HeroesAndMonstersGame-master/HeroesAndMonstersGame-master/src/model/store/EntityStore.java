@@ -0,0 +1,188 @@
+package model.store;
+
+import model.entity.Hero;
+import model.entity.LivingEntity;
+import model.entity.Monster;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Optional struct-of-arrays copy of many heroes and monsters for bulk simulation.
+ * Every stat lives in its own primitive column indexed by a dense slot id, so combat loops
+ * walk flat arrays instead of chasing objects through identity maps.
+ *
+ * Heroes and monsters share the columns: {@code damage} is a hero's weapon damage or a
+ * monster's base damage, {@code defense} a hero's armor reduction or a monster's defense, and
+ * {@code dodge} is only used by monsters (in percent, as in the data files). Hero strength,
+ * agility and dexterity are the effective values, terrain modifiers included. The store is a
+ * copy: call {@link #writeBack()} to push HP and stat changes into the original objects.
+ * Not thread-safe.
+ */
+public class EntityStore {
+    public static final byte HERO = 0;
+    public static final byte MONSTER = 1;
+
+    private int size;
+    private LivingEntity[] sources;
+    private byte[] kind;
+    private int[] externalId;
+    private int[] level;
+    private double[] hp;
+    private double[] mana;
+    private double[] strength;
+    private double[] agility;
+    private double[] dexterity;
+    private double[] damage;
+    private double[] defense;
+    private double[] dodge;
+    private int[] row;
+    private int[] col;
+
+    public EntityStore() {
+        this(16);
+    }
+
+    public EntityStore(int initialCapacity) {
+        if (initialCapacity <= 0) throw new IllegalArgumentException("initialCapacity must be positive");
+        sources = new LivingEntity[initialCapacity];
+        kind = new byte[initialCapacity];
+        externalId = new int[initialCapacity];
+        level = new int[initialCapacity];
+        hp = new double[initialCapacity];
+        mana = new double[initialCapacity];
+        strength = new double[initialCapacity];
+        agility = new double[initialCapacity];
+        dexterity = new double[initialCapacity];
+        damage = new double[initialCapacity];
+        defense = new double[initialCapacity];
+        dodge = new double[initialCapacity];
+        row = new int[initialCapacity];
+        col = new int[initialCapacity];
+    }
+
+    /**
+     * Copies a hero's stats and equipment bonuses into a new slot.
+     *
+     * @param externalId caller's id for the hero (e.g. its board id)
+     * @return the slot id
+     */
+    public int addHero(Hero hero, int externalId, int row, int col) {
+        int id = newSlot(Objects.requireNonNull(hero, "hero"), HERO, externalId, row, col);
+        mana[id] = hero.getMana();
+        strength[id] = hero.getEffectiveStrength();
+        agility[id] = hero.getEffectiveAgility();
+        dexterity[id] = hero.getEffectiveDexterity();
+        damage[id] = (hero.getEquippedWeapon() != null) ? hero.getEquippedWeapon().getDamage() : 0;
+        defense[id] = (hero.getEquippedArmor() != null) ? hero.getEquippedArmor().getDamageReduction() : 0;
+        return id;
+    }
+
+    /**
+     * @return the slot id
+     */
+    public int addMonster(Monster monster, int externalId, int row, int col) {
+        int id = newSlot(Objects.requireNonNull(monster, "monster"), MONSTER, externalId, row, col);
+        damage[id] = monster.getBaseDamage();
+        defense[id] = monster.getDefense();
+        dodge[id] = monster.getDodgeChance();
+        return id;
+    }
+
+    private int newSlot(LivingEntity source, byte type, int external, int r, int c) {
+        if (size == sources.length) grow();
+        int id = size++;
+        sources[id] = source;
+        kind[id] = type;
+        externalId[id] = external;
+        level[id] = source.getLevel();
+        hp[id] = source.getHp();
+        mana[id] = strength[id] = agility[id] = dexterity[id] = damage[id] = defense[id] = dodge[id] = 0;
+        row[id] = r;
+        col[id] = c;
+        return id;
+    }
+
+    private void grow() {
+        int capacity = sources.length * 2;
+        sources = Arrays.copyOf(sources, capacity);
+        kind = Arrays.copyOf(kind, capacity);
+        externalId = Arrays.copyOf(externalId, capacity);
+        level = Arrays.copyOf(level, capacity);
+        hp = Arrays.copyOf(hp, capacity);
+        mana = Arrays.copyOf(mana, capacity);
+        strength = Arrays.copyOf(strength, capacity);
+        agility = Arrays.copyOf(agility, capacity);
+        dexterity = Arrays.copyOf(dexterity, capacity);
+        damage = Arrays.copyOf(damage, capacity);
+        defense = Arrays.copyOf(defense, capacity);
+        dodge = Arrays.copyOf(dodge, capacity);
+        row = Arrays.copyOf(row, capacity);
+        col = Arrays.copyOf(col, capacity);
+    }
+
+    /** Forgets every slot but keeps the arrays for reuse. */
+    public void clear() {
+        Arrays.fill(sources, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Pushes HP, mana and monster stats back into the original objects. Hero stat columns hold
+     * effective values and equipment-derived columns (hero damage and defense) are copies, so
+     * neither is written back.
+     */
+    public void writeBack() {
+        for (int id = 0; id < size; id++) writeBack(id);
+    }
+
+    public void writeBack(int id) {
+        checkSlot(id);
+        LivingEntity source = sources[id];
+        source.setHp(hp[id]);
+        if (kind[id] == HERO) {
+            Hero h = (Hero) source;
+            h.setMana(mana[id]);
+        } else {
+            Monster m = (Monster) source;
+            m.setBaseDamage(damage[id]);
+            m.setDefense(defense[id]);
+            m.setDodgeChance(dodge[id]);
+        }
+    }
+
+    public HeroView hero(int id) {
+        checkSlot(id);
+        if (kind[id] != HERO) throw new IllegalArgumentException("Slot " + id + " is not a hero");
+        return new HeroView(this, id);
+    }
+
+    public MonsterView monster(int id) {
+        checkSlot(id);
+        if (kind[id] != MONSTER) throw new IllegalArgumentException("Slot " + id + " is not a monster");
+        return new MonsterView(this, id);
+    }
+
+    private void checkSlot(int id) {
+        if (id < 0 || id >= size) throw new IndexOutOfBoundsException("No slot " + id + " (size " + size + ")");
+    }
+
+    public int size() { return size; }
+    public LivingEntity getSource(int id) { checkSlot(id); return sources[id]; }
+    public boolean isHero(int id) { return kind[id] == HERO; }
+
+    // Live columns for tight loops; valid for slots [0, size()) until the next add.
+    public byte[] kindColumn() { return kind; }
+    public int[] externalIdColumn() { return externalId; }
+    public int[] levelColumn() { return level; }
+    public double[] hpColumn() { return hp; }
+    public double[] manaColumn() { return mana; }
+    public double[] strengthColumn() { return strength; }
+    public double[] agilityColumn() { return agility; }
+    public double[] dexterityColumn() { return dexterity; }
+    public double[] damageColumn() { return damage; }
+    public double[] defenseColumn() { return defense; }
+    public double[] dodgeColumn() { return dodge; }
+    public int[] rowColumn() { return row; }
+    public int[] colColumn() { return col; }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package model.store;
+
+/**
+ * Hero-shaped accessor for one {@link EntityStore} slot. Reads and writes go straight to
+ * the store's columns; nothing is cached in the view.
+ */
+public final class HeroView {
+    private final EntityStore store;
+    private final int id;
+
+    HeroView(EntityStore store, int id) {
+        this.store = store;
+        this.id = id;
+    }
+
+    public int getId() { return id; }
+    public String getName() { return store.getSource(id).getName(); }
+    public int getLevel() { return store.levelColumn()[id]; }
+    public double getHp() { return store.hpColumn()[id]; }
+    public void setHp(double hp) { store.hpColumn()[id] = hp; }
+    public double getMana() { return store.manaColumn()[id]; }
+    public void setMana(double mana) { store.manaColumn()[id] = mana; }
+    public double getStrength() { return store.strengthColumn()[id]; }
+    public double getAgility() { return store.agilityColumn()[id]; }
+    public double getDexterity() { return store.dexterityColumn()[id]; }
+    public double getWeaponDamage() { return store.damageColumn()[id]; }
+    public double getArmorReduction() { return store.defenseColumn()[id]; }
+    public int getRow() { return store.rowColumn()[id]; }
+    public int getCol() { return store.colColumn()[id]; }
+
+    public boolean isFainted() {
+        return getHp() <= 0;
+    }
+
+    /** Same rule as {@code LivingEntity.takeDamage}: HP never drops below zero. */
+    public void takeDamage(double amount) {
+        double[] hp = store.hpColumn();
+        hp[id] -= amount;
+        if (hp[id] < 0) hp[id] = 0;
+    }
+}
\ No newline at end of file
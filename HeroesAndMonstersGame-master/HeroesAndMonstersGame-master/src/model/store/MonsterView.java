@@ -0,0 +1,39 @@
+package model.store;
+
+/**
+ * Monster-shaped accessor for one {@link EntityStore} slot.
+ */
+public final class MonsterView {
+    private final EntityStore store;
+    private final int id;
+
+    MonsterView(EntityStore store, int id) {
+        this.store = store;
+        this.id = id;
+    }
+
+    public int getId() { return id; }
+    public String getName() { return store.getSource(id).getName(); }
+    public int getLevel() { return store.levelColumn()[id]; }
+    public double getHp() { return store.hpColumn()[id]; }
+    public void setHp(double hp) { store.hpColumn()[id] = hp; }
+    public double getBaseDamage() { return store.damageColumn()[id]; }
+    public void setBaseDamage(double damage) { store.damageColumn()[id] = damage; }
+    public double getDefense() { return store.defenseColumn()[id]; }
+    public void setDefense(double defense) { store.defenseColumn()[id] = defense; }
+    public double getDodgeChance() { return store.dodgeColumn()[id]; }
+    public void setDodgeChance(double dodge) { store.dodgeColumn()[id] = dodge; }
+    public int getRow() { return store.rowColumn()[id]; }
+    public int getCol() { return store.colColumn()[id]; }
+
+    public boolean isFainted() {
+        return getHp() <= 0;
+    }
+
+    /** Same rule as {@code LivingEntity.takeDamage}: HP never drops below zero. */
+    public void takeDamage(double amount) {
+        double[] hp = store.hpColumn();
+        hp[id] -= amount;
+        if (hp[id] < 0) hp[id] = 0;
+    }
+}
\ No newline at end of file
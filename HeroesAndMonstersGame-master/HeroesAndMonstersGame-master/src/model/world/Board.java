@@ -2,6 +2,7 @@ package model.world;
 
 import model.item.Item;
 import util.GameConfig;
+import util.RngService;
 
 import java.util.List;
 import java.util.Random;
@@ -12,16 +13,19 @@ public class Board {
     private Tile[][] grid;
     private List<Item> possibleItems;
 
-    public Board(int width, int height, List<Item> items) {
+    /**
+     * Layout draws from the BOARD stream and market stock from the MARKET stream, so the same
+     * session seed always produces the same map and shops.
+     */
+    public Board(int width, int height, List<Item> items, RngService random) {
         this.width = width;
         this.height = height;
         this.possibleItems = items;
         this.grid = new Tile[height][width];
-        initializeBoard();
+        initializeBoard(random.get(RngService.Stream.BOARD), random.get(RngService.Stream.MARKET));
     }
 
-    private void initializeBoard() {
-        Random rand = new Random();
+    private void initializeBoard(Random rand, Random marketRandom) {
         for (int i = 0; i < height; i++) {
             for (int j = 0; j < width; j++) {
                 // ------------------------
@@ -47,7 +51,7 @@ public class Board {
                 }
                 // 30% Market (2,3,4)
                 else if (roll < GameConfig.CHANCE_WALL * 10 + GameConfig.CHANCE_MARKET * 10) {
-                    grid[i][j] = new MarketTile(possibleItems);
+                    grid[i][j] = new MarketTile(possibleItems, marketRandom);
                 }
                 // 50% Common (5,6,7,8,9)
                 else {
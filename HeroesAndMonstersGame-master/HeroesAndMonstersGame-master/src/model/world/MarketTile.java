@@ -3,13 +3,14 @@ import model.item.Item;
 import model.market.Market;
 
 import java.util.List;
+import java.util.Random;
 
 public class MarketTile extends Tile {
     private Market market; // Each tile has a shop
 
-    public MarketTile(List<Item> possibleItems) {
+    public MarketTile(List<Item> possibleItems, Random random) {
         super("Market");
-        this.market = new Market(possibleItems);
+        this.market = new Market(possibleItems, random);
     }
 
     public Market getMarket() { return market; }
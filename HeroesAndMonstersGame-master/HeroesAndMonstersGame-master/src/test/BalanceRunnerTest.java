@@ -0,0 +1,108 @@
+package test;
+
+import legends.ai.MonsterSpawner;
+import legends.config.LegendsConfig;
+import legends.engine.AdvancePolicy;
+import legends.engine.BalanceRunner;
+import legends.engine.HeroPolicy;
+import legends.engine.TeamStats;
+import legends.engine.ValorSimulator;
+import legends.world.BoardSpec;
+import legends.world.LegendsBoard;
+import model.entity.Hero;
+import model.entity.Monster;
+import util.GameDataCatalog;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Driver that checks the balance sweep is deterministic: the same seeds give the same table
+ * whatever the number of worker threads. Run from the project root (where the .txt data files live).
+ */
+public class BalanceRunnerTest {
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("Starting Balance Runner Tests...");
+        System.out.println("--------------------------------------------------");
+        GameDataCatalog catalog = GameDataCatalog.load();
+        List<Hero> roster = catalog.newHeroes().subList(0, 5);
+        List<Monster> monsters = catalog.newMonsters();
+        HeroPolicy policy = new HesitantPolicy();
+
+        // Test 1: one thread and four threads produce identical tables
+        System.out.print("Test 1 (1 vs 4 threads):   ");
+        List<TeamStats> single = new BalanceRunner(roster, monsters, policy, 1).run(1L, 150);
+        check(describe(single).equals(describe(new BalanceRunner(roster, monsters, policy, 4).run(1L, 150))));
+
+        // Test 2: a seed count that leaves a partial work unit, on an odd thread count
+        System.out.print("Test 2 (Partial units):    ");
+        String partial = describe(new BalanceRunner(roster, monsters, policy, 1).run(500L, 70));
+        check(partial.equals(describe(new BalanceRunner(roster, monsters, policy, 3).run(500L, 70)))
+                && !partial.equals(describe(single)));
+
+        // Test 3: each team's row equals playing its seeds one after another on a single simulator
+        System.out.print("Test 3 (Matches serial):   ");
+        boolean serialMatches = true;
+        boolean mixedOutcomes = false;
+        for (TeamStats stats : single) {
+            List<Hero> team = new ArrayList<>();
+            for (String name : stats.getHeroNames()) {
+                for (Hero hero : roster) {
+                    if (hero.getName().equals(name)) {
+                        team.add(hero);
+                    }
+                }
+            }
+            ValorSimulator simulator = new ValorSimulator(team, monsters, policy, LegendsConfig.SIMULATION_MAX_ROUNDS,
+                    BoardSpec.DEFAULT.withConnectedLanes());
+            TeamStats serial = new TeamStats(stats.getHeroNames());
+            for (long seed = 1; seed <= 150; seed++) {
+                serial.record(simulator.runMatch(seed));
+            }
+            serialMatches &= describe(List.of(serial)).equals(describe(List.of(stats)));
+            mixedOutcomes |= stats.getHeroWins() > 0 && stats.getMonsterWins() > 0;
+        }
+        check(serialMatches && mixedOutcomes);
+
+        System.out.println("--------------------------------------------------");
+        System.out.println("Tests Complete.");
+    }
+
+    private static String describe(List<TeamStats> stats) {
+        StringBuilder sb = new StringBuilder(BalanceRunner.formatTable(stats));
+        for (TeamStats team : stats) {
+            sb.append(team.getHeroNames()).append(' ').append(team.getMatches()).append('/')
+                    .append(team.getHeroWins()).append('/').append(team.getMonsterWins()).append('/')
+                    .append(team.getDraws()).append('/')
+                    .append(String.format(Locale.US, "%.6f", team.averageRoundsToWin())).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static void check(boolean passed) {
+        System.out.println(passed ? "PASS" : "FAIL");
+    }
+
+    /**
+     * Stateless policy that only advances on some positions, so that outcomes differ from seed
+     * to seed (plain advancing wins every match on the default board).
+     */
+    private static final class HesitantPolicy implements HeroPolicy {
+        private final AdvancePolicy advance = new AdvancePolicy();
+
+        @Override
+        public void playTurn(LegendsBoard board, Hero hero) {
+            playTurn(board, null, hero);
+        }
+
+        @Override
+        public void playTurn(LegendsBoard board, MonsterSpawner spawner, Hero hero) {
+            if (((board.getZobristKey() >>> 17) & 3) != 0) {
+                advance.playTurn(board, spawner, hero);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,133 @@
+package test;
+
+import model.entity.Hero;
+import model.entity.Monster;
+import model.item.Item;
+import util.GameDataCatalog;
+import util.GameDataParser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Driver that checks the game-data catalog against the plain text parser and exercises its cache.
+ * Run from the project root (where the .txt data files live).
+ */
+public class GameDataCatalogTest {
+    private static final String[] FILES = {"Warriors.txt", "Sorcerers.txt", "Paladins.txt", "Dragons.txt",
+            "Exoskeletons.txt", "Spirits.txt", "Weaponry.txt", "Armory.txt", "Potions.txt",
+            "IceSpells.txt", "FireSpells.txt", "LightningSpells.txt"};
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("Starting Catalog Tests...");
+        System.out.println("--------------------------------------------------");
+        Path dirA = copyData();
+        Path dirB = copyData();
+
+        // Test 1: a first load parses the text files, matches GameDataParser and writes the cache
+        System.out.print("Test 1 (Matches parser): ");
+        GameDataCatalog catalog = GameDataCatalog.load(dirA);
+        check(describeHeroes(catalog.newHeroes()).equals(describeHeroes(parserHeroes(dirA)))
+                && describeMonsters(catalog.newMonsters()).equals(describeMonsters(parserMonsters(dirA)))
+                && catalog.newItems().size() == parserItemCount(dirA)
+                && Files.exists(dirA.resolve(GameDataCatalog.CACHE_FILE)));
+
+        // Test 2: every call hands out fresh objects
+        System.out.print("Test 2 (Fresh copies):   ");
+        check(catalog.newHeroes().get(0) != catalog.newHeroes().get(0));
+
+        // Test 3: loading another directory and coming back reads the mapped cache, and a touched
+        // but unchanged file is accepted by checksum
+        System.out.print("Test 3 (Cache reload):   ");
+        GameDataCatalog.load(dirB);
+        Files.setLastModifiedTime(dirA.resolve("Dragons.txt"), FileTime.fromMillis(System.currentTimeMillis() + 5_000));
+        GameDataCatalog cached = GameDataCatalog.load(dirA);
+        check(cached != catalog && describeMonsters(cached.newMonsters()).equals(describeMonsters(catalog.newMonsters())));
+
+        // Test 4: an edited file invalidates the cache
+        System.out.print("Test 4 (Invalidation):   ");
+        Files.write(dirA.resolve("Spirits.txt"), "\nTest_Ghost 2 100 100 10\n".getBytes(), StandardOpenOption.APPEND);
+        Files.setLastModifiedTime(dirA.resolve("Spirits.txt"), FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+        GameDataCatalog.load(dirB);
+        List<Monster> monsters = GameDataCatalog.load(dirA).newMonsters();
+        check(monsters.size() == catalog.newMonsters().size() + 1
+                && monsters.get(monsters.size() - 1).getName().equals("Test_Ghost"));
+
+        // Test 5: malformed rows are rejected instead of silently skipped
+        System.out.print("Test 5 (Validation):     ");
+        Files.write(dirB.resolve("Armory.txt"), "\nBroken_Shield 100 x 50\n".getBytes(), StandardOpenOption.APPEND);
+        boolean rejected = false;
+        try {
+            GameDataCatalog.load(dirB);
+        } catch (IOException e) {
+            rejected = e.getMessage().startsWith("Armory.txt:");
+        }
+        check(rejected);
+
+        System.out.println("--------------------------------------------------");
+        System.out.println("Tests Complete.");
+    }
+
+    private static Path copyData() throws IOException {
+        Path dir = Files.createTempDirectory("catalog-test");
+        for (String file : FILES) Files.copy(Paths.get(file), dir.resolve(file));
+        return dir;
+    }
+
+    private static List<Hero> parserHeroes(Path dir) throws IOException {
+        List<Hero> heroes = new ArrayList<>();
+        heroes.addAll(GameDataParser.parseHeroes(dir.resolve("Warriors.txt").toString(), "Warrior"));
+        heroes.addAll(GameDataParser.parseHeroes(dir.resolve("Sorcerers.txt").toString(), "Sorcerer"));
+        heroes.addAll(GameDataParser.parseHeroes(dir.resolve("Paladins.txt").toString(), "Paladin"));
+        return heroes;
+    }
+
+    private static List<Monster> parserMonsters(Path dir) throws IOException {
+        List<Monster> monsters = new ArrayList<>();
+        monsters.addAll(GameDataParser.parseMonsters(dir.resolve("Dragons.txt").toString(), "Dragon"));
+        monsters.addAll(GameDataParser.parseMonsters(dir.resolve("Exoskeletons.txt").toString(), "Exoskeleton"));
+        monsters.addAll(GameDataParser.parseMonsters(dir.resolve("Spirits.txt").toString(), "Spirit"));
+        return monsters;
+    }
+
+    private static int parserItemCount(Path dir) throws IOException {
+        List<Item> items = new ArrayList<>();
+        items.addAll(GameDataParser.parseWeapons(dir.resolve("Weaponry.txt").toString()));
+        items.addAll(GameDataParser.parseArmor(dir.resolve("Armory.txt").toString()));
+        items.addAll(GameDataParser.parsePotions(dir.resolve("Potions.txt").toString()));
+        items.addAll(GameDataParser.parseSpells(dir.resolve("IceSpells.txt").toString(), model.item.Spell.SpellType.ICE));
+        items.addAll(GameDataParser.parseSpells(dir.resolve("FireSpells.txt").toString(), model.item.Spell.SpellType.FIRE));
+        items.addAll(GameDataParser.parseSpells(dir.resolve("LightningSpells.txt").toString(), model.item.Spell.SpellType.LIGHTNING));
+        return items.size();
+    }
+
+    private static String describeHeroes(List<Hero> heroes) {
+        StringBuilder sb = new StringBuilder();
+        for (Hero h : heroes) {
+            sb.append(h.getClass().getSimpleName()).append(' ').append(h.getName()).append(' ').append(h.getMana())
+                    .append(' ').append(h.getStrength()).append(' ').append(h.getAgility()).append(' ')
+                    .append(h.getDexterity()).append(' ').append(h.getGold()).append(' ').append(h.getExperience()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static String describeMonsters(List<Monster> monsters) {
+        StringBuilder sb = new StringBuilder();
+        for (Monster m : monsters) {
+            sb.append(m.getClass().getSimpleName()).append(' ').append(m.getName()).append(' ').append(m.getLevel())
+                    .append(' ').append(m.getBaseDamage()).append(' ').append(m.getDefense()).append(' ')
+                    .append(m.getDodgeChance()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static void check(boolean passed) {
+        System.out.println(passed ? "PASS" : "FAIL");
+    }
+}
\ No newline at end of file
@@ -1,7 +1,9 @@
 package test;
 
 import controller.HeroController;
+import model.entity.StatModifiers;
 import model.entity.Warrior;
+import model.item.Weapon;
 import util.GameConfig;
 
 /**
@@ -59,6 +61,28 @@ public class HeroMathTest {
 
         assertResult(expectedCap, actualCap);
 
+        // ---------------------------------------------------------------
+        // TEST CASE 4: Cached stats follow gear changes
+        // ---------------------------------------------------------------
+        // Rule: equipping a weapon invalidates the cached damage
+        // Math: (100 + 500) * 0.05 = 30.0
+        testHero.setEquippedWeapon(new Weapon("Sword", 500, 1, 500, 1));
+
+        System.out.print("Test 4 (Equip Cache): ");
+        assertResult(30.0, controller.calculateDamage(testHero));
+
+        // ---------------------------------------------------------------
+        // TEST CASE 5: Cached stats follow modifiers and level-ups
+        // ---------------------------------------------------------------
+        // Rule: terrain modifiers and level-ups invalidate the cached damage
+        // Math: (100 * 1.05 * 1.05 * 1.1 + 500) * 0.05 = 31.06375
+        testHero.setModifiers(new StatModifiers(1.1, 1.0, 1.0));
+        testHero.levelUp();
+
+        System.out.print("Test 5 (Level Cache): ");
+        double expectedLevelDamage = (100 * GameConfig.SKILL_SCALE * GameConfig.SKILL_SCALE * 1.1 + 500) * GameConfig.DAMAGE_SCALE;
+        assertResult(expectedLevelDamage, controller.calculateDamage(testHero));
+
         System.out.println("--------------------------------------------------");
         System.out.println("Tests Complete.");
     }
@@ -0,0 +1,1079 @@
+package test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import controller.HeroController;
+import legends.ai.MonsterAI;
+import legends.ai.MonsterSpawner;
+import legends.config.LegendsConfig;
+import legends.engine.TranspositionTable;
+import legends.journal.MatchJournal;
+import legends.journal.MatchReplayer;
+import legends.view.LegendsBoardRenderer;
+import legends.world.BoardSnapshot;
+import legends.world.BoardSpec;
+import legends.world.Direction;
+import legends.world.LegendsBoard;
+import legends.world.Position;
+import legends.world.TerrainType;
+import legends.world.TileOverlay;
+import legends.world.buff.TerrainBuffManager;
+import model.entity.Hero;
+import model.entity.Monster;
+import model.entity.Spirit;
+import model.entity.StatModifiers;
+import model.entity.Warrior;
+import model.item.Armor;
+import model.store.EntityStore;
+import util.GameConfig;
+
+/**
+ * A "Driver Class" to verify the Legends of Valor board queries.
+ * Plays random hero/monster moves and checks that the indexed lookups
+ * agree with a plain scan over the tiles.
+ * Run this file SEPARATELY from Main.java.
+ */
+public class LegendsBoardTest {
+
+    public static void main(String[] args) {
+        System.out.println("Starting Board Tests...");
+        System.out.println("--------------------------------------------------");
+
+        Random random = new Random(42);
+        int failures = 0;
+        for (long seed = 1; seed <= 200; seed++) {
+            LegendsBoard board = new LegendsBoard(seed);
+            List<Hero> heroes = new ArrayList<>();
+            for (int lane = 0; lane < board.getLaneCount(); lane++) {
+                heroes.add(new Warrior("H" + lane, 100, 100, 100, 100, 0, 0));
+            }
+            board.registerHeroes(heroes);
+            for (int lane = 0; lane < heroes.size(); lane++) {
+                board.addHero(heroes.get(lane), board.getHeroNexusEntry(lane));
+            }
+
+            List<Monster> monsters = new ArrayList<>();
+            for (int step = 0; step < 60; step++) {
+                int lane = random.nextInt(board.getLaneCount());
+                Position slot = board.findMonsterSpawnSlot(lane);
+                if (slot != null && random.nextInt(4) == 0) {
+                    Monster monster = new Spirit("M" + step, 1, 100, 100, 10);
+                    board.addMonster(monster, slot);
+                    monsters.add(monster);
+                }
+                Direction direction = Direction.values()[random.nextInt(4)];
+                if (!monsters.isEmpty() && random.nextBoolean()) {
+                    board.moveMonster(monsters.get(random.nextInt(monsters.size())), direction);
+                } else {
+                    board.moveHero(heroes.get(random.nextInt(heroes.size())), direction);
+                }
+                if (random.nextInt(10) == 0 && !monsters.isEmpty()) {
+                    board.removeMonster(monsters.remove(random.nextInt(monsters.size())));
+                }
+                if (!matchesTileScan(board)) {
+                    failures++;
+                }
+            }
+        }
+
+        System.out.print("Test 1 (Lane queries match tile scan): ");
+        assertResult(0, failures);
+
+        // ---------------------------------------------------------------
+        // TEST CASE 2: Snapshot / Restore round trip
+        // ---------------------------------------------------------------
+        // Rule: after restore(snapshot) the board renders identically and every
+        // entity has its captured stats back, whatever happened in between.
+        int restoreFailures = 0;
+        LegendsBoardRenderer renderer = new LegendsBoardRenderer();
+        for (long seed = 1; seed <= 50; seed++) {
+            LegendsBoard board = new LegendsBoard(seed);
+            List<Hero> heroes = new ArrayList<>();
+            for (int lane = 0; lane < board.getLaneCount(); lane++) {
+                heroes.add(new Warrior("H" + lane, 100, 100, 100, 100, 0, 0));
+            }
+            board.registerHeroes(heroes);
+            for (int lane = 0; lane < heroes.size(); lane++) {
+                board.addHero(heroes.get(lane), board.getHeroNexusEntry(lane));
+                board.moveHero(heroes.get(lane), Direction.NORTH);
+            }
+            List<Monster> monsters = new ArrayList<>();
+            for (int lane = 0; lane < board.getLaneCount(); lane++) {
+                Monster monster = new Spirit("M" + lane, 1, 100, 100, 10);
+                board.addMonster(monster, board.findMonsterSpawnSlot(lane));
+                monsters.add(monster);
+            }
+
+            BoardSnapshot snapshot = board.snapshot();
+            String expected = renderer.renderToString(board) + describe(board, heroes, monsters);
+
+            for (int step = 0; step < 30; step++) {
+                Hero hero = heroes.get(random.nextInt(heroes.size()));
+                board.moveHero(hero, Direction.values()[random.nextInt(4)]);
+                hero.takeDamage(10);
+                Monster monster = monsters.get(random.nextInt(monsters.size()));
+                board.moveMonster(monster, Direction.SOUTH);
+                monster.setDefense(monster.getDefense() * 0.9);
+                Position cell = Position.of(random.nextInt(board.getSize()), random.nextInt(board.getSize()));
+                board.clearObstacle(cell);
+            }
+            board.removeHero(heroes.get(0));
+            board.removeMonster(monsters.get(0));
+            board.addMonster(new Spirit("Late", 1, 100, 100, 10), board.getMonsterNexusEntry(1));
+
+            board.restore(snapshot);
+            String actual = renderer.renderToString(board) + describe(board, heroes, monsters);
+            if (!expected.equals(actual) || !matchesTileScan(board)) {
+                restoreFailures++;
+            }
+        }
+
+        System.out.print("Test 2 (Snapshot restore):             ");
+        assertResult(0, restoreFailures);
+
+        // ---------------------------------------------------------------
+        // TEST CASE 3: Board copy
+        // ---------------------------------------------------------------
+        // Rule: a copy renders identically, and playing on the copy never
+        // touches the original board or its entities.
+        int copyFailures = 0;
+        for (long seed = 1; seed <= 50; seed++) {
+            LegendsBoard board = new LegendsBoard(seed);
+            List<Hero> heroes = new ArrayList<>();
+            for (int lane = 0; lane < board.getLaneCount(); lane++) {
+                heroes.add(new Warrior("H" + lane, 100, 100, 100, 100, 0, 0));
+            }
+            board.registerHeroes(heroes);
+            for (int lane = 0; lane < heroes.size(); lane++) {
+                board.addHero(heroes.get(lane), board.getHeroNexusEntry(lane));
+                board.moveHero(heroes.get(lane), Direction.NORTH);
+            }
+            List<Monster> monsters = new ArrayList<>();
+            for (int lane = 0; lane < board.getLaneCount(); lane++) {
+                Monster monster = new Spirit("M" + lane, 1, 100, 100, 10);
+                board.addMonster(monster, board.findMonsterSpawnSlot(lane));
+                monsters.add(monster);
+            }
+            String expected = renderer.renderToString(board) + describe(board, heroes, monsters);
+
+            LegendsBoard copy = board.copy();
+            if (!renderer.renderToString(board).equals(renderer.renderToString(copy)) || !matchesTileScan(copy)) {
+                copyFailures++;
+            }
+            for (int step = 0; step < 30; step++) {
+                Hero hero = copy.getHeroById(1 + random.nextInt(heroes.size())).get();
+                copy.moveHero(hero, Direction.values()[random.nextInt(4)]);
+                hero.takeDamage(10);
+                for (Monster monster : copy.monstersInLane(random.nextInt(copy.getLaneCount()))) {
+                    copy.moveMonster(monster, Direction.SOUTH);
+                    monster.setDefense(monster.getDefense() * 0.9);
+                }
+                copy.clearObstacle(Position.of(random.nextInt(copy.getSize()), random.nextInt(copy.getSize())));
+            }
+            String actual = renderer.renderToString(board) + describe(board, heroes, monsters);
+            if (!expected.equals(actual) || !matchesTileScan(copy)) {
+                copyFailures++;
+            }
+        }
+
+        System.out.print("Test 3 (Board copy is independent):    ");
+        assertResult(0, copyFailures);
+
+        // ---------------------------------------------------------------
+        // TEST CASE 4: Match journal replay
+        // ---------------------------------------------------------------
+        // Rule: seeking the replayer to any round (forwards or backwards)
+        // reproduces the live board at the end of that round.
+        int replayFailures = 0;
+        for (long seed = 1; seed <= 10; seed++) {
+            // Odd seeds record a wider board with connected lanes, which the journal header carries
+            BoardSpec spec = (seed % 2 == 0) ? BoardSpec.DEFAULT : new BoardSpec(5, 3).withConnectedLanes();
+            LegendsBoard board = new LegendsBoard(spec, seed);
+            List<Hero> heroes = new ArrayList<>();
+            for (int lane = 0; lane < board.getLaneCount(); lane++) {
+                heroes.add(new Warrior("H" + lane, 100, 100, 100, 100, 0, 0));
+            }
+            board.registerHeroes(heroes);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            MatchJournal journal = new MatchJournal(bytes, spec, seed);
+            for (int lane = 0; lane < heroes.size(); lane++) {
+                board.addHero(heroes.get(lane), board.getHeroNexusEntry(lane));
+                journal.heroRegistered(lane + 1, heroes.get(lane), board.getHeroNexusEntry(lane));
+            }
+            MonsterAI monsterAI = new MonsterAI(new HeroController(), new Random(seed));
+            MonsterSpawner spawner = new MonsterSpawner(2);
+            monsterAI.setListener(journal);
+            spawner.setListener(journal);
+
+            List<String> frames = new ArrayList<>();
+            frames.add(renderer.renderToString(board) + describe(board, heroes, new ArrayList<>()));
+            for (int round = 1; round <= 40; round++) {
+                journal.roundStarted(round);
+                for (Hero hero : heroes) {
+                    if (board.getHeroId(hero).isPresent()) {
+                        Direction direction = Direction.values()[random.nextInt(4)];
+                        if (board.moveHero(hero, direction)) {
+                            journal.heroMoved(board.getHeroId(hero).get(), direction);
+                        }
+                    }
+                }
+                Position cell = Position.of(random.nextInt(board.getSize()), random.nextInt(board.getSize()));
+                if (board.isInside(cell) && board.getTile(cell).getTerrain().isObstacle()) {
+                    board.clearObstacle(cell);
+                    journal.obstacleCleared(cell);
+                }
+                spawner.onRoundStart(board, (lane, level) -> new Spirit("S" + lane, level, 300, 100, 10), heroes, null);
+                monsterAI.performRound(board, null);
+                frames.add(renderer.renderToString(board) + describe(board, heroes, new ArrayList<>()));
+            }
+
+            try {
+                journal.close();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            MatchReplayer replayer = new MatchReplayer(bytes.toByteArray());
+            if (!replayer.getSpec().equals(spec)) {
+                replayFailures++;
+            }
+            int[] rounds = {40, 3, 17, 0, 33, 32, 16, 40};
+            for (int round : rounds) {
+                LegendsBoard replayed = replayer.seek(round);
+                String actual = renderer.renderToString(replayed) + describe(replayed, replayer.getHeroes(), new ArrayList<>());
+                if (!frames.get(round).equals(actual)) {
+                    replayFailures++;
+                }
+            }
+            // A journal cut off anywhere, as after a crash, still replays every complete round
+            byte[] full = bytes.toByteArray();
+            for (int cut = full.length - 1; cut > full.length - 400; cut -= 7) {
+                MatchReplayer partial = new MatchReplayer(Arrays.copyOf(full, cut));
+                int last = partial.getRoundCount() - 1;
+                LegendsBoard replayed = partial.seek(last);
+                String actual = renderer.renderToString(replayed) + describe(replayed, partial.getHeroes(), new ArrayList<>());
+                if (!frames.get(last).equals(actual)) {
+                    replayFailures++;
+                }
+            }
+        }
+
+        System.out.print("Test 4 (Journal replay):               ");
+        assertResult(0, replayFailures);
+
+        // ---------------------------------------------------------------
+        // TEST CASE 5: Entity store attacks match the object rules
+        // ---------------------------------------------------------------
+        int storeFailures = 0;
+        HeroController heroController = new HeroController();
+        MonsterAI storeAI = new MonsterAI(heroController, new Random(5));
+        EntityStore store = new EntityStore(2);
+        for (long seed = 1; seed <= 50; seed++) {
+            Random rolls = new Random(seed);
+            LegendsBoard board = new LegendsBoard(seed);
+            List<Hero> heroes = new ArrayList<>();
+            for (int lane = 0; lane < board.getLaneCount(); lane++) {
+                Hero hero = new Warrior("H" + lane, 100, 100, 100 + 60 * lane, 100, 0, 0);
+                hero.setHp(5_000);
+                if (lane == 1) {
+                    hero.setEquippedArmor(new Armor("Plate", 100, 1, 150));
+                }
+                heroes.add(hero);
+            }
+            board.registerHeroes(heroes);
+            for (int lane = 0; lane < heroes.size(); lane++) {
+                board.addHero(heroes.get(lane), board.getHeroNexusEntry(lane));
+            }
+            List<Monster> monsters = new ArrayList<>();
+            for (int lane = 0; lane < board.getLaneCount(); lane++) {
+                Monster monster = new Spirit("M" + lane, 1, 100 + rolls.nextInt(400), 100, 10);
+                board.addMonster(monster, board.getMonsterNexusEntry(lane));
+                monsters.add(monster);
+            }
+
+            board.exportEntities(store);
+            int count = 40;
+            int[] attackers = new int[count];
+            int[] targets = new int[count];
+            double[] roll = new double[count];
+            for (int i = 0; i < count; i++) {
+                attackers[i] = heroes.size() + rolls.nextInt(monsters.size());
+                targets[i] = rolls.nextInt(heroes.size());
+                roll[i] = rolls.nextDouble();
+            }
+            storeAI.resolveAttacks(store, attackers, targets, roll, count, new double[count]);
+
+            for (int i = 0; i < count; i++) {
+                Hero hero = heroes.get(targets[i]);
+                if (roll[i] >= heroController.calculateDodgeChance(hero)) {
+                    double armor = hero.getEquippedArmor() != null ? hero.getEquippedArmor().getDamageReduction() : 0;
+                    hero.takeDamage(Math.max(0, monsters.get(attackers[i] - heroes.size()).getBaseDamage() - armor));
+                }
+            }
+            for (int id = 0; id < heroes.size(); id++) {
+                if (store.hero(id).getHp() != heroes.get(id).getHp()) {
+                    storeFailures++;
+                }
+            }
+            heroes.get(0).setHp(1);
+            store.writeBack();
+            if (heroes.get(0).getHp() != store.hero(0).getHp()) {
+                storeFailures++;
+            }
+        }
+        System.out.print("Test 5 (Entity store attacks):         ");
+        assertResult(0, storeFailures);
+
+        // Test 6: generated geometry for other specs, and incremental rendering on a larger board
+        int specFailures = 0;
+        for (BoardSpec spec : new BoardSpec[] {new BoardSpec(1, 3), new BoardSpec(5, 3), BoardSpec.fitting(64, 2)}) {
+            LegendsBoard board = new LegendsBoard(spec, 7);
+            int size = board.getSize();
+            for (int col = 0; col < size; col++) {
+                boolean separator = (col + 1) % (spec.getLaneWidth() + 1) == 0;
+                boolean inaccessible = board.getTile(Position.of(size / 2, col)).getOverlay() == TileOverlay.INACCESSIBLE;
+                if (separator != inaccessible || separator != (board.laneIndex(Position.of(0, col)) < 0)) {
+                    specFailures++;
+                }
+            }
+            for (int lane = 0; lane < board.getLaneCount(); lane++) {
+                if (!board.findMonsterSpawnSlot(lane).equals(board.getMonsterNexusEntry(lane))) {
+                    specFailures++;
+                }
+            }
+
+            LegendsBoardRenderer incremental = new LegendsBoardRenderer(true);
+            incremental.renderUpdate(board);
+            List<Monster> monsters = new ArrayList<>();
+            BoardSnapshot start = board.snapshot();
+            for (int step = 0; step < 200; step++) {
+                int lane = random.nextInt(board.getLaneCount());
+                Position slot = board.findMonsterSpawnSlot(lane);
+                if (slot != null && random.nextInt(3) == 0) {
+                    Monster monster = new Spirit("M" + step, 1, 100, 100, 10);
+                    board.addMonster(monster, slot);
+                    monsters.add(monster);
+                } else if (!monsters.isEmpty()) {
+                    Monster monster = monsters.get(random.nextInt(monsters.size()));
+                    if (random.nextInt(8) == 0) {
+                        board.removeMonster(monster);
+                        monsters.remove(monster);
+                    } else {
+                        board.moveMonster(monster, Direction.values()[random.nextInt(4)]);
+                    }
+                }
+                if (random.nextInt(20) == 0) {
+                    board.clearObstacle(Position.of(random.nextInt(size), random.nextInt(size)));
+                }
+                if (step == 150) {
+                    board.restore(start);
+                    monsters.clear();
+                }
+                incremental.renderUpdate(board);
+                if (step % 10 == 0
+                    && !incremental.renderToString(board).equals(new LegendsBoardRenderer().renderToString(board))) {
+                    specFailures++;
+                }
+            }
+        }
+        System.out.print("Test 6 (Board specs and rendering):    ");
+        assertResult(0, specFailures);
+
+        // ---------------------------------------------------------------
+        // TEST CASE 7: Terrain buffs as modifiers
+        // ---------------------------------------------------------------
+        // Rule: a hero always carries the modifiers of the terrain it stands on, its base
+        // stats never change by moving, and a level-up while buffed scales the base values.
+        int buffFailures = 0;
+        for (long seed = 1; seed <= 50; seed++) {
+            LegendsBoard board = new LegendsBoard(seed);
+            Hero hero = new Warrior("H", 100, 100, 100, 100, 0, 0);
+            board.registerHeroes(List.of(hero));
+            board.addHero(hero, board.getHeroNexusEntry(0));
+            double strength = hero.getStrength();
+            for (int step = 0; step < 60; step++) {
+                board.moveHero(hero, Direction.values()[random.nextInt(4)]);
+                Position at = board.getHeroPositions().get(hero);
+                StatModifiers expected = TerrainBuffManager.modifiersFor(board.getTile(at).getTerrain());
+                if (hero.getModifiers() != expected || hero.getStrength() != strength
+                    || hero.getEffectiveStrength() != strength * expected.getStrength()) {
+                    buffFailures++;
+                }
+                if (step == 30) {
+                    hero.levelUp();
+                    strength = hero.getStrength();
+                    if (strength != 100 * GameConfig.SKILL_SCALE * GameConfig.SKILL_SCALE) {
+                        buffFailures++;
+                    }
+                }
+            }
+            board.removeHero(hero);
+            if (hero.getModifiers() != StatModifiers.NONE) {
+                buffFailures++;
+            }
+        }
+        System.out.print("Test 7 (Terrain buff modifiers):       ");
+        assertResult(0, buffFailures);
+
+        // ---------------------------------------------------------------
+        // TEST CASE 8: Batched lane turns match per-monster turns
+        // ---------------------------------------------------------------
+        // Rule: performRound (lanes collected once, range queries batched) moves, attacks
+        // and knocks out exactly as calling takeTurn for each monster in lane order.
+        int turnFailures = 0;
+        for (long seed = 1; seed <= 30; seed++) {
+            LegendsBoard board = new LegendsBoard(seed);
+            List<Hero> heroes = new ArrayList<>();
+            for (int i = 0; i < 2 * board.getLaneCount(); i++) {
+                heroes.add(new Warrior("H" + i, 100, 100, 100, 100, 0, 0));
+            }
+            board.registerHeroes(heroes);
+            for (Hero hero : heroes) {
+                Position cell;
+                do {
+                    cell = Position.of(1 + random.nextInt(board.getSize() - 2), random.nextInt(board.getSize()));
+                } while (!board.isPassable(cell) || board.hasHero(cell));
+                board.addHero(hero, cell);
+            }
+            for (int row = 0; row < board.getSize() - 1; row++) {
+                for (int col = 0; col < board.getSize(); col++) {
+                    Position cell = Position.of(row, col);
+                    if (board.isPassable(cell) && random.nextInt(3) == 0) {
+                        board.addMonster(new Spirit("M" + row + "." + col, 1, 60, 100, 10), cell);
+                    }
+                }
+            }
+            LegendsBoard twin = board.copy();
+            MonsterAI batched = new MonsterAI(new HeroController(), new Random(seed));
+            MonsterAI single = new MonsterAI(new HeroController(), new Random(seed));
+            for (int round = 0; round < 6; round++) {
+                List<String> batchedLogs = batched.performRound(board);
+                List<String> singleLogs = new ArrayList<>();
+                for (int lane = 0; lane < twin.getLaneCount(); lane++) {
+                    for (Monster monster : twin.monstersInLane(lane)) {
+                        String action = single.takeTurn(twin, monster);
+                        if (action != null && !action.isEmpty()) {
+                            singleLogs.add(action);
+                        }
+                    }
+                }
+                String expected = renderer.renderToString(twin)
+                    + describe(twin, new ArrayList<>(twin.getHeroPositions().keySet()), new ArrayList<>(twin.getMonsterPositions().keySet()));
+                String actual = renderer.renderToString(board)
+                    + describe(board, new ArrayList<>(board.getHeroPositions().keySet()), new ArrayList<>(board.getMonsterPositions().keySet()));
+                if (!batchedLogs.equals(singleLogs) || !expected.equals(actual)) {
+                    turnFailures++;
+                }
+            }
+        }
+        System.out.print("Test 8 (Batched lane turns):           ");
+        assertResult(0, turnFailures);
+
+        // ---------------------------------------------------------------
+        // TEST CASE 9: Lane-parallel monster phase is thread-count independent
+        // ---------------------------------------------------------------
+        // Rule: with one split random stream per lane, running the lanes inline or on any
+        // number of threads yields the same board, logs and journal.
+        int parallelFailures = 0;
+        ForkJoinPool[] pools = {null, new ForkJoinPool(2), new ForkJoinPool(4)};
+        for (long seed = 1; seed <= 10; seed++) {
+            LegendsBoard start = new LegendsBoard(new BoardSpec(8, LegendsConfig.LANE_WIDTH), seed);
+            List<Hero> heroes = new ArrayList<>();
+            for (int i = 0; i < 2 * start.getLaneCount(); i++) {
+                heroes.add(new Warrior("H" + i, 100, 100, 100, 100, 0, 0));
+            }
+            start.registerHeroes(heroes);
+            for (Hero hero : heroes) {
+                Position cell;
+                do {
+                    cell = Position.of(1 + random.nextInt(start.getSize() - 2), random.nextInt(start.getSize()));
+                } while (!start.isPassable(cell) || start.hasHero(cell));
+                start.addHero(hero, cell);
+            }
+            for (int row = 0; row < start.getSize() - 1; row++) {
+                for (int col = 0; col < start.getSize(); col++) {
+                    Position cell = Position.of(row, col);
+                    if (start.isPassable(cell) && random.nextInt(3) == 0) {
+                        start.addMonster(new Spirit("M" + row + "." + col, 1, 60, 100, 10), cell);
+                    }
+                }
+            }
+            String reference = null;
+            for (ForkJoinPool pool : pools) {
+                LegendsBoard board = start.copy();
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                MatchJournal journal = new MatchJournal(bytes, start.getSpec(), seed);
+                MonsterAI laneAI = new MonsterAI(new HeroController(), new SplittableRandom(seed), pool);
+                laneAI.setListener(journal);
+                List<String> logs = new ArrayList<>();
+                for (int round = 1; round <= 8; round++) {
+                    journal.roundStarted(round);
+                    laneAI.performRound(board, logs);
+                }
+                try {
+                    journal.close();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                String outcome = logs + renderer.renderToString(board)
+                    + describe(board, new ArrayList<>(board.getHeroPositions().keySet()), new ArrayList<>(board.getMonsterPositions().keySet()))
+                    + Arrays.toString(bytes.toByteArray());
+                if (reference == null) {
+                    reference = outcome;
+                } else if (!reference.equals(outcome)) {
+                    parallelFailures++;
+                }
+            }
+        }
+        for (ForkJoinPool pool : pools) {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+        System.out.print("Test 9 (Lane-parallel monster phase):  ");
+        assertResult(0, parallelFailures);
+
+        // ---------------------------------------------------------------
+        // TEST CASE 10: Flow field distances and routing around obstacles
+        // ---------------------------------------------------------------
+        // Rule: the incrementally maintained field always equals a fresh search from the hero
+        // nexus, and a monster blocked straight ahead steps sideways onto a shorter path.
+        int flowFailures = 0;
+        int detours = 0;
+        for (long seed = 1; seed <= 30; seed++) {
+            LegendsBoard board = new LegendsBoard(new BoardSpec(4, 3), seed);
+            int size = board.getSize();
+            BoardSnapshot pristine = board.snapshot();
+            for (int step = 0; step < 3 * size; step++) {
+                if (!Arrays.equals(referenceDistances(board), fieldDistances(board))) {
+                    flowFailures++;
+                }
+                board.clearObstacle(Position.of(1 + random.nextInt(size - 2), random.nextInt(size)));
+            }
+            board.restore(pristine);
+            if (!Arrays.equals(referenceDistances(board), fieldDistances(board))) {
+                flowFailures++;
+            }
+            for (int row = 1; row < size - 2; row++) {
+                for (int col = 0; col < size; col++) {
+                    Position cell = Position.of(row, col);
+                    int distance = board.distanceToHeroNexus(cell);
+                    if (distance < 0 || board.isPassable(Position.of(row + 1, col))) {
+                        continue;
+                    }
+                    Monster monster = new Spirit("Probe", 1, 60, 100, 10);
+                    board.addMonster(monster, cell);
+                    new MonsterAI(new HeroController(), new Random(seed)).takeTurn(board, monster);
+                    Position moved = board.getMonsterPositions().get(monster);
+                    if (moved.equals(cell) || board.distanceToHeroNexus(moved) != distance - 1) {
+                        flowFailures++;
+                    }
+                    detours++;
+                    board.removeMonster(monster);
+                }
+            }
+        }
+        System.out.print("Test 10 (Flow field routing):          ");
+        assertResult(0, flowFailures + (detours == 0 ? 1 : 0));
+
+        // ---------------------------------------------------------------
+        // TEST CASE 11: Incremental Zobrist key
+        // ---------------------------------------------------------------
+        // Rule: the key kept up to date by moves, removals, clears and damage equals the key of
+        // a freshly hashed copy, comes back with a restore and with undoing a move.
+        int hashFailures = 0;
+        for (long seed = 1; seed <= 20; seed++) {
+            LegendsBoard board = new LegendsBoard(seed);
+            int size = board.getSize();
+            List<Hero> heroes = new ArrayList<>();
+            for (int i = 0; i < board.getLaneCount(); i++) {
+                heroes.add(new Warrior("H" + i, 100, 100, 100, 100, 0, 0));
+            }
+            board.registerHeroes(heroes);
+            for (int lane = 0; lane < heroes.size(); lane++) {
+                board.addHero(heroes.get(lane), board.getHeroNexusEntry(lane));
+            }
+            BoardSnapshot start = board.snapshot();
+            long startKey = board.getZobristKey();
+            MonsterAI monsterAI = new MonsterAI(new HeroController(), new Random(seed));
+            List<Monster> monsters = new ArrayList<>();
+            for (int step = 0; step < 150; step++) {
+                int roll = random.nextInt(10);
+                Hero hero = heroes.get(random.nextInt(heroes.size()));
+                if (roll < 3 && board.getHeroPositions().containsKey(hero)) {
+                    long before = board.getZobristKey();
+                    Direction direction = Direction.values()[random.nextInt(4)];
+                    if (board.moveHero(hero, direction)) {
+                        Direction back = Direction.values()[direction.ordinal() ^ 1];
+                        if (board.getZobristKey() == before || !board.moveHero(hero, back)
+                            || board.getZobristKey() != before) {
+                            hashFailures++;
+                        }
+                        board.moveHero(hero, direction);
+                    }
+                } else if (roll < 5) {
+                    Position slot = board.findMonsterSpawnSlot(random.nextInt(board.getLaneCount()));
+                    if (slot != null) {
+                        Monster monster = new Spirit("M" + step, 1, 60, 100, 10);
+                        board.addMonster(monster, slot);
+                        monsters.add(monster);
+                    }
+                } else if (roll < 6 && !monsters.isEmpty()) {
+                    board.removeMonster(monsters.remove(random.nextInt(monsters.size())));
+                } else if (roll < 7) {
+                    board.clearObstacle(Position.of(1 + random.nextInt(size - 2), random.nextInt(size)));
+                } else {
+                    monsterAI.performRound(board, null);
+                }
+                if (board.getZobristKey() != board.copy().getZobristKey()) {
+                    hashFailures++;
+                }
+            }
+            board.restore(start);
+            if (board.getZobristKey() != startKey) {
+                hashFailures++;
+            }
+        }
+        // Same cell, same HP, but a different monster: the keys must differ unless the monster
+        // is an identical copy with the same id.
+        Monster[] occupants = {
+            new Spirit("Casper", 1, 60, 100, 10),
+            new Spirit("Casper", 1, 60, 100, 10),
+            new Spirit("Casper", 1, 90, 100, 10),
+            new Spirit("Casper", 1, 60, 140, 10),
+            new Spirit("Wraith", 1, 60, 100, 10)
+        };
+        long[] occupantKeys = new long[occupants.length];
+        for (int i = 0; i < occupants.length; i++) {
+            LegendsBoard board = new LegendsBoard(7);
+            board.addMonster(occupants[i], board.getMonsterNexusEntry(0));
+            occupantKeys[i] = board.getZobristKey();
+        }
+        if (occupantKeys[0] != occupantKeys[1]) {
+            hashFailures++;
+        }
+        for (int i = 2; i < occupants.length; i++) {
+            if (occupantKeys[i] == occupantKeys[0]) {
+                hashFailures++;
+            }
+        }
+        LegendsBoard idBoard = new LegendsBoard(7);
+        Monster first = new Spirit("Casper", 1, 60, 100, 10);
+        idBoard.addMonster(first, idBoard.getMonsterNexusEntry(0));
+        idBoard.removeMonster(first);
+        idBoard.addMonster(occupants[0], idBoard.getMonsterNexusEntry(0));
+        if (idBoard.getZobristKey() == occupantKeys[0] || idBoard.getZobristKey() != idBoard.copy().getZobristKey()) {
+            hashFailures++;
+        }
+        Monster weakened = occupants[0].copy();
+        idBoard.removeMonster(occupants[0]);
+        idBoard.addMonster(weakened, idBoard.getMonsterNexusEntry(0));
+        long beforeDebuff = idBoard.getZobristKey();
+        weakened.setDefense(weakened.getDefense() * 0.5);
+        idBoard.refreshHealth(weakened);
+        if (idBoard.getZobristKey() == beforeDebuff || idBoard.getZobristKey() != idBoard.copy().getZobristKey()) {
+            hashFailures++;
+        }
+        System.out.print("Test 11 (Incremental Zobrist key):     ");
+        assertResult(0, hashFailures);
+
+        // ---------------------------------------------------------------
+        // TEST CASE 12: Shared transposition table
+        // ---------------------------------------------------------------
+        // Rule: threads hammering a small table only ever read back a value that was stored
+        // under the key asked for, or a miss; empty slots miss for every key.
+        TranspositionTable table = new TranspositionTable(64);
+        int[] wrongReads = new int[1];
+        ForkJoinPool tablePool = new ForkJoinPool(4);
+        for (int worker = 0; worker < 4; worker++) {
+            long workerSeed = worker;
+            tablePool.execute(() -> {
+                SplittableRandom keys = new SplittableRandom(workerSeed);
+                for (int i = 0; i < 200_000; i++) {
+                    long key = keys.nextLong(1000);
+                    long value = table.get(key, -1);
+                    if (value != -1 && value != key * 31 + 7) {
+                        synchronized (wrongReads) {
+                            wrongReads[0]++;
+                        }
+                    }
+                    table.put(key, key * 31 + 7);
+                }
+            });
+        }
+        tablePool.shutdown();
+        try {
+            tablePool.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        System.out.print("Test 12 (Shared transposition table):  ");
+        TranspositionTable empty = new TranspositionTable(2);
+        assertResult(0, wrongReads[0] + (empty.get(0, -1) == -1 && empty.get(1, -1) == -1 ? 0 : 1));
+
+        // ---------------------------------------------------------------
+        // TEST CASE 13: Resetting a board
+        // ---------------------------------------------------------------
+        // Rule: a played board reset with a seed is indistinguishable from a new board built
+        // with that seed, its heroes lose their terrain modifiers, and older snapshots are refused.
+        int resetFailures = 0;
+        BoardSpec[] resetSpecs = {BoardSpec.DEFAULT, new BoardSpec(5, 3), new BoardSpec(5, 2).withConnectedLanes()};
+        for (BoardSpec spec : resetSpecs) {
+            LegendsBoard board = new LegendsBoard(spec, 1);
+            for (long seed = 2; seed <= 12; seed++) {
+                List<Hero> heroes = new ArrayList<>();
+                for (int i = 0; i < board.getLaneCount(); i++) {
+                    heroes.add(new Warrior("H" + i, 100, 100, 100, 100, 0, 0));
+                }
+                board.registerHeroes(heroes);
+                for (int lane = 0; lane < heroes.size(); lane++) {
+                    board.addHero(heroes.get(lane), board.getHeroNexusEntry(lane));
+                }
+                BoardSnapshot stale = board.snapshot();
+                MonsterAI monsterAI = new MonsterAI(new HeroController(), new Random(seed));
+                for (int step = 0; step < 40; step++) {
+                    Hero hero = heroes.get(random.nextInt(heroes.size()));
+                    if (board.getHeroPositions().containsKey(hero)) {
+                        board.moveHero(hero, Direction.values()[random.nextInt(4)]);
+                    }
+                    Position slot = board.findMonsterSpawnSlot(random.nextInt(board.getLaneCount()));
+                    if (slot != null) {
+                        board.addMonster(new Spirit("M" + step, 1, 60, 100, 10), slot);
+                    }
+                    board.clearObstacle(Position.of(1 + random.nextInt(spec.getSize() - 2), random.nextInt(spec.getSize())));
+                    monsterAI.performRound(board, null);
+                }
+
+                board.reset(seed);
+                LegendsBoard fresh = new LegendsBoard(spec, seed);
+                if (!new LegendsBoardRenderer().renderToString(board).equals(new LegendsBoardRenderer().renderToString(fresh))
+                    || board.getZobristKey() != fresh.getZobristKey()
+                    || !Arrays.equals(fieldDistances(board), fieldDistances(fresh))
+                    || !board.getHeroPositions().isEmpty() || !board.getMonsterPositions().isEmpty()
+                    || !matchesTileScan(board)) {
+                    resetFailures++;
+                }
+                for (Hero hero : heroes) {
+                    if (hero.getEffectiveStrength() != hero.getStrength()
+                        || hero.getEffectiveDexterity() != hero.getDexterity()
+                        || hero.getEffectiveAgility() != hero.getAgility()) {
+                        resetFailures++;
+                    }
+                }
+                try {
+                    board.restore(stale);
+                    resetFailures++;
+                } catch (IllegalArgumentException expected) {
+                    // snapshot predates the reset
+                }
+            }
+        }
+        System.out.print("Test 13 (Resetting a board):           ");
+        assertResult(0, resetFailures);
+
+        // ---------------------------------------------------------------
+        // TEST CASE 14: Connected lane generation
+        // ---------------------------------------------------------------
+        // Rule: with connected lanes every lane's monster nexus reaches its hero nexus. Lanes the
+        // unchecked spec already connects are dealt identically; re-dealt lanes keep their terrain
+        // counts except for obstacles turned plain, and their flow fields match a fresh search.
+        int connectFailures = 0;
+        int redealtLanes = 0;
+        BoardSpec[] connectSpecs = {BoardSpec.DEFAULT, new BoardSpec(5, 3), new BoardSpec(4, 1), BoardSpec.fitting(64, 2)};
+        for (BoardSpec spec : connectSpecs) {
+            for (long seed = 1; seed <= 40; seed++) {
+                LegendsBoard unchecked = new LegendsBoard(spec, seed);
+                LegendsBoard board = new LegendsBoard(spec.withConnectedLanes(), seed);
+                for (int lane = 0; lane < spec.getLaneCount(); lane++) {
+                    String before = laneTerrain(unchecked, lane);
+                    String after = laneTerrain(board, lane);
+                    if (!laneConnected(board, lane)) {
+                        connectFailures++;
+                    }
+                    if (laneConnected(unchecked, lane)) {
+                        connectFailures += before.equals(after) ? 0 : 1;
+                        continue;
+                    }
+                    redealtLanes++;
+                    char obstacle = TerrainType.OBSTACLE.getSymbol();
+                    char plain = TerrainType.PLAIN.getSymbol();
+                    int turnedPlain = count(before, obstacle) - count(after, obstacle);
+                    if (turnedPlain < 0 || count(after, plain) != count(before, plain) + turnedPlain) {
+                        connectFailures++;
+                    }
+                    for (char symbol : after.toCharArray()) {
+                        if (symbol != obstacle && symbol != plain && count(after, symbol) != count(before, symbol)) {
+                            connectFailures++;
+                        }
+                    }
+                }
+                if (!Arrays.equals(fieldDistances(board), referenceDistances(board))) {
+                    connectFailures++;
+                }
+            }
+        }
+        System.out.print("Test 14 (Connected lane generation):   ");
+        assertResult(0, connectFailures + (redealtLanes == 0 ? 1 : 0));
+
+        // ---------------------------------------------------------------
+        // TEST CASE 15: Large boards hand out canonical positions
+        // ---------------------------------------------------------------
+        // Rule: on a board wider than the default, cell lookups, neighbours, nexus entries and
+        // moves all return the board's shared instances, equal by value to Position.of.
+        int positionFailures = 0;
+        LegendsBoard wide = new LegendsBoard(BoardSpec.fitting(64, LegendsConfig.LANE_WIDTH), 3);
+        LegendsBoard twin = new LegendsBoard(wide.getSpec(), 4);
+        int wideSize = wide.getSize();
+        for (int row = -1; row <= wideSize; row++) {
+            for (int col = -1; col <= wideSize; col++) {
+                Position cell = wide.positionAt(row, col);
+                if (!cell.equals(Position.of(row, col)) || cell != twin.positionAt(row, col)) {
+                    positionFailures++;
+                }
+                for (Direction direction : Direction.values()) {
+                    if (wide.isInside(cell) && wide.neighbour(cell, direction)
+                        != wide.positionAt(row + direction.deltaRow(), col + direction.deltaCol())) {
+                        positionFailures++;
+                    }
+                }
+            }
+        }
+        Hero walker = new Warrior("Walker", 100, 100, 100, 100, 0, 0);
+        wide.registerHeroes(List.of(walker));
+        Position entry = wide.getHeroNexusEntry(wide.getLaneCount() - 1);
+        if (entry != wide.positionAt(entry.getRow(), entry.getCol())) {
+            positionFailures++;
+        }
+        wide.addHero(walker, entry);
+        for (Direction direction : Direction.values()) {
+            Position before = wide.getHeroPositions().get(walker);
+            boolean moved = wide.moveHero(walker, direction);
+            if (moved && wide.getHeroPositions().get(walker) != wide.neighbour(before, direction)) {
+                positionFailures++;
+            }
+        }
+        System.out.print("Test 15 (Large board positions):       ");
+        assertResult(0, positionFailures);
+
+        // ---------------------------------------------------------------
+        // TEST CASE 16: Lane order decides ties, not placement order
+        // ---------------------------------------------------------------
+        // Rule: heroes in range are reported in row-major order, so a monster facing equally
+        // weak heroes attacks the upper-left one even if it was placed last; monsters act from
+        // the hero nexus side, right to left within a row. Copies and restores keep that order.
+        int orderFailures = 0;
+        for (long seed = 1; seed <= 20; seed++) {
+            LegendsBoard board = new LegendsBoard(seed);
+            int left = board.getMonsterNexusEntry(0).getCol();
+            Position lower = Position.of(4, left + 1);
+            Position upper = Position.of(3, left);
+            Position attacker = Position.of(3, left + 1);
+            Position besideLeft = Position.of(2, left);
+            Position besideRight = Position.of(2, left + 1);
+            for (Position cell : List.of(lower, upper, attacker, besideLeft, besideRight)) {
+                if (board.hasTerrain(cell, TerrainType.OBSTACLE)) {
+                    board.clearObstacle(cell);
+                }
+            }
+            Hero placedFirst = new Warrior("First", 100, 100, 0, 100, 0, 0);
+            Hero placedLast = new Warrior("Second", 100, 100, 0, 100, 0, 0);
+            placedFirst.setHp(5_000);
+            placedLast.setHp(5_000);
+            board.registerHeroes(List.of(placedFirst, placedLast));
+            board.addHero(placedFirst, lower);
+            board.addHero(placedLast, upper);
+            Monster leftMonster = new Spirit("Left", 1, 100, 100, 10);
+            Monster rightMonster = new Spirit("Right", 1, 100, 100, 10);
+            board.addMonster(leftMonster, besideLeft);
+            board.addMonster(rightMonster, besideRight);
+            if (!board.heroesInRange(attacker, 1).equals(List.of(placedLast, placedFirst))
+                    || !board.monstersInLane(0).equals(List.of(rightMonster, leftMonster))) {
+                orderFailures++;
+            }
+            LegendsBoard copied = board.copy();
+            List<String> copiedMonsters = new ArrayList<>();
+            for (Monster monster : copied.monstersInLane(0)) {
+                copiedMonsters.add(monster.getName());
+            }
+            List<String> copiedHeroes = new ArrayList<>();
+            for (Hero hero : copied.heroesInRange(attacker, 1)) {
+                copiedHeroes.add(hero.getName());
+            }
+            if (!copiedMonsters.equals(List.of("Right", "Left"))
+                    || !copiedHeroes.equals(List.of("Second", "First"))) {
+                orderFailures++;
+            }
+            BoardSnapshot placed = board.snapshot();
+            board.removeMonster(leftMonster);
+            board.removeMonster(rightMonster);
+            board.addMonster(rightMonster, besideLeft);
+            board.restore(placed);
+            if (!board.monstersInLane(0).equals(List.of(rightMonster, leftMonster))) {
+                orderFailures++;
+            }
+
+            // Only the monster beside both heroes can reach them; it picks the upper-left one
+            board.removeMonster(leftMonster);
+            board.removeMonster(rightMonster);
+            board.addMonster(new Spirit("Striker", 1, 300, 100, 10), attacker);
+            new MonsterAI(new HeroController(), new Random(seed)).performRound(board, null);
+            if (placedLast.getHp() >= 5_000 || placedFirst.getHp() != 5_000) {
+                orderFailures++;
+            }
+        }
+        System.out.print("Test 16 (Lane order tie-breaks):       ");
+        assertResult(0, orderFailures);
+
+        System.out.println("--------------------------------------------------");
+        System.out.println("Tests Complete.");
+    }
+
+    private static String describe(LegendsBoard board, List<Hero> heroes, List<Monster> monsters) {
+        StringBuilder sb = new StringBuilder();
+        for (Hero hero : heroes) {
+            sb.append(hero.getName()).append(board.getHeroId(hero)).append(board.getHeroPositions().get(hero))
+                .append(hero.getHp()).append('/').append(hero.getEffectiveStrength()).append('/')
+                .append(hero.getEffectiveAgility()).append('/').append(hero.getEffectiveDexterity()).append('\n');
+        }
+        for (Monster monster : monsters) {
+            sb.append(monster.getName()).append(board.getMonsterId(monster)).append(board.getMonsterPositions().get(monster))
+                .append(monster.getHp()).append('/').append(monster.getDefense()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    // Terrain symbols of one lane between the nexus rows, row by row
+    private static String laneTerrain(LegendsBoard board, int lane) {
+        BoardSpec spec = board.getSpec();
+        StringBuilder sb = new StringBuilder();
+        for (int row = 1; row < board.getSize() - 1; row++) {
+            for (int slot = 0; slot < spec.getLaneWidth(); slot++) {
+                sb.append(board.getTile(Position.of(row, spec.laneColumn(lane, slot))).getTerrain().getSymbol());
+            }
+        }
+        return sb.toString();
+    }
+
+    private static int count(String symbols, char symbol) {
+        int count = 0;
+        for (int i = 0; i < symbols.length(); i++) {
+            if (symbols.charAt(i) == symbol) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean laneConnected(LegendsBoard board, int lane) {
+        for (int slot = 0; slot < board.getSpec().getLaneWidth(); slot++) {
+            if (board.distanceToHeroNexus(Position.of(0, board.getSpec().laneColumn(lane, slot))) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] fieldDistances(LegendsBoard board) {
+        int size = board.getSize();
+        int[] distances = new int[size * size];
+        for (int cell = 0; cell < distances.length; cell++) {
+            distances[cell] = board.distanceToHeroNexus(Position.of(cell / size, cell % size));
+        }
+        return distances;
+    }
+
+    // Plain breadth-first search from the hero nexus row, inside each lane
+    private static int[] referenceDistances(LegendsBoard board) {
+        int size = board.getSize();
+        int[] distances = new int[size * size];
+        Arrays.fill(distances, -1);
+        List<Position> frontier = new ArrayList<>();
+        for (int col = 0; col < size; col++) {
+            Position cell = Position.of(size - 1, col);
+            if (board.laneIndex(cell) >= 0 && board.isPassable(cell)) {
+                distances[(size - 1) * size + col] = 0;
+                frontier.add(cell);
+            }
+        }
+        for (int distance = 1; !frontier.isEmpty(); distance++) {
+            List<Position> next = new ArrayList<>();
+            for (Position from : frontier) {
+                for (Direction direction : Direction.values()) {
+                    Position to = from.translate(direction.deltaRow(), direction.deltaCol());
+                    if (board.isPassable(to) && board.laneIndex(to) == board.laneIndex(from)
+                        && distances[to.getRow() * size + to.getCol()] < 0) {
+                        distances[to.getRow() * size + to.getCol()] = distance;
+                        next.add(to);
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return distances;
+    }
+
+    private static boolean matchesTileScan(LegendsBoard board) {
+        int size = board.getSize();
+        for (int lane = 0; lane < board.getLaneCount(); lane++) {
+            // Expected: every monster in the lane columns, bottom-right first
+            List<Monster> expected = new ArrayList<>();
+            for (int row = size - 1; row >= 0; row--) {
+                for (int col = size - 1; col >= 0; col--) {
+                    Position pos = Position.of(row, col);
+                    Monster monster = board.getTile(pos).getMonsterOccupant();
+                    if (monster != null && board.laneIndex(pos) == lane) {
+                        expected.add(monster);
+                    }
+                }
+            }
+            if (!expected.equals(board.monstersInLane(lane))) {
+                return false;
+            }
+        }
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                Position from = Position.of(row, col);
+                List<Hero> expected = new ArrayList<>();
+                for (int r = 0; r < size; r++) {
+                    for (int c = 0; c < size; c++) {
+                        Position pos = Position.of(r, c);
+                        Hero hero = board.getTile(pos).getHeroOccupant();
+                        if (hero != null && board.laneIndex(pos) == board.laneIndex(from) && board.laneIndex(from) >= 0
+                            && Math.abs(r - row) + Math.abs(c - col) <= LegendsConfig.MONSTER_ATTACK_RANGE) {
+                            expected.add(hero);
+                        }
+                    }
+                }
+                if (!expected.equals(board.heroesInRange(from, LegendsConfig.MONSTER_ATTACK_RANGE))) {
+                    return false;
+                }
+                boolean passable = board.getTile(from).isHeroPassable();
+                if (passable != board.isPassable(from)) {
+                    return false;
+                }
+                if (board.hasHero(from) != (board.getTile(from).getHeroOccupant() != null)
+                    || board.hasMonster(from) != (board.getTile(from).getMonsterOccupant() != null)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // Helper method to compare results and print PASS/FAIL
+    private static void assertResult(int expected, int actual) {
+        if (expected == actual) {
+            System.out.println("PASS [Expected: " + expected + " | Actual: " + actual + "]");
+        } else {
+            System.out.println("FAIL [Expected: " + expected + " | Actual: " + actual + "]");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+package test;
+
+import model.MonsterCatalog;
+import model.entity.Dragon;
+import model.entity.Monster;
+import model.entity.Spirit;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Driver for MonsterCatalog sampling, prototype copies and pooling.
+ */
+public class MonsterCatalogTest {
+
+    public static void main(String[] args) {
+        System.out.println("Starting Monster Catalog Tests...");
+        System.out.println("--------------------------------------------------");
+
+        List<Monster> templates = new ArrayList<>();
+        templates.add(new Dragon("Level2_A", 2, 200, 400, 20));
+        templates.add(new Dragon("Level2_B", 2, 300, 500, 30));
+        templates.add(new Spirit("Level2_C", 2, 250, 300, 40));
+        templates.add(new Spirit("Level5_A", 5, 500, 600, 50));
+        String before = templates.toString();
+        MonsterCatalog catalog = new MonsterCatalog(templates);
+
+        // Test 1: picks at one level are distinct and scaled, the template list is untouched
+        System.out.print("Test 1 (Distinct sample): ");
+        boolean ok = true;
+        Random random = new Random(7);
+        for (int i = 0; i < 1000 && ok; i++) {
+            List<Monster> picks = catalog.sample(2, 4, 3, random);
+            Set<String> names = new HashSet<>();
+            for (Monster m : picks) {
+                names.add(m.getName());
+                ok &= m.getLevel() == 4 && m.getName().startsWith("Level2");
+            }
+            ok &= names.size() == 3;
+        }
+        check(ok && templates.toString().equals(before));
+
+        // Test 2: a level without templates falls back to the whole catalog
+        System.out.print("Test 2 (Level fallback):  ");
+        check(catalog.sample(9, 9, 4, random).size() == 4 && catalog.countAtLevel(9) == 0
+                && catalog.countAtLevel(2) == 3 && catalog.countOfType(Spirit.class) == 2);
+
+        // Test 3: spawned monsters are copies of the template's class
+        System.out.print("Test 3 (Prototype copy):  ");
+        Monster spawned = catalog.spawnOfType(Spirit.class, 3, random);
+        check(spawned instanceof Spirit && spawned != templates.get(2) && spawned.getLevel() == 3);
+
+        // Test 4: a pooling catalog reuses released monsters and resets their state
+        System.out.print("Test 4 (Pool reuse):      ");
+        MonsterCatalog pooled = new MonsterCatalog(templates, true);
+        Monster first = pooled.spawn(templates.get(0), 3);
+        first.takeDamage(10_000);
+        pooled.release(first);
+        Monster second = pooled.spawn(templates.get(1), 3);
+        Monster fresh = templates.get(1).copy();
+        fresh.scaleStats(3);
+        check(second == first && !second.isFainted() && second.getName().equals("Level2_B")
+                && second.getBaseDamage() == fresh.getBaseDamage() && second.getHp() == fresh.getHp());
+
+        System.out.println("--------------------------------------------------");
+        System.out.println("Tests Complete.");
+    }
+
+    private static void check(boolean passed) {
+        System.out.println(passed ? "PASS" : "FAIL");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,394 @@
+package util;
+
+import model.entity.*;
+import model.item.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Immutable, validated snapshot of the twelve game-data files.
+ *
+ * The text files are parsed once and written to a binary cache ({@value #CACHE_FILE}) in the
+ * same directory. The cache starts with the size, modification time and CRC32 of every source
+ * file; later loads memory-map it and only fall back to parsing when a source file really
+ * changed. Within one JVM the last catalog is reused as long as the file stamps match.
+ *
+ * The catalog only holds raw rows; the {@code new...} methods build fresh entities and items
+ * on every call, so callers may mutate what they get.
+ */
+public final class GameDataCatalog {
+    public static final String CACHE_FILE = "gamedata.cache";
+    private static final int MAGIC = 0x484D4443; // "HMDC"
+    private static final int VERSION = 1;
+
+    /** Source files with their numeric column count; the name is always column 0. */
+    private enum Source {
+        WARRIORS("Warriors.txt", 6, false, 0),
+        SORCERERS("Sorcerers.txt", 6, false, 0),
+        PALADINS("Paladins.txt", 6, false, 0),
+        DRAGONS("Dragons.txt", 4, false, 0b1),
+        EXOSKELETONS("Exoskeletons.txt", 4, false, 0b1),
+        SPIRITS("Spirits.txt", 4, false, 0b1),
+        WEAPONS("Weaponry.txt", 4, false, 0b1010),
+        ARMOR("Armory.txt", 3, false, 0b10),
+        POTIONS("Potions.txt", 3, true, 0b10),
+        ICE_SPELLS("IceSpells.txt", 4, false, 0b10),
+        FIRE_SPELLS("FireSpells.txt", 4, false, 0b10),
+        LIGHTNING_SPELLS("LightningSpells.txt", 4, false, 0b10);
+
+        final String fileName;
+        final int numbers;
+        final boolean text;
+        final int intColumns; // bit i set: numeric column i must be a whole number
+
+        Source(String fileName, int numbers, boolean text, int intColumns) {
+            this.fileName = fileName;
+            this.numbers = numbers;
+            this.text = text;
+            this.intColumns = intColumns;
+        }
+    }
+
+    /** Rows of one file: names, optional trailing text column and a flat numeric matrix. */
+    private static final class Table {
+        final String[] names;
+        final String[] texts;
+        final double[] numbers;
+
+        Table(String[] names, String[] texts, double[] numbers) {
+            this.names = names;
+            this.texts = texts;
+            this.numbers = numbers;
+        }
+    }
+
+    /** Size, modification time and content checksum of one source file. */
+    private static final class Stamp {
+        final long size;
+        final long modified;
+        final long crc;
+
+        Stamp(long size, long modified, long crc) {
+            this.size = size;
+            this.modified = modified;
+            this.crc = crc;
+        }
+    }
+
+    private static GameDataCatalog lastLoaded;
+
+    private final Path directory;
+    private final Map<Source, Table> tables;
+    private final Map<Source, Stamp> stamps;
+    private boolean restamped; // cache accepted by checksum after a touch; its mtimes are outdated
+
+    private GameDataCatalog(Path directory, Map<Source, Table> tables, Map<Source, Stamp> stamps) {
+        this.directory = directory;
+        this.tables = tables;
+        this.stamps = stamps;
+    }
+
+    /**
+     * Loads the catalog from the working directory, where the game expects its data files.
+     */
+    public static GameDataCatalog load() throws IOException {
+        return load(Paths.get(""));
+    }
+
+    /**
+     * @throws IOException if a data file is missing, unreadable or malformed
+     */
+    public static synchronized GameDataCatalog load(Path directory) throws IOException {
+        Path dir = directory.toAbsolutePath().normalize();
+        Map<Source, BasicFileAttributes> attributes = new EnumMap<>(Source.class);
+        for (Source source : Source.values()) {
+            attributes.put(source, Files.readAttributes(dir.resolve(source.fileName), BasicFileAttributes.class));
+        }
+        if (lastLoaded != null && lastLoaded.directory.equals(dir) && sameFiles(lastLoaded.stamps, attributes)) {
+            return lastLoaded;
+        }
+
+        Path cache = dir.resolve(CACHE_FILE);
+        GameDataCatalog catalog = readCache(dir, cache, attributes);
+        if (catalog == null || catalog.restamped) {
+            if (catalog == null) catalog = parseSources(dir, attributes);
+            try {
+                writeCache(catalog, cache);
+            } catch (IOException e) {
+                // Read-only install: the catalog still works, later starts just parse again.
+            }
+        }
+        lastLoaded = catalog;
+        return catalog;
+    }
+
+    // --- FRESH GAME OBJECTS ---
+
+    /** Warriors, Sorcerers, then Paladins, in file order. */
+    public List<Hero> newHeroes() {
+        List<Hero> heroes = new ArrayList<>();
+        for (Source source : new Source[] {Source.WARRIORS, Source.SORCERERS, Source.PALADINS}) {
+            Table t = tables.get(source);
+            for (int r = 0; r < t.names.length; r++) {
+                double[] n = t.numbers;
+                int o = r * source.numbers;
+                if (source == Source.WARRIORS) heroes.add(new Warrior(t.names[r], n[o], n[o + 1], n[o + 2], n[o + 3], n[o + 4], n[o + 5]));
+                else if (source == Source.SORCERERS) heroes.add(new Sorcerer(t.names[r], n[o], n[o + 1], n[o + 2], n[o + 3], n[o + 4], n[o + 5]));
+                else heroes.add(new Paladin(t.names[r], n[o], n[o + 1], n[o + 2], n[o + 3], n[o + 4], n[o + 5]));
+            }
+        }
+        return heroes;
+    }
+
+    /** Dragons, Exoskeletons, then Spirits, in file order. */
+    public List<Monster> newMonsters() {
+        List<Monster> monsters = new ArrayList<>();
+        for (Source source : new Source[] {Source.DRAGONS, Source.EXOSKELETONS, Source.SPIRITS}) {
+            Table t = tables.get(source);
+            for (int r = 0; r < t.names.length; r++) {
+                double[] n = t.numbers;
+                int o = r * source.numbers;
+                if (source == Source.DRAGONS) monsters.add(new Dragon(t.names[r], (int) n[o], n[o + 1], n[o + 2], n[o + 3]));
+                else if (source == Source.EXOSKELETONS) monsters.add(new Exoskeleton(t.names[r], (int) n[o], n[o + 1], n[o + 2], n[o + 3]));
+                else monsters.add(new Spirit(t.names[r], (int) n[o], n[o + 1], n[o + 2], n[o + 3]));
+            }
+        }
+        return monsters;
+    }
+
+    /** Weapons, armor, potions, then ice, fire and lightning spells. */
+    public List<Item> newItems() {
+        List<Item> items = new ArrayList<>();
+        Table t = tables.get(Source.WEAPONS);
+        for (int r = 0, o = 0; r < t.names.length; r++, o += Source.WEAPONS.numbers) {
+            items.add(new Weapon(t.names[r], t.numbers[o], (int) t.numbers[o + 1], t.numbers[o + 2], (int) t.numbers[o + 3]));
+        }
+        t = tables.get(Source.ARMOR);
+        for (int r = 0, o = 0; r < t.names.length; r++, o += Source.ARMOR.numbers) {
+            items.add(new Armor(t.names[r], t.numbers[o], (int) t.numbers[o + 1], t.numbers[o + 2]));
+        }
+        t = tables.get(Source.POTIONS);
+        for (int r = 0, o = 0; r < t.names.length; r++, o += Source.POTIONS.numbers) {
+            items.add(new Potion(t.names[r], t.numbers[o], (int) t.numbers[o + 1], t.numbers[o + 2], t.texts[r]));
+        }
+        addSpells(items, Source.ICE_SPELLS, Spell.SpellType.ICE);
+        addSpells(items, Source.FIRE_SPELLS, Spell.SpellType.FIRE);
+        addSpells(items, Source.LIGHTNING_SPELLS, Spell.SpellType.LIGHTNING);
+        return items;
+    }
+
+    private void addSpells(List<Item> items, Source source, Spell.SpellType type) {
+        Table t = tables.get(source);
+        for (int r = 0, o = 0; r < t.names.length; r++, o += source.numbers) {
+            items.add(new Spell(t.names[r], t.numbers[o], (int) t.numbers[o + 1], t.numbers[o + 2], t.numbers[o + 3], type));
+        }
+    }
+
+    // --- TEXT PARSING ---
+
+    private static GameDataCatalog parseSources(Path dir, Map<Source, BasicFileAttributes> attributes) throws IOException {
+        Map<Source, Table> tables = new EnumMap<>(Source.class);
+        Map<Source, Stamp> stamps = new EnumMap<>(Source.class);
+        for (Source source : Source.values()) {
+            byte[] bytes = Files.readAllBytes(dir.resolve(source.fileName));
+            tables.put(source, parseTable(source, new String(bytes, StandardCharsets.UTF_8)));
+            BasicFileAttributes a = attributes.get(source);
+            stamps.put(source, new Stamp(a.size(), a.lastModifiedTime().toMillis(), crc(bytes)));
+        }
+        return new GameDataCatalog(dir, tables, stamps);
+    }
+
+    /**
+     * Same layout rules as {@link GameDataParser}: a header line, then one whitespace-separated
+     * row per line; blank lines are skipped. Rows with missing or invalid columns are rejected.
+     */
+    private static Table parseTable(Source source, String content) throws IOException {
+        List<String> names = new ArrayList<>();
+        List<String> texts = new ArrayList<>();
+        double[] numbers = new double[16 * source.numbers];
+        int columns = 1 + source.numbers + (source.text ? 1 : 0);
+        String[] tokens = new String[columns];
+
+        int lineNo = 0;
+        int pos = 0;
+        while (pos < content.length()) {
+            int end = content.indexOf('\n', pos);
+            if (end < 0) end = content.length();
+            lineNo++;
+            int count = tokenize(content, pos, end, tokens);
+            pos = end + 1;
+            if (lineNo == 1 || count == 0) continue; // header, blank line
+
+            String where = source.fileName + ":" + lineNo;
+            if (count < columns) throw new IOException(where + ": expected " + columns + " columns, found " + count);
+            int row = names.size();
+            if ((row + 1) * source.numbers > numbers.length) numbers = Arrays.copyOf(numbers, numbers.length * 2);
+            for (int c = 0; c < source.numbers; c++) {
+                double value;
+                try {
+                    value = Double.parseDouble(tokens[c + 1]);
+                } catch (NumberFormatException e) {
+                    throw new IOException(where + ": '" + tokens[c + 1] + "' is not a number");
+                }
+                if (!(value >= 0) || Double.isInfinite(value)) throw new IOException(where + ": negative or invalid value " + value);
+                if ((source.intColumns & (1 << c)) != 0 && value != Math.rint(value)) {
+                    throw new IOException(where + ": '" + tokens[c + 1] + "' must be a whole number");
+                }
+                numbers[row * source.numbers + c] = value;
+            }
+            names.add(tokens[0]);
+            if (source.text) texts.add(tokens[columns - 1]);
+        }
+        return new Table(names.toArray(new String[0]), source.text ? texts.toArray(new String[0]) : null,
+                Arrays.copyOf(numbers, names.size() * source.numbers));
+    }
+
+    /**
+     * Splits {@code s[from, to)} on whitespace into at most {@code tokens.length} tokens.
+     *
+     * @return number of tokens found, which may exceed the array length
+     */
+    private static int tokenize(String s, int from, int to, String[] tokens) {
+        int count = 0;
+        int i = from;
+        while (true) {
+            while (i < to && Character.isWhitespace(s.charAt(i))) i++;
+            if (i >= to) return count;
+            int start = i;
+            while (i < to && !Character.isWhitespace(s.charAt(i))) i++;
+            if (count < tokens.length) tokens[count] = s.substring(start, i);
+            count++;
+        }
+    }
+
+    // --- BINARY CACHE ---
+    // Layout: MAGIC, VERSION, then per source: size, mtime, crc (longs); then per source:
+    // row count and rows of [name, text if any, doubles]. Strings are u2 length + UTF-8.
+
+    private static GameDataCatalog readCache(Path dir, Path cache, Map<Source, BasicFileAttributes> attributes) {
+        if (!Files.isRegularFile(cache)) return null;
+        try (FileChannel channel = FileChannel.open(cache, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) return null;
+
+            Map<Source, Stamp> stamps = new EnumMap<>(Source.class);
+            boolean restamped = false;
+            for (Source source : Source.values()) {
+                Stamp stamp = new Stamp(buffer.getLong(), buffer.getLong(), buffer.getLong());
+                BasicFileAttributes a = attributes.get(source);
+                if (stamp.size != a.size()) return null;
+                if (stamp.modified != a.lastModifiedTime().toMillis()) {
+                    // Touched (e.g. by a checkout) but maybe not changed: compare content.
+                    if (crc(Files.readAllBytes(dir.resolve(source.fileName))) != stamp.crc) return null;
+                    stamp = new Stamp(a.size(), a.lastModifiedTime().toMillis(), stamp.crc);
+                    restamped = true;
+                }
+                stamps.put(source, stamp);
+            }
+
+            Map<Source, Table> tables = new EnumMap<>(Source.class);
+            for (Source source : Source.values()) {
+                int rows = buffer.getInt();
+                if (rows < 0 || rows > buffer.remaining()) return null;
+                String[] names = new String[rows];
+                String[] texts = source.text ? new String[rows] : null;
+                double[] numbers = new double[rows * source.numbers];
+                for (int r = 0; r < rows; r++) {
+                    names[r] = readString(buffer);
+                    if (source.text) texts[r] = readString(buffer);
+                    for (int c = 0; c < source.numbers; c++) numbers[r * source.numbers + c] = buffer.getDouble();
+                }
+                tables.put(source, new Table(names, texts, numbers));
+            }
+            GameDataCatalog catalog = new GameDataCatalog(dir, tables, stamps);
+            catalog.restamped = restamped;
+            return catalog;
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            return null; // unreadable or truncated cache: rebuild it
+        }
+    }
+
+    private static void writeCache(GameDataCatalog catalog, Path cache) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            for (Source source : Source.values()) {
+                Stamp stamp = catalog.stamps.get(source);
+                out.writeLong(stamp.size);
+                out.writeLong(stamp.modified);
+                out.writeLong(stamp.crc);
+            }
+            for (Source source : Source.values()) {
+                Table t = catalog.tables.get(source);
+                out.writeInt(t.names.length);
+                for (int r = 0; r < t.names.length; r++) {
+                    writeString(out, t.names[r]);
+                    if (source.text) writeString(out, t.texts[r]);
+                    for (int c = 0; c < source.numbers; c++) out.writeDouble(t.numbers[r * source.numbers + c]);
+                }
+            }
+        }
+
+        // Write then rename, so a concurrent start never maps a half-written cache.
+        Path tmp = Files.createTempFile(cache.getParent(), CACHE_FILE, ".tmp");
+        try {
+            Files.write(tmp, bytes.toByteArray());
+            try {
+                Files.move(tmp, cache, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, cache, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+        if (utf8.length > 0xFFFF) throw new IOException("String too long for cache: " + s.substring(0, 32) + "...");
+        out.writeShort(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] utf8 = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static boolean sameFiles(Map<Source, Stamp> stamps, Map<Source, BasicFileAttributes> attributes) {
+        for (Source source : Source.values()) {
+            Stamp stamp = stamps.get(source);
+            BasicFileAttributes a = attributes.get(source);
+            if (stamp.size != a.size() || stamp.modified != a.lastModifiedTime().toMillis()) return false;
+        }
+        return true;
+    }
+
+    private static long crc(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package util;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Per-session source of randomness. One master seed is split, in a fixed order, into an
+ * independent {@link SplittableRandom} per named {@link Stream}, so a session replays exactly
+ * from its seed and drawing more from one stream (e.g. an extra battle) never shifts another
+ * (e.g. which items the markets stock).
+ *
+ * {@link #get(Stream)} hands out a {@link Random} view of a stream for the APIs that take one
+ * ({@code Collections.shuffle}, {@code MonsterCatalog}, {@code BattleEngine}). Unlike
+ * {@code Math.random()} and {@code java.util.Random} the views share no global or atomic
+ * state, so many sessions in one JVM never contend. An instance is not thread-safe; give each
+ * session (or worker) its own, or hand workers {@link #split(Stream)} children.
+ */
+public final class RngService {
+    /** The named sub-streams of a session. New names must be appended to keep old seeds stable. */
+    public enum Stream { COMBAT, LOOT, BOARD, MARKET, AI, AUTOPILOT, SPAWN }
+
+    private final long masterSeed;
+    private final Map<Stream, StreamRandom> streams = new EnumMap<>(Stream.class);
+
+    public RngService(long masterSeed) {
+        this.masterSeed = masterSeed;
+        SplittableRandom root = new SplittableRandom(masterSeed);
+        for (Stream stream : Stream.values()) {
+            streams.put(stream, new StreamRandom(root.split()));
+        }
+    }
+
+    /**
+     * Service with a fresh master seed; {@link #getMasterSeed()} reports it so the session can be replayed.
+     */
+    public static RngService unseeded() {
+        return new RngService(new SplittableRandom().nextLong());
+    }
+
+    public long getMasterSeed() {
+        return masterSeed;
+    }
+
+    /**
+     * The shared {@link Random} view of {@code stream}. Reseeding it restarts only that stream.
+     */
+    public Random get(Stream stream) {
+        return streams.get(Objects.requireNonNull(stream, "stream"));
+    }
+
+    /**
+     * A new generator split off {@code stream}, e.g. for a worker thread. Advances the stream.
+     */
+    public SplittableRandom split(Stream stream) {
+        return streams.get(Objects.requireNonNull(stream, "stream")).source.split();
+    }
+
+    /**
+     * {@code Random} backed by a {@link SplittableRandom}: every draw is delegated, so the
+     * inherited atomic seed is never touched.
+     */
+    private static final class StreamRandom extends Random {
+        private SplittableRandom source;
+
+        private StreamRandom(SplittableRandom source) {
+            super(0L);
+            this.source = source;
+        }
+
+        @Override
+        public void setSeed(long seed) {
+            // Also called by Random's constructor, before the source is assigned
+            source = new SplittableRandom(seed);
+        }
+
+        @Override
+        protected int next(int bits) {
+            return source.nextInt() >>> (32 - bits);
+        }
+
+        @Override
+        public int nextInt() { return source.nextInt(); }
+
+        @Override
+        public int nextInt(int bound) { return source.nextInt(bound); }
+
+        @Override
+        public long nextLong() { return source.nextLong(); }
+
+        @Override
+        public boolean nextBoolean() { return source.nextBoolean(); }
+
+        @Override
+        public double nextDouble() { return source.nextDouble(); }
+    }
+}
\ No newline at end of file